@@ -15,9 +15,18 @@ data:
   serviceaccount: {{ .serviceAccount | quote }}
   targetNamespaces: {{ .domainNamespaces | uniq | sortAlpha | join "," | quote }}
   dedicated: {{ .dedicated | quote }}
+  {{- if gt (int (.replicas | default 1)) 1 }}
+  leaderElection: "true"
+  {{- end }}
   {{- if .dns1123Fields }}
   dns1123Fields: {{ .dns1123Fields | quote }}
   {{- end }}
+  {{- if .introspectorWarmPod }}
+  introspectorWarmPod: "true"
+  {{- end }}
+  {{- if .serverSideApply }}
+  serverSideApply: "true"
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
@@ -14,7 +14,7 @@ spec:
   selector:
     matchLabels:
       weblogic.operatorName: {{ .Release.Namespace | quote }}
-  replicas: 1
+  replicas: {{ .replicas | default 1 }}
   template:
     metadata:
      labels:
@@ -41,6 +41,10 @@ spec:
           valueFrom:
             fieldRef:
               fieldPath: "metadata.namespace"
+        - name: "OPERATOR_POD_NAME"
+          valueFrom:
+            fieldRef:
+              fieldPath: "metadata.name"
         - name: "OPERATOR_VERBOSE"
           value: "false"
         - name: "JAVA_LOGGING_LEVEL"
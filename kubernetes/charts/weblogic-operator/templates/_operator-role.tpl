@@ -14,4 +14,7 @@ rules:
 - apiGroups: [""]
   resources: ["secrets", "configmaps", "events"]
   verbs: ["get", "list", "watch", "create", "update", "patch", "delete", "deletecollection"]
+- apiGroups: ["coordination.k8s.io"]
+  resources: ["leases"]
+  verbs: ["get", "create", "update"]
 {{- end }}
@@ -41,5 +41,8 @@
 {{- end -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "dedicated") -}}
 {{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "mockWLS") -}}
+{{- $ignore := include "utils.verifyOptionalInteger" (list $scope "replicas") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "introspectorWarmPod") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "serverSideApply") -}}
 {{- $ignore := include "utils.endValidation" $scope -}}
 {{- end -}}
@@ -201,6 +201,14 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
                                                         .fieldRef(
                                                             newObjectFieldSelector()
                                                                 .fieldPath("metadata.namespace"))))
+                                        .addEnvItem(
+                                            newEnvVar()
+                                                .name("OPERATOR_POD_NAME")
+                                                .valueFrom(
+                                                    newEnvVarSource()
+                                                        .fieldRef(
+                                                            newObjectFieldSelector()
+                                                                .fieldPath("metadata.name"))))
                                         .addEnvItem(
                                             newEnvVar().name("OPERATOR_VERBOSE").value("false"))
                                         .addEnvItem(
@@ -685,7 +693,12 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
                         "update",
                         "patch",
                         "delete",
-                        "deletecollection")));
+                        "deletecollection")))
+        .addRulesItem(
+            newPolicyRule()
+                .addApiGroupsItem("coordination.k8s.io")
+                .resources(asList("leases"))
+                .verbs(asList("get", "create", "update")));
   }
 
   @Test
@@ -30,4 +30,8 @@ public interface DomainProcessor {
   public void stopNamespace(String ns);
 
   public void reportSuspendedFibers();
+
+  public void makeRightAllDomains();
+
+  public void stopAllProcessing();
 }
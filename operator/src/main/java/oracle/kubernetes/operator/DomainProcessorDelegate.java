@@ -39,6 +39,14 @@ public interface DomainProcessorDelegate {
    */
   boolean isNamespaceRunning(String namespace);
 
+  /**
+   * Returns true if this operator is the one which should act on the domains. A standby operator
+   * only tracks them, so that it can take over quickly.
+   *
+   * @return true if this operator is the leader
+   */
+  boolean isLeader();
+
   /**
    * Returns the version of the Kubernetes environment in which the operator is running.
    *
@@ -14,6 +14,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ContainerState;
@@ -52,6 +53,7 @@ import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
@@ -108,6 +110,53 @@ public class DomainProcessorImpl implements DomainProcessor {
     if (map != null) {
       map.remove(domainUid);
     }
+    Tracer.getInstance().removeDomain(domainUid);
+  }
+
+  /**
+   * Runs make-right for every domain this operator is tracking. Called when a standby operator takes over,
+   * having kept its cache current, so that it need not read the domains again.
+   */
+  public void makeRightAllDomains() {
+    DOMAINS.forEach((ns, infos) -> infos.values().forEach(this::makeRightDomain));
+  }
+
+  /**
+   * Stops all processing of domains: cancels the status updaters and any running fibers. The known domains
+   * are kept, so that processing may be resumed by {@link #makeRightAllDomains()}.
+   */
+  public void stopAllProcessing() {
+    statusUpdaters.forEach((ns, updaters) -> updaters.keySet().forEach(uid -> unregisterStatusUpdater(ns, uid)));
+    makeRightFiberGates.values().forEach(FiberGate::cancelAllFibers);
+    statusFiberGates.values().forEach(FiberGate::cancelAllFibers);
+  }
+
+  private void makeRightDomain(DomainPresenceInfo info) {
+    try (LoggingContext ignored =
+             LoggingContext.setThreadContext().namespace(info.getNamespace()).domainUid(info.getDomainUid())) {
+      createMakeRightOperation(info).withExplicitRecheck().withDeleting(!info.isNotDeleting()).execute();
+    }
+  }
+
+  /**
+   * Returns the domains in the specified namespace, as last reported to this operator.
+   *
+   * @param ns a namespace
+   * @return a list of domains, or null if the operator is not yet tracking the namespace
+   */
+  public static List<Domain> getKnownDomains(String ns) {
+    return Optional.ofNullable(DOMAINS.get(ns))
+          .map(Map::values)
+          .map(DomainProcessorImpl::getLiveDomains)
+          .orElse(null);
+  }
+
+  private static List<Domain> getLiveDomains(Collection<DomainPresenceInfo> infos) {
+    return infos.stream()
+          .filter(DomainPresenceInfo::isNotDeleting)
+          .map(DomainPresenceInfo::getDomain)
+          .filter(Objects::nonNull)
+          .collect(Collectors.toList());
   }
 
   private static void registerStatusUpdater(
@@ -119,6 +168,10 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  private static boolean isStatusUpdaterRegistered(String ns, String domainUid) {
+    return Optional.ofNullable(statusUpdaters.get(ns)).map(m -> m.containsKey(domainUid)).orElse(false);
+  }
+
   private static void unregisterStatusUpdater(String ns, String domainUid) {
     Map<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
     if (map != null) {
@@ -257,6 +310,9 @@ public class DomainProcessorImpl implements DomainProcessor {
     if (LOGGER.isFineEnabled()) {
       BiConsumer<String, FiberGate> consumer =
           (namespace, gate) -> {
+            try (LoggingContext ignored = LoggingContext.setThreadContext().namespace(namespace)) {
+              reportStatistics(gate.getStatistics());
+            }
             gate.getCurrentFibers().forEach(
                 (key, fiber) -> {
                   Optional.ofNullable(fiber.getSuspendedStep()).ifPresent(suspendedStep -> {
@@ -272,6 +328,12 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  private void reportStatistics(FiberGate.Statistics statistics) {
+    LOGGER.fine(MessageKeys.FIBER_GATE_STATISTICS, statistics.getStarted(), statistics.getSuperseding(),
+          statistics.getRejected(), statistics.getContended(),
+          TimeUnit.NANOSECONDS.toMillis(statistics.getWaitNanos()));
+  }
+
   private String getDomainUid(Fiber fiber) {
     return Optional.ofNullable(fiber)
           .map(Fiber::getPacket)
@@ -348,6 +410,9 @@ public class DomainProcessorImpl implements DomainProcessor {
     switch (watchType) {
       case "ADDED":
       case "MODIFIED":
+        if (!delegate.isLeader()) {
+          break;
+        }
         PodWatcher.PodStatus podStatus = PodWatcher.getPodStatus(pod);
         new DomainStatusUpdate(pod, domainUid, delegate, info, podStatus).invoke();
         break;
@@ -399,7 +464,7 @@ public class DomainProcessorImpl implements DomainProcessor {
    */
   public void dispatchConfigMapWatch(Watch.Response<V1ConfigMap> item) {
     V1ConfigMap c = item.object;
-    if (c != null && c.getMetadata() != null) {
+    if (c != null && c.getMetadata() != null && delegate.isLeader()) {
       switch (item.type) {
         case "MODIFIED":
         case "DELETED":
@@ -470,16 +535,24 @@ public class DomainProcessorImpl implements DomainProcessor {
     createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().forDeletion().withExplicitRecheck().execute();
   }
 
+  // The tuning parameters are read on each run, so that changes to them take effect without a restart.
+  // If the status update interval has changed, the updater is rescheduled with the new interval instead.
   private void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
     final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
 
-    MainTuning main = TuningParameters.getInstance().getMainTuning();
+    long intervalSeconds = TuningParameters.getInstance().getMainTuning().initialShortDelay;
     registerStatusUpdater(
         info.getNamespace(),
         info.getDomainUid(),
         delegate.scheduleWithFixedDelay(
             () -> {
               try {
+                MainTuning main = TuningParameters.getInstance().getMainTuning();
+                if (main.initialShortDelay != intervalSeconds) {
+                  rescheduleDomainStatusUpdating(info);
+                  return;
+                }
+
                 V1SubjectRulesReviewStatus srrs =
                     delegate.getSubjectRulesReviewStatus(info.getNamespace());
                 Packet packet = new Packet();
@@ -526,11 +599,17 @@ public class DomainProcessorImpl implements DomainProcessor {
                 }
               }
             },
-            main.initialShortDelay,
-            main.initialShortDelay,
+            intervalSeconds,
+            intervalSeconds,
             TimeUnit.SECONDS));
   }
 
+  private void rescheduleDomainStatusUpdating(DomainPresenceInfo info) {
+    if (isStatusUpdaterRegistered(info.getNamespace(), info.getDomainUid())) {
+      scheduleDomainStatusUpdating(info);
+    }
+  }
+
   private void logThrowable(Throwable throwable) {
     if (throwable instanceof Step.MultiThrowable) {
       for (Throwable t : ((Step.MultiThrowable) throwable).getThrowables()) {
@@ -661,7 +740,9 @@ public class DomainProcessorImpl implements DomainProcessor {
       if (!delegate.isNamespaceRunning(getNamespace())) {
         return;
       }
-      if (isShouldContinue()) {
+      if (!delegate.isLeader()) {
+        recordForStandby();
+      } else if (isShouldContinue()) {
         internalMakeRightDomainPresence();
       } else {
         LOGGER.fine(MessageKeys.NOT_STARTING_DOMAINUID_THREAD, getDomainUid());
@@ -684,13 +765,31 @@ public class DomainProcessorImpl implements DomainProcessor {
         return true;
       } else if (isCachedInfoNewer(liveInfo, cachedInfo)) {
         return false;  // we have already cached this
-      } else if (explicitRecheck || isSpecChanged(liveInfo, cachedInfo)) {
+      } else if (explicitRecheck || isSpecChanged(cachedInfo)) {
         return true;
       }
       cachedInfo.setDomain(getDomain());
       return false;
     }
 
+    // A standby operator keeps its cache current without acting on the domain, so that it can take over quickly.
+    private void recordForStandby() {
+      DomainPresenceInfo cachedInfo = getExistingDomainPresenceInfo(getNamespace(), getDomainUid());
+      if (deleting) {
+        unregisterPresenceInfo(getNamespace(), getDomainUid());
+      } else if (cachedInfo == null) {
+        registerDomainPresenceInfo(liveInfo);
+      } else if (getDomain() != null && (cachedInfo.getDomain() == null || !isCachedInfoNewer(liveInfo, cachedInfo))) {
+        cachedInfo.setDomain(getDomain());
+      }
+    }
+
+    private boolean isSpecChanged(DomainPresenceInfo cachedInfo) {
+      return Optional.ofNullable(getDomain())
+            .map(domain -> DomainSpecChanges.compare(cachedInfo.getDomain(), domain).isChanged())
+            .orElse(true);
+    }
+
     private void internalMakeRightDomainPresence() {
       LOGGER.fine(MessageKeys.PROCESSING_DOMAIN, getDomainUid());
 
@@ -742,17 +841,6 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
-  private static boolean isSpecChanged(DomainPresenceInfo liveInfo, DomainPresenceInfo cachedInfo) {
-    // TODO, RJE: now that we are switching to updating domain status using the separate
-    // status-specific endpoint, Kubernetes guarantees that changes to the main endpoint
-    // will only be for metadata and spec, so we can know that we have an important
-    // change just by looking at metadata.generation.
-    return Optional.ofNullable(liveInfo.getDomain())
-          .map(Domain::getSpec)
-          .map(spec -> !spec.equals(cachedInfo.getDomain().getSpec()))
-          .orElse(true);
-  }
-
   private static boolean isCachedInfoNewer(DomainPresenceInfo liveInfo, DomainPresenceInfo cachedInfo) {
     return liveInfo.getDomain() != null
         && KubernetesUtils.isFirstNewer(cachedInfo.getDomain().getMetadata(), liveInfo.getDomain().getMetadata());
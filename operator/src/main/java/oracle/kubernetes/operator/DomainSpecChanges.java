@@ -0,0 +1,152 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.common.collect.MapMaker;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A description of the changes between two versions of a domain spec. When both versions are of the same
+ * domain resource, identified by metadata.uid, and carry a metadata.generation, which Kubernetes increments on
+ * every change to the spec, equal generations mean that nothing has changed. A domain which is deleted and
+ * recreated starts again at generation 1, so generations of different resources are never compared. Otherwise,
+ * the versions are compared by digests of each top-level section of the spec, computed once for each domain
+ * object received from Kubernetes.
+ */
+public class DomainSpecChanges {
+
+  private static final DomainSpecChanges UNCHANGED = new DomainSpecChanges(Collections.emptySet());
+  private static final DomainSpecChanges UNKNOWN = new DomainSpecChanges(null);
+
+  // weak keys are compared by identity, so each received domain object has its own entry
+  private static final Map<Domain, SpecDigests> digests = new MapMaker().weakKeys().makeMap();
+
+  private final Set<String> changedSections;
+
+  private DomainSpecChanges(Set<String> changedSections) {
+    this.changedSections = changedSections;
+  }
+
+  /**
+   * Describes the changes from one version of a domain to another.
+   *
+   * @param previous the version of the domain last processed, or null if there is none
+   * @param current the version of the domain just received, or null if there is none
+   * @return a description of the changes; if either version, or its spec, is missing, the spec is reported as changed
+   */
+  public static DomainSpecChanges compare(Domain previous, Domain current) {
+    if (previous == null || current == null || previous.getSpec() == null || current.getSpec() == null) {
+      return UNKNOWN;
+    } else if (isSameGeneration(previous, current)) {
+      return UNCHANGED;
+    } else {
+      return new DomainSpecChanges(getDigests(previous).getChangedSections(getDigests(current)));
+    }
+  }
+
+  private static boolean isSameGeneration(Domain previous, Domain current) {
+    return Objects.equals(getUid(previous), getUid(current))
+        && getGeneration(previous) != null
+        && Objects.equals(getGeneration(previous), getGeneration(current));
+  }
+
+  private static String getUid(Domain domain) {
+    return domain.getMetadata().getUid();
+  }
+
+  private static Long getGeneration(Domain domain) {
+    return domain.getMetadata().getGeneration();
+  }
+
+  // Digests are kept only for domains with a generation; those created without one, such as in unit tests,
+  // may be modified in place, and are digested on each comparison.
+  private static SpecDigests getDigests(Domain domain) {
+    Long generation = getGeneration(domain);
+    if (generation == null) {
+      return new SpecDigests(domain, null);
+    }
+
+    SpecDigests result = digests.get(domain);
+    if (result == null || !result.isValidFor(domain, generation)) {
+      result = new SpecDigests(domain, generation);
+      digests.put(domain, result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns true if the spec has changed.
+   *
+   * @return true if any section of the spec differs
+   */
+  public boolean isChanged() {
+    return changedSections == null || !changedSections.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "DomainSpecChanges{" + Optional.ofNullable(changedSections).map(Object::toString).orElse("all") + '}';
+  }
+
+  private static class SpecDigests {
+    private final Object spec;
+    private final Long generation;
+    private final Map<String, String> sectionDigests = new TreeMap<>();
+
+    SpecDigests(Domain domain, Long generation) {
+      this.spec = domain.getSpec();
+      this.generation = generation;
+      JsonObject specJson = LoggingFactory.getJson().getGson().toJsonTree(domain.getSpec()).getAsJsonObject();
+      for (Map.Entry<String, JsonElement> section : specJson.entrySet()) {
+        sectionDigests.put(section.getKey(), DigestUtils.sha256Hex(canonicalize(section.getValue()).toString()));
+      }
+    }
+
+    boolean isValidFor(Domain domain, long generation) {
+      return spec == domain.getSpec() && this.generation == generation;
+    }
+
+    Set<String> getChangedSections(SpecDigests other) {
+      Set<String> sections = new HashSet<>(sectionDigests.keySet());
+      sections.addAll(other.sectionDigests.keySet());
+      sections.removeIf(s -> Objects.equals(sectionDigests.get(s), other.sectionDigests.get(s)));
+      return new TreeSet<>(sections);
+    }
+
+    // Orders the members of each object by name, so that equal specs produce equal digests.
+    private static JsonElement canonicalize(JsonElement element) {
+      if (element.isJsonObject()) {
+        JsonObject result = new JsonObject();
+        toSortedMap(element.getAsJsonObject()).forEach((k, v) -> result.add(k, canonicalize(v)));
+        return result;
+      } else if (element.isJsonArray()) {
+        JsonArray result = new JsonArray();
+        element.getAsJsonArray().forEach(e -> result.add(canonicalize(e)));
+        return result;
+      } else {
+        return element;
+      }
+    }
+
+    private static Map<String, JsonElement> toSortedMap(JsonObject object) {
+      Map<String, JsonElement> result = new TreeMap<>();
+      object.entrySet().forEach(e -> result.put(e.getKey(), e.getValue()));
+      return result;
+    }
+  }
+}
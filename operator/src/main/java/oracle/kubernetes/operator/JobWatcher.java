@@ -116,6 +116,15 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
     factory = new JobWatcherFactory(threadFactory, tuning, isNamespaceStopping);
   }
 
+  /**
+   * Applies new tuning parameters to the existing job watchers, and to those created later.
+   * @param tuning Tuning parameters for the watch
+   */
+  static void updateTuning(WatchTuning tuning) {
+    Optional.ofNullable(factory).ifPresent(f -> factory = f.withTuning(tuning));
+    JOB_WATCHERS.values().forEach(watcher -> watcher.setTuning(tuning));
+  }
+
   /**
    * Test if job is complete.
    * @param job job
@@ -231,6 +240,10 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
       this.isNamespaceStopping = isNamespaceStopping;
     }
 
+    JobWatcherFactory withTuning(WatchTuning watchTuning) {
+      return new JobWatcherFactory(threadFactory, watchTuning, isNamespaceStopping);
+    }
+
     JobWatcher createFor(Domain domain) {
       String namespace = getNamespace(domain);
       return create(
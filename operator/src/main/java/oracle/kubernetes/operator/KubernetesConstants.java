@@ -29,6 +29,7 @@ public interface KubernetesConstants {
   boolean DEFAULT_INCLUDE_SERVER_OUT_IN_POD_LOG = true;
   boolean DEFAULT_ALLOW_REPLICAS_BELOW_MIN_DYN_CLUSTER_SIZE = true;
   int DEFAULT_MAX_CLUSTER_CONCURRENT_START_UP = 0;
+  int DEFAULT_MAX_CLUSTER_CONCURRENT_SHUTDOWN = 0;
 
   String CONTAINER_NAME = "weblogic-server";
 
@@ -0,0 +1,279 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.utils.SystemClock;
+import org.joda.time.DateTime;
+
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+
+/**
+ * Chooses a single active operator from the replicas of the operator deployment, using a Kubernetes lease in the
+ * operator namespace. The active replica renews the lease periodically; the others check it at the same interval,
+ * and take it over if it has not been renewed for a full lease duration. Expiry is judged by how long this replica
+ * has seen the same lease record, rather than by the times in the lease, so that clock skew between nodes does not
+ * matter.
+ *
+ * <p>Standby replicas keep their watches and domain caches current, but make no changes, so that a replica which
+ * takes over can act at once, without first reading every resource.
+ *
+ * <p>A leader which has not renewed its lease within the renew deadline stops leading, whether or not its last
+ * lease call has returned: the deadline is checked on a timer of its own, and each lease call is abandoned once the
+ * deadline has passed.
+ *
+ * <p>The lease is checked on a thread of its own, which waits for each lease call, so that no engine thread is
+ * held by a slow call. The leadership callbacks run on that thread, and must not block.
+ */
+class LeaderElector {
+  static final String LEASE_NAME = "weblogic-operator-leader";
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final String namespace;
+  private final String identity;
+  private final int leaseDurationSeconds;
+  private final int retryPeriodSeconds;
+  private final Runnable onStartedLeading;
+  private final Runnable onStoppedLeading;
+  private final ScheduledExecutorService electionTimer;
+  private final ExecutorService leaseCalls;
+  private final ScheduledExecutorService deadlineTimer;
+
+  private final AtomicBoolean leader = new AtomicBoolean();
+  private String observedRecord;
+  private long observedMillis;
+  private volatile long lastRenewedMillis;
+
+  LeaderElector(String namespace, String identity, int leaseDurationSeconds, int retryPeriodSeconds,
+                Runnable onStartedLeading, Runnable onStoppedLeading) {
+    this(namespace, identity, leaseDurationSeconds, retryPeriodSeconds, onStartedLeading, onStoppedLeading,
+          Executors.newSingleThreadScheduledExecutor(ThreadFactorySingleton.getInstance()),
+          Executors.newSingleThreadExecutor(ThreadFactorySingleton.getInstance()),
+          Executors.newSingleThreadScheduledExecutor(ThreadFactorySingleton.getInstance()));
+  }
+
+  LeaderElector(String namespace, String identity, int leaseDurationSeconds, int retryPeriodSeconds,
+                Runnable onStartedLeading, Runnable onStoppedLeading, ScheduledExecutorService electionTimer,
+                ExecutorService leaseCalls, ScheduledExecutorService deadlineTimer) {
+    this.namespace = namespace;
+    this.identity = identity;
+    this.leaseDurationSeconds = leaseDurationSeconds;
+    this.retryPeriodSeconds = retryPeriodSeconds;
+    this.onStartedLeading = onStartedLeading;
+    this.onStoppedLeading = onStoppedLeading;
+    this.electionTimer = electionTimer;
+    this.leaseCalls = leaseCalls;
+    this.deadlineTimer = deadlineTimer;
+  }
+
+  /**
+   * Returns true if this replica currently holds the lease.
+   * @return true if this replica should act on the domains
+   */
+  boolean isLeader() {
+    return leader.get();
+  }
+
+  /**
+   * Checks the lease now, and then at every retry period.
+   */
+  void start() {
+    electionTimer.scheduleWithFixedDelay(this::tryAcquireOrRenew, 0, retryPeriodSeconds, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Attempts to acquire the lease, or to renew it if already held.
+   */
+  synchronized void tryAcquireOrRenew() {
+    long attemptMillis = getCurrentMillis();
+    try {
+      V1Lease lease = readLease();
+      if (lease == null) {
+        createLease(attemptMillis);
+      } else if (identity.equals(getSpec(lease).getHolderIdentity())) {
+        renewLease(lease, attemptMillis);
+      } else if (isAvailable(lease)) {
+        takeOverLease(lease, attemptMillis);
+      } else {
+        stopLeading();
+      }
+    } catch (ApiException | RuntimeException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+      checkRenewDeadline();
+    }
+  }
+
+  /**
+   * Stops leading if the lease has not been renewed within the renew deadline. This does not wait for any
+   * lease call in progress.
+   */
+  void checkRenewDeadline() {
+    if (isLeader() && isRenewDeadlinePassed(lastRenewedMillis)) {
+      stopLeading();
+    }
+  }
+
+  private boolean isRenewDeadlinePassed(long renewedMillis) {
+    return getCurrentMillis() - renewedMillis >= getRenewDeadlineMillis();
+  }
+
+  /**
+   * Gives up the lease, if held, so that a standby replica may take over without waiting for it to expire.
+   */
+  void release() {
+    if (isLeader()) {
+      releaseLease();
+    }
+  }
+
+  private synchronized void releaseLease() {
+    leader.set(false);
+    try {
+      V1Lease lease = readLease();
+      if (lease != null && identity.equals(getSpec(lease).getHolderIdentity())) {
+        getSpec(lease).holderIdentity(null);
+        callWithDeadline(() -> new CallBuilder().replaceLease(LEASE_NAME, namespace, lease));
+      }
+    } catch (ApiException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private V1Lease readLease() throws ApiException {
+    try {
+      return callWithDeadline(() -> new CallBuilder().readLease(LEASE_NAME, namespace));
+    } catch (ApiException e) {
+      if (e.getCode() == HTTP_NOT_FOUND) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  // A lease call which has not returned by the renew deadline is abandoned, so that a hung call cannot keep
+  // this replica from learning that it has lost the lease.
+  private <T> T callWithDeadline(Callable<T> call) throws ApiException {
+    Future<T> future = leaseCalls.submit(call);
+    try {
+      return future.get(getRenewDeadlineMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof ApiException) {
+        throw (ApiException) e.getCause();
+      }
+      throw new ApiException(e.getCause());
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new ApiException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private V1LeaseSpec getSpec(V1Lease lease) {
+    if (lease.getSpec() == null) {
+      lease.setSpec(new V1LeaseSpec());
+    }
+    return lease.getSpec();
+  }
+
+  private void createLease(long attemptMillis) throws ApiException {
+    V1Lease lease = new V1Lease()
+          .metadata(new V1ObjectMeta().name(LEASE_NAME).namespace(namespace))
+          .spec(createSpec(SystemClock.now()).leaseTransitions(0));
+    callWithDeadline(() -> new CallBuilder().createLease(namespace, lease));
+    startLeading(attemptMillis);
+  }
+
+  private V1LeaseSpec createSpec(DateTime now) {
+    return new V1LeaseSpec()
+          .holderIdentity(identity)
+          .leaseDurationSeconds(leaseDurationSeconds)
+          .acquireTime(now)
+          .renewTime(now);
+  }
+
+  private void renewLease(V1Lease lease, long attemptMillis) throws ApiException {
+    getSpec(lease).renewTime(SystemClock.now()).leaseDurationSeconds(leaseDurationSeconds);
+    callWithDeadline(() -> new CallBuilder().replaceLease(LEASE_NAME, namespace, lease));
+    startLeading(attemptMillis);
+  }
+
+  // The lease is available if it has been released, or if its record has not changed for a full lease duration.
+  private boolean isAvailable(V1Lease lease) {
+    V1LeaseSpec spec = getSpec(lease);
+    String record = spec.getHolderIdentity() + "/" + spec.getRenewTime();
+    if (!Objects.equals(record, observedRecord)) {
+      observedRecord = record;
+      observedMillis = getCurrentMillis();
+    }
+
+    return spec.getHolderIdentity() == null || spec.getHolderIdentity().isEmpty()
+          || getCurrentMillis() - observedMillis > getLeaseDurationMillis(spec);
+  }
+
+  private long getLeaseDurationMillis(V1LeaseSpec spec) {
+    return TimeUnit.SECONDS.toMillis(Optional.ofNullable(spec.getLeaseDurationSeconds()).orElse(leaseDurationSeconds));
+  }
+
+  // the replace will fail with a conflict if another replica has updated the lease since it was read
+  private void takeOverLease(V1Lease lease, long attemptMillis) throws ApiException {
+    int transitions = Optional.ofNullable(getSpec(lease).getLeaseTransitions()).orElse(0);
+    lease.setSpec(createSpec(SystemClock.now()).leaseTransitions(transitions + 1));
+    callWithDeadline(() -> new CallBuilder().replaceLease(LEASE_NAME, namespace, lease));
+    startLeading(attemptMillis);
+  }
+
+  // The lease is treated as renewed when the attempt began, since that is the time recorded in it. An attempt
+  // which took past the renew deadline does not restore leadership; the next one may.
+  private void startLeading(long attemptMillis) {
+    if (isRenewDeadlinePassed(attemptMillis)) {
+      return;
+    }
+
+    lastRenewedMillis = attemptMillis;
+    deadlineTimer.schedule(this::checkRenewDeadline,
+          attemptMillis + getRenewDeadlineMillis() - getCurrentMillis(), TimeUnit.MILLISECONDS);
+    if (leader.compareAndSet(false, true)) {
+      LOGGER.info(MessageKeys.LEADER_ELECTED, identity);
+      onStartedLeading.run();
+    }
+  }
+
+  private void stopLeading() {
+    if (leader.compareAndSet(true, false)) {
+      LOGGER.warning(MessageKeys.LEADERSHIP_LOST, identity);
+      onStoppedLeading.run();
+    }
+  }
+
+  // a leader which cannot renew its lease must stop before another replica could take over
+  private long getRenewDeadlineMillis() {
+    return TimeUnit.SECONDS.toMillis(leaseDurationSeconds) * 2 / 3;
+  }
+
+  private long getCurrentMillis() {
+    return SystemClock.now().getMillis();
+  }
+}
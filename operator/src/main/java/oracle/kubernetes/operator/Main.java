@@ -8,6 +8,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -19,9 +21,11 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -60,6 +64,7 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.RestConfigImpl;
 import oracle.kubernetes.operator.rest.RestServer;
 import oracle.kubernetes.operator.steps.ConfigMapAfterStep;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
@@ -84,8 +89,9 @@ public class Main {
 
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
+  private static final ScheduledThreadPoolExecutor engineThreadPool = Engine.createThreadPool("operator");
   private static final ScheduledExecutorService wrappedExecutorService =
-      Engine.wrappedExecutorService("operator", container);
+      Engine.wrappedExecutorService(engineThreadPool, container);
   private static final TuningParameters tuningAndConfig;
   private static final CallBuilderFactory callBuilderFactory = new CallBuilderFactory();
   private static Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
@@ -105,12 +111,15 @@ public class Main {
   private static final String READINESS_PROBE_FAILURE_EVENT_FILTER =
       "reason=Unhealthy,type=Warning,involvedObject.fieldPath=spec.containers{weblogic-server}";
   private static final Semaphore shutdownSignal = new Semaphore(0);
-  private static final Engine engine = new Engine(wrappedExecutorService);
+  // timeouts and retry delays of up to 1024 ticks of 100 msec are handled by a timing wheel
+  private static final Engine engine = new Engine(wrappedExecutorService, 100, TimeUnit.MILLISECONDS, 1024);
   private static String principal;
+  private static LeaderElector leaderElector;
   private static KubernetesVersion version = null;
   private static SemanticVersion productVersion = null;
   private static final StuckPodProcessing stuckPodProcessing
-        = new StuckPodProcessing(operatorNamespace, Main::readExistingResources);
+        = new StuckPodProcessing(operatorNamespace, Main::readExistingResources, engine, () -> delegate.isLeader());
+  private static final RecurringTask namespaceRecheck = new RecurringTask(recheckDomains());
 
   static {
     try {
@@ -123,6 +132,9 @@ public class Main {
 
       TuningParameters.initializeInstance(wrappedExecutorService, "/operator/config");
       tuningAndConfig = TuningParameters.getInstance();
+      TuningParameters.addChangeListener(Main::applyTuningParameters);
+      setEngineThreadCount();
+      setTracingSpansPerDomain();
     } catch (IOException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
       throw new RuntimeException(e);
@@ -196,6 +208,8 @@ public class Main {
     LOGGER.info(MessageKeys.OP_CONFIG_TARGET_NAMESPACES, StringUtils.join(targetNamespaces, ", "));
     LOGGER.info(MessageKeys.OP_CONFIG_SERVICE_ACCOUNT, serviceAccountName);
 
+    startLeaderElection();
+
     try {
       version = HealthCheckHelper.performK8sVersionCheck();
 
@@ -217,22 +231,50 @@ public class Main {
     }
   }
 
+  private static void startLeaderElection() {
+    TuningParameters.LeaderElectionTuning tuning = tuningAndConfig.getLeaderElectionTuning();
+    if (!tuning.leaderElection) {
+      return;
+    }
+
+    leaderElector = new LeaderElector(operatorNamespace, getOperatorIdentity(),
+          tuning.leaderElectionLeaseSeconds, tuning.leaderElectionRetrySeconds,
+          () -> wrappedExecutorService.execute(Main::startLeading), Main::stopLeading);
+    Runtime.getRuntime().addShutdownHook(new Thread(leaderElector::release));
+    leaderElector.start();
+  }
+
+  private static String getOperatorIdentity() {
+    return Optional.ofNullable(getHelmVariable.apply("OPERATOR_POD_NAME")).orElseGet(Main::getHostName);
+  }
+
+  private static String getHostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return UUID.randomUUID().toString();
+    }
+  }
+
+  // Run on the engine, so that the leader election thread remains free to renew the lease.
+  private static void startLeading() {
+    processor.makeRightAllDomains();
+    stuckPodProcessing.deleteExpiredPods();
+  }
+
+  // Processing started while leading is stopped, so that the operator continues as a standby, keeping its
+  // watches and caches current, until it is elected again.
+  private static void stopLeading() {
+    processor.stopAllProcessing();
+  }
+
   private static void completeBegin() {
     try {
       // start the REST server
       startRestServer(principal, namespaceStoppingMap.keySet());
 
       // start periodic retry and recheck
-      int recheckInterval = tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds;
-      int stuckPodInterval = tuningAndConfig.getMainTuning().stuckPodRecheckSeconds;
-      engine
-          .getExecutor()
-          .scheduleWithFixedDelay(
-              recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
-      engine
-          .getExecutor()
-          .scheduleWithFixedDelay(
-              checkStuckPods(), stuckPodInterval, stuckPodInterval, TimeUnit.SECONDS);
+      scheduleRecurringTasks();
 
       // Wait until all other initialization is done before marking ready and
       // starting liveness thread
@@ -245,6 +287,42 @@ public class Main {
     }
   }
 
+  private static void scheduleRecurringTasks() {
+    namespaceRecheck.schedule(tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds);
+  }
+
+  // Applies changed tuning parameters to the running operator. Values which are read when used,
+  // such as the call builder limits and status update intervals, need no action here.
+  private static void applyTuningParameters() {
+    setEngineThreadCount();
+    setTracingSpansPerDomain();
+    namespaceRecheck.reschedule(tuningAndConfig.getMainTuning().targetNamespaceRecheckIntervalSeconds);
+
+    TuningParameters.WatchTuning watchTuning = tuningAndConfig.getWatchTuning();
+    JobWatcher.updateTuning(watchTuning);
+    Optional.ofNullable(namespaceWatcher).ifPresent(w -> w.setTuning(watchTuning));
+    updateTuning(configMapWatchers, watchTuning);
+    updateTuning(domainWatchers, watchTuning);
+    updateTuning(eventWatchers, watchTuning);
+    updateTuning(serviceWatchers, watchTuning);
+    updateTuning(podWatchers, watchTuning);
+  }
+
+  private static void updateTuning(Map<String, ? extends Watcher<?>> watchers, TuningParameters.WatchTuning tuning) {
+    watchers.values().forEach(watcher -> watcher.setTuning(tuning));
+  }
+
+  private static void setEngineThreadCount() {
+    int count = tuningAndConfig.getMainTuning().engineThreadCount;
+    if (count > 0 && count != engineThreadPool.getCorePoolSize()) {
+      engineThreadPool.setCorePoolSize(count);
+    }
+  }
+
+  private static void setTracingSpansPerDomain() {
+    Tracer.getInstance().setSpansPerDomain(tuningAndConfig.getMainTuning().tracingSpansPerDomain);
+  }
+
   private static void stopNamespace(String ns, boolean inTargetNamespaceList) {
     AtomicBoolean isNamespaceStopping = isNamespaceStopping(ns);
 
@@ -324,6 +402,7 @@ public class Main {
       boolean isFullRecheck = false;
       if (lastFullRecheck.get().plusSeconds(recheckInterval).isBefore(now)) {
         processor.reportSuspendedFibers();
+        ClientPool.reportConnections();
         isFullRecheck = true;
         lastFullRecheck.set(now);
       } else {
@@ -343,14 +422,6 @@ public class Main {
     };
   }
 
-  static Runnable checkStuckPods() {
-    return () -> getTargetNamespaces().stream().map(Main::checkStuckPodsIn).forEach(Main::runSteps);
-  }
-
-  private  static Step checkStuckPodsIn(String namespace) {
-    return stuckPodProcessing.createStuckPodCheckSteps(namespace);
-  }
-
   static Step readExistingResources(String operatorNamespace, String ns) {
     return Step.chain(
         new ReadExistingResourcesBeforeStep(),
@@ -493,10 +564,15 @@ public class Main {
         ns,
         initialResourceVersion,
         tuningAndConfig.getWatchTuning(),
-        processor::dispatchPodWatch,
+        Main::dispatchPodWatch,
         isNamespaceStopping(ns));
   }
 
+  private static void dispatchPodWatch(Watch.Response<V1Pod> item) {
+    stuckPodProcessing.dispatchPodWatch(item);
+    processor.dispatchPodWatch(item);
+  }
+
   private static ServiceWatcher createServiceWatcher(String ns, String initialResourceVersion) {
     return ServiceWatcher.create(
         threadFactory,
@@ -891,6 +967,7 @@ public class Main {
 
       if (result != null) {
         for (V1Pod pod : result.getItems()) {
+          stuckPodProcessing.recordPod(pod);
           String domainUid = PodHelper.getPodDomainUid(pod);
           String serverName = PodHelper.getPodServerName(pod);
           if (domainUid != null && serverName != null) {
@@ -1020,6 +1097,31 @@ public class Main {
     }
   }
 
+  /** A task run with a fixed delay, which is rescheduled if the delay is changed. */
+  private static class RecurringTask {
+    private final Runnable command;
+    private ScheduledFuture<?> future;
+    private int intervalSeconds;
+
+    RecurringTask(Runnable command) {
+      this.command = command;
+    }
+
+    synchronized void schedule(int intervalSeconds) {
+      Optional.ofNullable(future).ifPresent(f -> f.cancel(false));
+      this.intervalSeconds = intervalSeconds;
+      future = engine.getExecutor()
+          .scheduleWithFixedDelay(command, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    // Does nothing if the task has not yet been scheduled, or if its interval is unchanged.
+    synchronized void reschedule(int intervalSeconds) {
+      if (future != null && intervalSeconds != this.intervalSeconds) {
+        schedule(intervalSeconds);
+      }
+    }
+  }
+
   private static class DomainProcessorDelegateImpl implements DomainProcessorDelegate {
 
     @Override
@@ -1046,6 +1148,11 @@ public class Main {
       return !namespaceStoppingMap.get(namespace).get();
     }
 
+    @Override
+    public boolean isLeader() {
+      return leaderElector == null || leaderElector.isLeader();
+    }
+
     @Override
     public KubernetesVersion getVersion() {
       return version;
@@ -3,6 +3,10 @@
 
 package oracle.kubernetes.operator;
 
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Packet;
+
 /** Constants used in asynchronous processing. */
 public interface ProcessingConstants {
 
@@ -13,6 +17,7 @@ public interface ProcessingConstants {
 
   /** key to an object of type WlsServerConfig. */
   String SERVER_SCAN = "serverScan";
+  Packet.Key<WlsServerConfig> SERVER_SCAN_KEY = Packet.Key.of(SERVER_SCAN, WlsServerConfig.class);
   String ENVVARS = "envVars";
 
   String SERVER_NAME = "serverName";
@@ -25,9 +30,10 @@ public interface ProcessingConstants {
   String SERVER_HEALTH_MAP = "serverHealthMap";
 
   String DOMAIN_TOPOLOGY = "domainTopology";
+  Packet.Key<WlsDomainConfig> DOMAIN_TOPOLOGY_KEY = Packet.Key.of(DOMAIN_TOPOLOGY, WlsDomainConfig.class);
   String JOB_POD_NAME = "jobPodName";
   String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
-  String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
+  String DOMAIN_INTROSPECTION_RESULT = "domainIntrospectionResult";
   String DOMAIN_INTROSPECT_REQUESTED = "domainIntrospectRequested";
   String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
 
@@ -6,11 +6,17 @@ package oracle.kubernetes.operator;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -28,14 +34,19 @@ import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.steps.ReadHealthStep;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
 import oracle.kubernetes.operator.utils.KubernetesExecFactoryImpl;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.operator.work.Timeout;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.joda.time.DateTime;
 
@@ -48,6 +59,8 @@ public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static final Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
+  private static final ExecutorService EXEC_EXECUTOR
+        = Executors.newCachedThreadPool(ThreadFactorySingleton.getInstance());
 
   private ServerStatusReader() {
   }
@@ -84,6 +97,12 @@ public class ServerStatusReader {
     return new StatusUpdateHookStep(timeoutSeconds, next);
   }
 
+  /**
+   * Reads the status of each server in a domain. The servers are read by workers which take them from a shared queue,
+   * so that at most the configured maximum are read at once. Each server's state and health is recorded as soon as it
+   * is read; a server which is not read within the configured deadline is reported with its last known state, so that
+   * a single unresponsive server does not hold up the status of the rest of the domain.
+   */
   private static class DomainStatusReaderStep extends Step {
     private final DomainPresenceInfo info;
     private final long timeoutSeconds;
@@ -102,23 +121,120 @@ public class ServerStatusReader {
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
-      Collection<StepAndPacket> startDetails =
-          info.getServerPods()
-              .map(pod -> createStatusReaderStep(packet, pod))
-              .collect(Collectors.toList());
+      Queue<V1Pod> pods = info.getServerPods().collect(Collectors.toCollection(ConcurrentLinkedQueue::new));
 
-      if (startDetails.isEmpty()) {
+      if (pods.isEmpty()) {
         return doNext(packet);
       } else {
-        remainingServerHealthToRead.set(startDetails.size());
-        return doForkJoin(getNext(), packet, startDetails);
+        remainingServerHealthToRead.set(pods.size());
+        return doForkJoin(getNext(), packet, createWorkers(pods, packet));
       }
     }
 
-    private StepAndPacket createStatusReaderStep(Packet packet, V1Pod pod) {
-      return new StepAndPacket(
-          createServerStatusReaderStep(info, pod, PodHelper.getPodServerName(pod), timeoutSeconds),
-          packet.clone());
+    private Collection<StepAndPacket> createWorkers(Queue<V1Pod> pods, Packet packet) {
+      TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
+      int maxConcurrency = main.statusUpdateMaxConcurrentReads;
+      int numWorkers = maxConcurrency > 0 ? Math.min(maxConcurrency, pods.size()) : pods.size();
+
+      Collection<StepAndPacket> workers = new ArrayList<>();
+      for (int i = 0; i < numWorkers; i++) {
+        workers.add(new StepAndPacket(
+              new ServerStatusWorkerStep(info, pods, timeoutSeconds, main.statusUpdateServerDeadlineSeconds),
+              packet.clone()));
+      }
+      return workers;
+    }
+  }
+
+  /**
+   * Repeatedly takes a server pod from a shared queue and reads the status of its server, until the queue is empty.
+   * Each read runs in its own fiber, which is cancelled if it has not completed by the deadline.
+   */
+  private static class ServerStatusWorkerStep extends Step {
+    private final DomainPresenceInfo info;
+    private final Queue<V1Pod> pods;
+    private final long timeoutSeconds;
+    private final long deadlineSeconds;
+
+    ServerStatusWorkerStep(DomainPresenceInfo info, Queue<V1Pod> pods, long timeoutSeconds, long deadlineSeconds) {
+      super(null);
+      this.info = info;
+      this.pods = pods;
+      this.timeoutSeconds = timeoutSeconds;
+      this.deadlineSeconds = deadlineSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      V1Pod pod = pods.poll();
+      if (pod == null) {
+        return doNext(packet);
+      }
+
+      return doSuspend(this, fiber -> new ServerStatusRead(fiber, packet, pod).start());
+    }
+
+    private class ServerStatusRead implements Fiber.CompletionCallback {
+      private final AsyncFiber fiber;
+      private final Packet packet;
+      private final V1Pod pod;
+      private final String serverName;
+      private final AtomicBoolean done = new AtomicBoolean();
+      private Fiber readFiber;
+      private Timeout deadline;
+
+      ServerStatusRead(AsyncFiber fiber, Packet packet, V1Pod pod) {
+        this.fiber = fiber;
+        this.packet = packet;
+        this.pod = pod;
+        this.serverName = PodHelper.getPodServerName(pod);
+      }
+
+      void start() {
+        readFiber = fiber.createChildFiber();
+        deadline = deadlineSeconds > 0
+              ? fiber.scheduleTimeout(deadlineSeconds, TimeUnit.SECONDS, this::onDeadline)
+              : () -> false;
+        readFiber.start(createServerStatusReaderStep(info, pod, serverName, timeoutSeconds), packet.clone(), this);
+      }
+
+      @Override
+      public void onCompletion(Packet completedPacket) {
+        if (done.compareAndSet(false, true)) {
+          deadline.cancel();
+          fiber.resume(packet);
+        }
+      }
+
+      // a failure to read one server is reported with the others, rather than failing the domain status update
+      @Override
+      public void onThrowable(Packet completedPacket, Throwable throwable) {
+        LOGGER.warning(MessageKeys.EXCEPTION, throwable);
+        onCompletion(completedPacket);
+      }
+
+      private void onDeadline() {
+        if (done.compareAndSet(false, true)) {
+          readFiber.cancel(true);
+          recordLastKnownState();
+          LOGGER.info(getLoggingFilter(), MessageKeys.SERVER_STATUS_READ_TIMED_OUT, serverName, deadlineSeconds);
+          fiber.resume(packet);
+        }
+      }
+
+      private void recordLastKnownState() {
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<String, String> serverStateMap =
+            (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+
+        Optional.ofNullable(info.getLastKnownServerStatus(serverName))
+              .map(LastKnownStatus::getStatus)
+              .ifPresent(state -> serverStateMap.put(serverName, state));
+      }
+
+      private LoggingFilter getLoggingFilter() {
+        return (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY);
+      }
     }
   }
 
@@ -162,54 +278,60 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
-      final boolean stdin = false;
-      final boolean tty = false;
-
+      // the exec, and the wait for its script, hold a thread of their own rather than one of the engine's
       return doSuspend(
-          fiber -> {
-            Process proc = null;
-            String state = null;
-            ClientPool helper = ClientPool.getInstance();
-            ApiClient client = helper.take();
+          fiber -> EXEC_EXECUTOR.execute(() -> {
             try (LoggingContext stack = LoggingContext.setThreadContext().namespace(getNamespace(pod))) {
-              try {
-                KubernetesExec kubernetesExec = EXEC_FACTORY.create(client, pod, CONTAINER_NAME);
-                kubernetesExec.setStdin(stdin);
-                kubernetesExec.setTty(tty);
-                proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
-
-                try (final Reader reader = new InputStreamReader(proc.getInputStream())) {
-                  state = CharStreams.toString(reader);
-                }
-
-                if (proc.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
-                  int exitValue = proc.exitValue();
-                  LOGGER.fine("readState exit: " + exitValue + ", readState for " + pod.getMetadata().getName());
-                  if (exitValue == 1 || exitValue == 2) {
-                    state =
-                        PodHelper.isDeleting(pod)
-                            ? WebLogicConstants.SHUTDOWN_STATE
-                            : WebLogicConstants.STARTING_STATE;
-                  } else if (exitValue != 0) {
-                    state = WebLogicConstants.UNKNOWN_STATE;
-                  }
-                }
-              } catch (InterruptedException ignore) {
-                Thread.currentThread().interrupt();
-              } catch (IOException | ApiException e) {
-                LOGGER.warning(MessageKeys.EXCEPTION, e);
-              } finally {
-                helper.recycle(client);
-                if (proc != null) {
-                  proc.destroy();
-                }
-              }
+              String state = readState();
               LOGGER.fine("readState: " + state + " for " + pod.getMetadata().getName());
-              state = chooseStateOrLastKnownServerStatus(lastKnownStatus, state);
-              serverStateMap.put(serverName, state);
+              serverStateMap.put(serverName, chooseStateOrLastKnownServerStatus(lastKnownStatus, state));
             }
             fiber.resume(packet);
-          });
+          }));
+    }
+
+    private String readState() {
+      final boolean stdin = false;
+      final boolean tty = false;
+
+      Process proc = null;
+      String state = null;
+      ClientPool helper = ClientPool.getInstance();
+      ApiClient client = helper.take();
+      try {
+        KubernetesExec kubernetesExec = EXEC_FACTORY.create(client, pod, CONTAINER_NAME);
+        kubernetesExec.setStdin(stdin);
+        kubernetesExec.setTty(tty);
+        proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
+
+        // wait for the script before reading its output, so that a hung pod cannot block this thread
+        if (proc.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+          try (final Reader reader = new InputStreamReader(proc.getInputStream())) {
+            state = CharStreams.toString(reader);
+          }
+
+          int exitValue = proc.exitValue();
+          LOGGER.fine("readState exit: " + exitValue + ", readState for " + pod.getMetadata().getName());
+          if (exitValue == 1 || exitValue == 2) {
+            state =
+                PodHelper.isDeleting(pod)
+                    ? WebLogicConstants.SHUTDOWN_STATE
+                    : WebLogicConstants.STARTING_STATE;
+          } else if (exitValue != 0) {
+            state = WebLogicConstants.UNKNOWN_STATE;
+          }
+        }
+      } catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+      } catch (IOException | ApiException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      } finally {
+        helper.recycle(client);
+        if (proc != null) {
+          proc.destroy();
+        }
+      }
+      return state;
     }
 
     private String getNamespace(@Nonnull V1Pod pod) {
@@ -5,90 +5,238 @@ package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
-import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Preconditions;
+import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
-import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.SystemClock;
 import org.joda.time.DateTime;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.logging.MessageKeys.POD_FORCE_DELETED;
 
 /**
  * Under certain circumstances, when a Kubernetes node goes down, it may mark its pods as terminating, but never
  * actually remove them. This code detects such cases, deletes the pods and triggers the necessary make-right flows.
+ *
+ * <p>The deadline by which each terminating pod should be gone is recorded from pod watch events, as soon as its
+ * deletion timestamp appears, in a queue ordered by deadline. A single timer is set for the earliest deadline,
+ * so that a stuck pod is deleted as soon as its grace period has passed, without listing pods to find it.
+ * Deadlines are kept by pod UID, and the delete is made conditional on that UID, so that a pod which has been
+ * recreated with the same name is never deleted in place of the stuck one.
  */
 public class StuckPodProcessing {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private final String operatorNamespace;
   private final BiFunction<String,String,Step> readExistingNamespaces;
-
-  public StuckPodProcessing(String operatorNamespace, BiFunction<String, String, Step> readExistingNamespaces) {
+  private final Engine engine;
+  private final BooleanSupplier isActive;
+
+  // guarded by this
+  private final PriorityQueue<PodDeadline> deadlines = new PriorityQueue<>();
+  private final Map<String, PodDeadline> deadlinesByPod = new HashMap<>();
+  private ScheduledFuture<?> timer;
+  private DateTime timerDeadline;
+
+  /**
+   * Creates the stuck pod processing.
+   * @param operatorNamespace the namespace of the operator
+   * @param readExistingNamespaces a function which returns the steps to refresh a namespace after pods are deleted
+   * @param engine the engine which runs the timer and the deletion fibers
+   * @param isActive returns true if this operator should delete stuck pods
+   */
+  public StuckPodProcessing(String operatorNamespace, BiFunction<String, String, Step> readExistingNamespaces,
+                            Engine engine, BooleanSupplier isActive) {
     this.operatorNamespace = operatorNamespace;
     this.readExistingNamespaces = readExistingNamespaces;
+    this.engine = engine;
+    this.isActive = isActive;
   }
 
-  Step createStuckPodCheckSteps(String namespace) {
-    return new CallBuilder()
-          .withLabelSelectors(LabelConstants.getCreatedbyOperatorSelector())
-          .listPodAsync(namespace, new PodListProcessing(namespace, SystemClock.now()));
+  /**
+   * Records or discards the deletion deadline of an operator-created pod, as reported by a pod watch.
+   * @param item the watch event
+   */
+  public void dispatchPodWatch(Watch.Response<V1Pod> item) {
+    switch (item.type) {
+      case "ADDED":
+      case "MODIFIED":
+        recordPod(item.object);
+        break;
+      case "DELETED":
+        removePod(item.object);
+        break;
+      default:
+    }
   }
 
-  @SuppressWarnings("unchecked")
-  private List<V1Pod> getStuckPodList(Packet packet) {
-    return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
+  /**
+   * Records the deletion deadline of the specified pod, if it is terminating, or discards any recorded deadline
+   * if it is not. Used both for watch events and for the pods listed before a watch starts.
+   * @param pod an operator-created pod
+   */
+  synchronized void recordPod(V1Pod pod) {
+    if (!isOperatorCreated(pod)) {
+      return;
+    }
+
+    removeDeadline(getKey(pod));
+    if (getDeletionTimeStamp(pod) == null) {
+      setTimer();
+      return;
+    }
+
+    PodDeadline deadline = new PodDeadline(pod, getExpectedDeleteTime(pod));
+    deadlinesByPod.put(getKey(pod), deadline);
+    deadlines.add(deadline);
+    setTimer();
   }
 
-  class PodListProcessing extends DefaultResponseStep<V1PodList> {
+  private synchronized void removePod(V1Pod pod) {
+    removeDeadline(getKey(pod));
+    setTimer();
+  }
 
-    private final DateTime now;
+  private void removeDeadline(String key) {
+    Optional.ofNullable(deadlinesByPod.remove(key)).ifPresent(deadlines::remove);
+  }
 
-    public PodListProcessing(String namespace, DateTime dateTime) {
-      super(new PodActionsStep(namespace));
-      now = dateTime;
+  /**
+   * Returns the number of terminating pods whose deadlines are being tracked.
+   * @return a count of pods
+   */
+  synchronized int getNumTrackedPods() {
+    return deadlines.size();
+  }
+
+  // Ensures that the timer is set for the earliest deadline, if any.
+  private void setTimer() {
+    DateTime earliest = Optional.ofNullable(deadlines.peek()).map(PodDeadline::getDeadline).orElse(null);
+    if (Objects.equals(earliest, timerDeadline)) {
+      return;
     }
 
-    @Override
-    public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
-      callResponse.getResult().getItems().stream()
-            .filter(pod -> isStuck(pod, now))
-            .forEach(pod -> addStuckPodToPacket(packet, pod));
+    Optional.ofNullable(timer).ifPresent(t -> t.cancel(false));
+    timer = null;
+    timerDeadline = earliest;
+    if (earliest != null) {
+      long delayMillis = Math.max(0, earliest.getMillis() - SystemClock.now().getMillis());
+      timer = engine.getExecutor().schedule(this::deleteExpiredPods, delayMillis, TimeUnit.MILLISECONDS);
+    }
+  }
 
-      return doNext(packet);
+  /**
+   * Force-deletes the pods whose deadlines have passed, and sets the timer for the next deadline. Pods are not
+   * deleted while this operator is inactive; their deadlines are kept until it becomes active.
+   */
+  synchronized void deleteExpiredPods() {
+    timer = null;
+    timerDeadline = null;
+    if (!isActive.getAsBoolean()) {
+      return;
     }
 
-    private boolean isStuck(V1Pod pod, DateTime now)  {
-      return getExpectedDeleteTime(pod).isBefore(now);
+    Map<String, List<V1Pod>> stuckPods = new HashMap<>();
+    DateTime now = SystemClock.now();
+    while (!deadlines.isEmpty() && !deadlines.peek().getDeadline().isAfter(now)) {
+      PodDeadline deadline = deadlines.poll();
+      deadlinesByPod.remove(getKey(deadline.getPod()));
+      stuckPods.computeIfAbsent(getNamespace(deadline.getPod()), ns -> new ArrayList<>()).add(deadline.getPod());
     }
+    stuckPods.forEach(this::deletePods);
+    setTimer();
+  }
+
+  private void deletePods(String namespace, List<V1Pod> pods) {
+    Packet packet = new Packet();
+    getStuckPodList(packet).addAll(pods);
+    engine.createFiber().start(new PodActionsStep(namespace), packet, new NullCompletionCallback());
+  }
+
+  private boolean isOperatorCreated(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata())
+          .map(V1ObjectMeta::getLabels)
+          .map(labels -> "true".equals(labels.get(LabelConstants.CREATEDBYOPERATOR_LABEL)))
+          .orElse(false);
+  }
+
+  private DateTime getExpectedDeleteTime(V1Pod pod) {
+    return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  }
+
+  private long getDeletionGracePeriodSeconds(V1Pod pod) {
+    return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+  }
+
+  private DateTime getDeletionTimeStamp(V1Pod pod) {
+    return Optional.ofNullable(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(null);
+  }
+
+  private String getKey(V1Pod pod) {
+    return getUid(pod);
+  }
+
+  private static String getUid(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getUid();
+  }
+
+  private static String getName(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getName();
+  }
+
+  private static String getNamespace(V1Pod pod) {
+    return Objects.requireNonNull(pod.getMetadata()).getNamespace();
+  }
 
-    private DateTime getExpectedDeleteTime(V1Pod pod) {
-      return getDeletionTimeStamp(pod).plusSeconds((int) getDeletionGracePeriodSeconds(pod));
+  @SuppressWarnings("unchecked")
+  private List<V1Pod> getStuckPodList(Packet packet) {
+    return (List<V1Pod>) packet.computeIfAbsent("STUCK_PODS", k -> new ArrayList<>());
+  }
+
+  private static class PodDeadline implements Comparable<PodDeadline> {
+    private final V1Pod pod;
+    private final DateTime deadline;
+
+    PodDeadline(V1Pod pod, DateTime deadline) {
+      this.pod = pod;
+      this.deadline = deadline;
     }
 
-    private long getDeletionGracePeriodSeconds(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionGracePeriodSeconds).orElse(1L);
+    V1Pod getPod() {
+      return pod;
     }
 
-    private DateTime getDeletionTimeStamp(V1Pod pod) {
-      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getDeletionTimestamp).orElse(SystemClock.now());
+    DateTime getDeadline() {
+      return deadline;
     }
 
-    private void addStuckPodToPacket(Packet packet, V1Pod stuckPod) {
-      getStuckPodList(packet).add(stuckPod);
+    @Override
+    public int compareTo(PodDeadline o) {
+      return deadline.compareTo(o.deadline);
     }
   }
 
@@ -118,20 +266,12 @@ public class StuckPodProcessing {
     private Step createForcedDeletePodStep(V1Pod pod) {
       return new CallBuilder()
             .withGracePeriodSeconds(0)
-            .deletePodAsync(getName(pod), getNamespace(pod), null,
+            .deletePodAsync(getName(pod), getNamespace(pod), createDeleteOptions(pod),
                   new ForcedDeleteResponseStep(getName(pod), getNamespace(pod)));
     }
 
-    private String getName(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getName();
-    }
-
-    private String getNamespace(V1Pod pod) {
-      return Objects.requireNonNull(pod.getMetadata()).getNamespace();
-    }
-
-    private String getDomainUid(V1Pod pod) {
-      return PodHelper.getPodDomainUid(pod);
+    private V1DeleteOptions createDeleteOptions(V1Pod pod) {
+      return new V1DeleteOptions().preconditions(new V1Preconditions().uid(getUid(pod)));
     }
   }
 
@@ -150,6 +290,25 @@ public class StuckPodProcessing {
       LOGGER.info(POD_FORCE_DELETED, name, namespace);
       return super.onSuccess(packet, callResponse);
     }
+
+    // a conflict means that the pod now has a different UID: the stuck pod is gone, and a new one has replaced it
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Object> callResponse) {
+      return callResponse.getStatusCode() == HTTP_CONFLICT
+            ? doNext(packet)
+            : super.onFailure(packet, callResponse);
+    }
+  }
+
+  private static class NullCompletionCallback implements Fiber.CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+    }
   }
 
 }
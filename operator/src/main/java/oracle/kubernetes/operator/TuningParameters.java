@@ -22,6 +22,14 @@ public interface TuningParameters extends Map<String, String> {
     return TuningParametersImpl.getInstance();
   }
 
+  /**
+   * Registers a listener to be run whenever the operator's tuning parameters are changed.
+   * @param listener the listener to run
+   */
+  static void addChangeListener(Runnable listener) {
+    TuningParametersImpl.addChangeListener(listener);
+  }
+
   public MainTuning getMainTuning();
 
   public CallBuilderTuning getCallBuilderTuning();
@@ -30,6 +38,10 @@ public interface TuningParameters extends Map<String, String> {
 
   public PodTuning getPodTuning();
 
+  public RestTuning getRestTuning();
+
+  public LeaderElectionTuning getLeaderElectionTuning();
+
   public static class MainTuning {
     public final int domainPresenceFailureRetrySeconds;
     public final int domainPresenceFailureRetryMaxCount;
@@ -37,9 +49,12 @@ public interface TuningParameters extends Map<String, String> {
     public final int targetNamespaceRecheckIntervalSeconds;
     public final int statusUpdateTimeoutSeconds;
     public final int unchangedCountToDelayStatusRecheck;
-    public final int stuckPodRecheckSeconds;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final int statusUpdateMaxConcurrentReads;
+    public final int statusUpdateServerDeadlineSeconds;
+    public final int engineThreadCount;
+    public final int tracingSpansPerDomain;
 
     /**
      * create main tuning.
@@ -49,9 +64,12 @@ public interface TuningParameters extends Map<String, String> {
      * @param targetNamespaceRecheckIntervalSeconds target namespace recheck interval
      * @param statusUpdateTimeoutSeconds status update timeout
      * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
-     * @param stuckPodRecheckSeconds time between checks for stuck pods
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
+     * @param statusUpdateMaxConcurrentReads maximum number of servers whose status is read at once for a domain
+     * @param statusUpdateServerDeadlineSeconds time allowed to read the status of a single server
+     * @param engineThreadCount number of threads kept by the engine which runs the operator's fibers
+     * @param tracingSpansPerDomain number of spans retained for each domain; zero disables tracing
      */
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
@@ -60,18 +78,24 @@ public interface TuningParameters extends Map<String, String> {
         int targetNamespaceRecheckIntervalSeconds,
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
-        int stuckPodRecheckSeconds,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        int statusUpdateMaxConcurrentReads,
+        int statusUpdateServerDeadlineSeconds,
+        int engineThreadCount,
+        int tracingSpansPerDomain) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
       this.targetNamespaceRecheckIntervalSeconds = targetNamespaceRecheckIntervalSeconds;
       this.statusUpdateTimeoutSeconds = statusUpdateTimeoutSeconds;
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
-      this.stuckPodRecheckSeconds = stuckPodRecheckSeconds;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.statusUpdateMaxConcurrentReads = statusUpdateMaxConcurrentReads;
+      this.statusUpdateServerDeadlineSeconds = statusUpdateServerDeadlineSeconds;
+      this.engineThreadCount = engineThreadCount;
+      this.tracingSpansPerDomain = tracingSpansPerDomain;
     }
 
     @Override
@@ -85,6 +109,10 @@ public interface TuningParameters extends Map<String, String> {
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("statusUpdateMaxConcurrentReads", statusUpdateMaxConcurrentReads)
+          .append("statusUpdateServerDeadlineSeconds", statusUpdateServerDeadlineSeconds)
+          .append("engineThreadCount", engineThreadCount)
+          .append("tracingSpansPerDomain", tracingSpansPerDomain)
           .toString();
     }
 
@@ -99,6 +127,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(statusUpdateMaxConcurrentReads)
+          .append(statusUpdateServerDeadlineSeconds)
+          .append(engineThreadCount)
+          .append(tracingSpansPerDomain)
           .toHashCode();
     }
 
@@ -120,6 +152,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(statusUpdateMaxConcurrentReads, mt.statusUpdateMaxConcurrentReads)
+          .append(statusUpdateServerDeadlineSeconds, mt.statusUpdateServerDeadlineSeconds)
+          .append(engineThreadCount, mt.engineThreadCount)
+          .append(tracingSpansPerDomain, mt.tracingSpansPerDomain)
           .isEquals();
     }
   }
@@ -304,4 +340,121 @@ public interface TuningParameters extends Map<String, String> {
           .isEquals();
     }
   }
+
+  public static class RestTuning {
+    public final int restAccessCacheSeconds;
+    public final int restMaxConcurrentListings;
+    public final int restWorkerThreads;
+    public final int scaleRequestCoalescingMillis;
+
+    /**
+     * Create REST tuning.
+     * @param restAccessCacheSeconds time to keep authentication and authorization decisions for REST callers
+     * @param restMaxConcurrentListings maximum number of namespaces whose domains are listed concurrently
+     * @param restWorkerThreads maximum number of REST requests whose backend work is performed concurrently
+     * @param scaleRequestCoalescingMillis time during which later requests to scale a cluster are held
+     */
+    public RestTuning(
+        int restAccessCacheSeconds,
+        int restMaxConcurrentListings,
+        int restWorkerThreads,
+        int scaleRequestCoalescingMillis) {
+      this.restAccessCacheSeconds = restAccessCacheSeconds;
+      this.restMaxConcurrentListings = restMaxConcurrentListings;
+      this.restWorkerThreads = restWorkerThreads;
+      this.scaleRequestCoalescingMillis = scaleRequestCoalescingMillis;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("restAccessCacheSeconds", restAccessCacheSeconds)
+          .append("restMaxConcurrentListings", restMaxConcurrentListings)
+          .append("restWorkerThreads", restWorkerThreads)
+          .append("scaleRequestCoalescingMillis", scaleRequestCoalescingMillis)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(restAccessCacheSeconds)
+          .append(restMaxConcurrentListings)
+          .append(restWorkerThreads)
+          .append(scaleRequestCoalescingMillis)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof RestTuning)) {
+        return false;
+      }
+      RestTuning rt = (RestTuning) o;
+      return new EqualsBuilder()
+          .append(restAccessCacheSeconds, rt.restAccessCacheSeconds)
+          .append(restMaxConcurrentListings, rt.restMaxConcurrentListings)
+          .append(restWorkerThreads, rt.restWorkerThreads)
+          .append(scaleRequestCoalescingMillis, rt.scaleRequestCoalescingMillis)
+          .isEquals();
+    }
+  }
+
+  public static class LeaderElectionTuning {
+    public final boolean leaderElection;
+    public final int leaderElectionLeaseSeconds;
+    public final int leaderElectionRetrySeconds;
+
+    /**
+     * Create leader election tuning.
+     * @param leaderElection true if a single active operator is chosen from the replicas of the deployment
+     * @param leaderElectionLeaseSeconds time for which the active operator holds the lease without renewing it
+     * @param leaderElectionRetrySeconds interval at which the lease is renewed or checked
+     */
+    public LeaderElectionTuning(
+        boolean leaderElection,
+        int leaderElectionLeaseSeconds,
+        int leaderElectionRetrySeconds) {
+      this.leaderElection = leaderElection;
+      this.leaderElectionLeaseSeconds = leaderElectionLeaseSeconds;
+      this.leaderElectionRetrySeconds = leaderElectionRetrySeconds;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("leaderElection", leaderElection)
+          .append("leaderElectionLeaseSeconds", leaderElectionLeaseSeconds)
+          .append("leaderElectionRetrySeconds", leaderElectionRetrySeconds)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(leaderElection)
+          .append(leaderElectionLeaseSeconds)
+          .append(leaderElectionRetrySeconds)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof LeaderElectionTuning)) {
+        return false;
+      }
+      LeaderElectionTuning lt = (LeaderElectionTuning) o;
+      return new EqualsBuilder()
+          .append(leaderElection, lt.leaderElection)
+          .append(leaderElectionLeaseSeconds, lt.leaderElectionLeaseSeconds)
+          .append(leaderElectionRetrySeconds, lt.leaderElectionRetrySeconds)
+          .isEquals();
+    }
+  }
 }
@@ -4,6 +4,10 @@
 package oracle.kubernetes.operator;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -16,12 +20,16 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 public class TuningParametersImpl extends ConfigMapConsumer implements TuningParameters {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static TuningParameters INSTANCE = null;
+  private static final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
 
   private final ReadWriteLock lock = new ReentrantReadWriteLock();
   private MainTuning main = null;
   private CallBuilderTuning callBuilder = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
+  private RestTuning rest = null;
+  private LeaderElectionTuning leaderElection = null;
+  private Map<String, String> namedParameters = null;
 
   private TuningParametersImpl(ScheduledExecutorService executorService, String mountPoint)
       throws IOException {
@@ -41,11 +49,28 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
     return INSTANCE;
   }
 
+  static void addChangeListener(Runnable listener) {
+    changeListeners.add(listener);
+  }
+
   private static void updateTuningParameters() {
-    ((TuningParametersImpl) INSTANCE).update();
+    if (INSTANCE instanceof TuningParametersImpl && ((TuningParametersImpl) INSTANCE).update()) {
+      notifyChangeListeners();
+    }
+  }
+
+  private static void notifyChangeListeners() {
+    for (Runnable listener : changeListeners) {
+      try {
+        listener.run();
+      } catch (RuntimeException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      }
+    }
   }
 
-  private void update() {
+  // Returns true if any of the parameters have changed.
+  private boolean update() {
     MainTuning main =
         new MainTuning(
             (int) readTuningParameter("domainPresenceFailureRetrySeconds", 10),
@@ -54,9 +79,12 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("targetNamespaceRecheckIntervalSeconds", 3),
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
-            (int) readTuningParameter("stuckPodRecheckSeconds", 30),
             readTuningParameter("statusUpdateInitialShortDelay", 5),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            (int) readTuningParameter("statusUpdateMaxConcurrentReads", 10),
+            (int) readTuningParameter("statusUpdateServerDeadlineSeconds", 30),
+            (int) readTuningParameter("engineThreadCount", 10),
+            (int) readTuningParameter("tracingSpansPerDomain", 0));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
@@ -80,23 +108,56 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("livenessProbePeriodSeconds", 45),
             readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
 
+    RestTuning rest =
+        new RestTuning(
+            (int) readTuningParameter("restAccessCacheSeconds", 30),
+            (int) readTuningParameter("restMaxConcurrentListings", 4),
+            (int) readTuningParameter("restWorkerThreads", 8),
+            (int) readTuningParameter("scaleRequestCoalescingMillis", 500));
+
+    LeaderElectionTuning leaderElection =
+        new LeaderElectionTuning(
+            "true".equalsIgnoreCase(get("leaderElection")),
+            (int) readTuningParameter("leaderElectionLeaseSeconds", 15),
+            (int) readTuningParameter("leaderElectionRetrySeconds", 2));
+
+    Map<String, String> namedParameters = readNamedParameters();
+
     lock.writeLock().lock();
     try {
-      if (!main.equals(this.main)
+      boolean changed = !main.equals(this.main)
           || !callBuilder.equals(this.callBuilder)
           || !watch.equals(this.watch)
-          || !pod.equals(this.pod)) {
+          || !pod.equals(this.pod)
+          || !rest.equals(this.rest)
+          || !leaderElection.equals(this.leaderElection)
+          || !namedParameters.equals(this.namedParameters);
+      if (changed) {
         LOGGER.info(MessageKeys.TUNING_PARAMETERS);
       }
       this.main = main;
       this.callBuilder = callBuilder;
       this.watch = watch;
       this.pod = pod;
+      this.rest = rest;
+      this.leaderElection = leaderElection;
+      this.namedParameters = namedParameters;
+      return changed;
     } finally {
       lock.writeLock().unlock();
     }
   }
 
+  // Parameters which are not part of the tuning groups are read by name when used;
+  // record them so that changes to them are also reported.
+  private Map<String, String> readNamedParameters() {
+    Map<String, String> result = new HashMap<>();
+    for (String key : keySet()) {
+      result.put(key, get(key));
+    }
+    return result;
+  }
+
   @Override
   public MainTuning getMainTuning() {
     lock.readLock().lock();
@@ -136,4 +197,24 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       lock.readLock().unlock();
     }
   }
+
+  @Override
+  public RestTuning getRestTuning() {
+    lock.readLock().lock();
+    try {
+      return rest;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public LeaderElectionTuning getLeaderElectionTuning() {
+    lock.readLock().lock();
+    try {
+      return leaderElection;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 }
@@ -38,7 +38,7 @@ abstract class Watcher<T> {
   private static final String IGNORED_RESOURCE_VERSION = "0";
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
-  private final WatchTuning tuning;
+  private volatile WatchTuning tuning;
   private String resourceVersion;
   private final AtomicBoolean stopping;
   private WatchListener<T> listener;
@@ -76,6 +76,15 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
+  /**
+   * Replaces the tuning parameters for this watcher. They will apply to the next watch request.
+   *
+   * @param tuning Watch tuning parameters
+   */
+  void setTuning(WatchTuning tuning) {
+    this.tuning = tuning;
+  }
+
   /** Waits for this watcher's thread to exit. For unit testing only. */
   void waitForExit() {
     try {
@@ -5,7 +5,6 @@ package oracle.kubernetes.operator.builders;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
 import io.kubernetes.client.openapi.ApiClient;
@@ -20,7 +19,6 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import okhttp3.Call;
-import okhttp3.OkHttpClient;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.Pool;
 import oracle.kubernetes.weblogic.domain.api.WeblogicApi;
@@ -70,7 +68,7 @@ public class WatchBuilder {
    */
   public WatchI<V1Service> createServiceWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        ClientPool.getInstance(),
+        ClientPool.getWatchInstance(),
         callParams,
         V1Service.class,
         new ListNamespacedServiceCall(namespace));
@@ -85,7 +83,7 @@ public class WatchBuilder {
    */
   public WatchI<V1Pod> createPodWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        ClientPool.getInstance(), callParams, V1Pod.class, new ListPodCall(namespace));
+        ClientPool.getWatchInstance(), callParams, V1Pod.class, new ListPodCall(namespace));
   }
 
   /**
@@ -97,7 +95,7 @@ public class WatchBuilder {
    */
   public WatchI<V1Job> createJobWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        ClientPool.getInstance(), callParams, V1Job.class, new ListJobCall(namespace));
+        ClientPool.getWatchInstance(), callParams, V1Job.class, new ListJobCall(namespace));
   }
 
   /**
@@ -109,7 +107,7 @@ public class WatchBuilder {
    */
   public WatchI<V1Event> createEventWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        ClientPool.getInstance(), callParams, V1Event.class, new ListEventCall(namespace));
+        ClientPool.getWatchInstance(), callParams, V1Event.class, new ListEventCall(namespace));
   }
 
   /**
@@ -121,7 +119,7 @@ public class WatchBuilder {
    */
   public WatchI<Domain> createDomainWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        ClientPool.getInstance(), callParams, Domain.class, new ListDomainsCall(namespace));
+        ClientPool.getWatchInstance(), callParams, Domain.class, new ListDomainsCall(namespace));
   }
 
   /**
@@ -133,7 +131,7 @@ public class WatchBuilder {
    */
   public WatchI<V1ConfigMap> createConfigMapWatch(String namespace) throws ApiException {
     return FACTORY.createWatch(
-        ClientPool.getInstance(),
+        ClientPool.getWatchInstance(),
         callParams,
         V1ConfigMap.class,
         new ListNamespacedConfigMapCall(namespace));
@@ -147,7 +145,7 @@ public class WatchBuilder {
    */
   public WatchI<V1Namespace> createNamespacesWatch() throws ApiException {
     return FACTORY.createWatch(
-        ClientPool.getInstance(),
+        ClientPool.getWatchInstance(),
         callParams,
         V1Namespace.class,
         new ListNamespaceCall());
@@ -230,12 +228,6 @@ public class WatchBuilder {
 
     @Override
     public Call apply(ApiClient client, CallParams callParams) {
-      // Ensure that client doesn't time out before call or watch
-      // infinite timeout
-      OkHttpClient httpClient =
-          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
-      client.setHttpClient(httpClient);
-
       try {
         return new CoreV1Api(client)
             .listNamespacedServiceCall(
@@ -265,12 +257,6 @@ public class WatchBuilder {
 
     @Override
     public Call apply(ApiClient client, CallParams callParams) {
-      // Ensure that client doesn't time out before call or watch
-      // infinite timeout
-      OkHttpClient httpClient =
-          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
-      client.setHttpClient(httpClient);
-
       try {
         return new CoreV1Api(client)
             .listNamespacedPodCall(
@@ -300,12 +286,6 @@ public class WatchBuilder {
 
     @Override
     public Call apply(ApiClient client, CallParams callParams) {
-      // Ensure that client doesn't time out before call or watch
-      // infinite timeout
-      OkHttpClient httpClient =
-          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
-      client.setHttpClient(httpClient);
-
       try {
         return new BatchV1Api(client)
             .listNamespacedJobCall(
@@ -335,12 +315,6 @@ public class WatchBuilder {
 
     @Override
     public Call apply(ApiClient client, CallParams callParams) {
-      // Ensure that client doesn't time out before call or watch
-      // infinite timeout
-      OkHttpClient httpClient =
-          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
-      client.setHttpClient(httpClient);
-
       try {
         return new CoreV1Api(client)
             .listNamespacedEventCall(
@@ -370,12 +344,6 @@ public class WatchBuilder {
 
     @Override
     public Call apply(ApiClient client, CallParams callParams) {
-      // Ensure that client doesn't time out before call or watch
-      // infinite timeout
-      OkHttpClient httpClient =
-          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
-      client.setHttpClient(httpClient);
-
       try {
         return new WeblogicApi(client)
             .listNamespacedDomainCall(
@@ -404,12 +372,6 @@ public class WatchBuilder {
 
     @Override
     public Call apply(ApiClient client, CallParams callParams) {
-      // Ensure that client doesn't time out before call or watch
-      // infinite timeout
-      OkHttpClient httpClient =
-          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
-      client.setHttpClient(httpClient);
-
       try {
         return new CoreV1Api(client)
             .listNamespacedConfigMapCall(
@@ -434,12 +396,6 @@ public class WatchBuilder {
 
     @Override
     public Call apply(ApiClient client, CallParams callParams) {
-      // Ensure that client doesn't time out before call or watch
-      // infinite timeout
-      OkHttpClient httpClient =
-          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
-      client.setHttpClient(httpClient);
-
       try {
         return new CoreV1Api(client)
             .listNamespaceCall(
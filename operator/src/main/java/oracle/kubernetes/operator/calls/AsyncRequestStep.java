@@ -23,11 +23,14 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.tracing.ActiveSpan;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.Timeout;
 
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
 import static oracle.kubernetes.operator.calls.CallResponse.createFailure;
@@ -135,6 +138,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     final String cont;
     final AtomicBoolean didResume = new AtomicBoolean(false);
     final ApiClient client;
+    private volatile Timeout timeoutCheck;
+    private volatile ActiveSpan span = ActiveSpan.NONE;
 
     public AsyncRequestStepProcessing(Packet packet, RetryStrategy retry, String cont) {
       this.packet = packet;
@@ -152,6 +157,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // The Kubernetes request succeeded. Recycle the client, add the response to the packet, and proceed.
     void onSuccess(AsyncFiber fiber, T result, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        cancelTimeoutCheck();
+        span.tag("http.status_code", statusCode).end();
         if (LOGGER.isFinerEnabled()) {
           logSuccess(result, statusCode, responseHeaders);
         }
@@ -167,6 +174,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // add the failure into the packet and prepare to try again.
     void onFailure(AsyncFiber fiber, ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
       if (firstTimeResumed()) {
+        cancelTimeoutCheck();
+        span.tag("http.status_code", statusCode).tag("error", statusCode != CallBuilder.NOT_FOUND).end();
         if (statusCode != CallBuilder.NOT_FOUND && LOGGER.isFineEnabled()) {
           logFailure(ae, statusCode, responseHeaders);
         }
@@ -183,6 +192,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     // a callback within the timeout. So cancel the call and prepare to try again.
     private void handleTimeout(RequestParams requestParams, AsyncFiber fiber, CancellableCall cc) {
       if (firstTimeResumed()) {
+        span.tag("timeout", true).tag("error", true).end();
         try {
           cc.cancel();
         } finally {
@@ -198,13 +208,27 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
 
     // A throwable occurred while attempting to set up the call. So prepare to try again.
-    private void resumeAfterThrowable(AsyncFiber fiber) {
+    private void resumeAfterThrowable(AsyncFiber fiber, Throwable throwable) {
       if (firstTimeResumed()) {
+        span.tag("error", throwable.toString()).end();
         addResponseComponent(Component.createFor(RetryStrategy.class, retryStrategy));
         fiber.resume(packet);
       }
     }
 
+    // Each attempt at a call is recorded as a separate span, tagged with the number of retries which preceded it.
+    private void startSpan() {
+      span = Tracer.getInstance().startSpan("kubernetes " + requestParams.call, packet)
+          .tag("k8s.call", requestParams.call)
+          .tag("k8s.namespace", requestParams.namespace)
+          .tag("k8s.name", requestParams.name)
+          .tag("retry", getRetryCount());
+    }
+
+    private Long getRetryCount() {
+      return retryStrategy instanceof DefaultRetryStrategy ? ((DefaultRetryStrategy) retryStrategy).retryCount : null;
+    }
+
     private void addResponseComponent(Component component) {
       packet.getComponents().put(RESPONSE_COMPONENT_NAME, component);
     }
@@ -212,6 +236,17 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     private boolean firstTimeResumed() {
       return didResume.compareAndSet(false, true);
     }
+
+    // Timeout checks are almost always cancelled, as the response usually arrives in time. If the response
+    // arrives before the check is scheduled, the check will find the processing already resumed.
+    private void scheduleTimeoutCheck(AsyncFiber fiber, CancellableCall cc) {
+      timeoutCheck = fiber.scheduleTimeout(timeoutSeconds, TimeUnit.SECONDS,
+          () -> handleTimeout(requestParams, fiber, cc));
+    }
+
+    private void cancelTimeoutCheck() {
+      Optional.ofNullable(timeoutCheck).ifPresent(Timeout::cancel);
+    }
   }
 
   @Override
@@ -250,23 +285,19 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     return doSuspend(
         (fiber) -> {
           try {
+            processing.startSpan();
             CancellableCall cc = processing.createCall(fiber);
-            scheduleTimeoutCheck(fiber, timeoutSeconds, () -> processing.handleTimeout(requestParams, fiber, cc));
+            processing.scheduleTimeoutCheck(fiber, cc);
           } catch (ApiException t) {
             logAsyncFailure(t, t.getResponseBody());
-            processing.resumeAfterThrowable(fiber);
+            processing.resumeAfterThrowable(fiber, t);
           } catch (Throwable t) {
             logAsyncFailure(t, "");
-            processing.resumeAfterThrowable(fiber);
+            processing.resumeAfterThrowable(fiber, t);
           }
         });
   }
 
-  // Schedule the timeout check to happen on the fiber at some number of seconds in the future.
-  private void scheduleTimeoutCheck(AsyncFiber fiber, int timeoutSeconds, Runnable timeoutCheck) {
-    fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, timeoutCheck);
-  }
-
   private void logAsyncRequest() {
     LOGGER.finer(
         MessageKeys.ASYNC_REQUEST,
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,6 +23,7 @@ import io.kubernetes.client.openapi.apis.ApiextensionsV1beta1Api;
 import io.kubernetes.client.openapi.apis.AuthenticationV1Api;
 import io.kubernetes.client.openapi.apis.AuthorizationV1Api;
 import io.kubernetes.client.openapi.apis.BatchV1Api;
+import io.kubernetes.client.openapi.apis.CoordinationV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.apis.VersionApi;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
@@ -30,6 +32,7 @@ import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Lease;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1PersistentVolume;
@@ -69,6 +72,16 @@ public class CallBuilder {
   /** HTTP status code for "Not Found". */
   public static final int NOT_FOUND = 404;
 
+  /** The tuning parameter which, when "true", selects server-side apply for the resources which support it. */
+  public static final String SERVER_SIDE_APPLY_PARAM = "serverSideApply";
+
+  /** The field manager under which the operator applies resources. */
+  public static final String FIELD_MANAGER = "weblogic-operator";
+
+  private static final String APPLY_PATCH_CONTENT_TYPE = "application/apply-patch+yaml";
+  private static final String PARTIAL_OBJECT_METADATA_TYPE =
+        "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1";
+
   private static final SynchronousCallDispatcher DEFAULT_DISPATCHER =
       new SynchronousCallDispatcher() {
         @Override
@@ -189,6 +202,18 @@ public class CallBuilder {
           wrap(
               createServiceAsync(
                   usage, requestParams.namespace, (V1Service) requestParams.body, callback));
+  private final CallFactory<V1Service> applyService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyAsync(
+                  usage, getServicePath(requestParams.namespace, requestParams.name), requestParams.body,
+                  V1Service.class, callback));
+  private final CallFactory<V1ConfigMap> applyConfigmap =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              applyAsync(
+                  usage, getConfigMapPath(requestParams.namespace, requestParams.name), requestParams.body,
+                  V1ConfigMap.class, callback));
   private final CallFactory<V1PersistentVolume> createPersistentvolume =
       ((requestParams, client, cont, callback) ->
           wrap(
@@ -284,6 +309,10 @@ public class CallBuilder {
   private final CallFactory<V1ConfigMap> readConfigmap =
       (requestParams, usage, cont, callback) ->
           wrap(readConfigMapAsync(usage, requestParams.name, requestParams.namespace, callback));
+  private final CallFactory<V1ConfigMap> readConfigmapMetadata =
+      (requestParams, usage, cont, callback) ->
+          wrap(readMetadataAsync(
+                usage, getConfigMapPath(requestParams.namespace, requestParams.name), V1ConfigMap.class, callback));
   private final CallFactory<V1Pod> readPod =
       (requestParams, usage, cont, callback) ->
           wrap(readPodAsync(usage, requestParams.name, requestParams.namespace, callback));
@@ -377,6 +406,10 @@ public class CallBuilder {
                   resourceVersion,
                   timeoutSeconds,
                   watch);
+  private final SynchronousCallFactory<Domain> readDomainCall =
+      (client, requestParams) ->
+          new WeblogicApi(client)
+              .getNamespacedDomain(requestParams.name, requestParams.namespace);
   private final SynchronousCallFactory<Domain> replaceDomainCall =
       (client, requestParams) ->
           new WeblogicApi(client)
@@ -446,6 +479,19 @@ public class CallBuilder {
       (client, requestParams) ->
           new AuthenticationV1Api(client)
               .createTokenReview((V1TokenReview) requestParams.body, null, null, pretty);
+  private final SynchronousCallFactory<V1Lease> readLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .readNamespacedLease(requestParams.name, requestParams.namespace, pretty, exact, export);
+  private final SynchronousCallFactory<V1Lease> createLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .createNamespacedLease(requestParams.namespace, (V1Lease) requestParams.body, pretty, dryRun, null);
+  private final SynchronousCallFactory<V1Lease> replaceLeaseCall =
+      (client, requestParams) ->
+          new CoordinationV1Api(client)
+              .replaceNamespacedLease(
+                  requestParams.name, requestParams.namespace, (V1Lease) requestParams.body, pretty, dryRun, null);
 
   public CallBuilder() {
     this(getCallBuilderTuning(), ClientPool.getInstance());
@@ -496,6 +542,17 @@ public class CallBuilder {
     STEP_FACTORY = DEFAULT_STEP_FACTORY;
   }
 
+  /**
+   * Returns true if the resources which support it are to be applied server-side.
+   * @return true if the server-side apply tuning parameter is set
+   */
+  public static boolean isServerSideApplyEnabled() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.get(SERVER_SIDE_APPLY_PARAM))
+          .map("true"::equalsIgnoreCase)
+          .orElse(false);
+  }
+
   public CallBuilder withLabelSelectors(String... selectors) {
     this.labelSelector = String.join(",", selectors);
     return this;
@@ -618,6 +675,19 @@ public class CallBuilder {
         responseStep, new RequestParams("listDomain", namespace, null, null), listDomain);
   }
 
+  /**
+   * Read domain.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @return Read domain
+   * @throws ApiException API exception
+   */
+  public Domain readDomain(String name, String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("readDomain", namespace, name, null);
+    return executeSynchronousCall(requestParams, readDomainCall);
+  }
+
   private Call readDomainAsync(
       ApiClient client, String name, String namespace, ApiCallback<Domain> callback)
       throws ApiException {
@@ -932,6 +1002,21 @@ public class CallBuilder {
         responseStep, new RequestParams("readConfigMap", namespace, name, null), readConfigmap);
   }
 
+  /**
+   * Asynchronous step for reading only the metadata of a config map, without its data. The result is a
+   * config map whose data and binary data are null.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step readConfigMapMetadataAsync(
+      String name, String namespace, ResponseStep<V1ConfigMap> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("readConfigMapMetadata", namespace, name, null), readConfigmapMetadata);
+  }
+
   private Call createConfigMapAsync(
       ApiClient client, String namespace, V1ConfigMap body, ApiCallback<V1ConfigMap> callback)
       throws ApiException {
@@ -953,6 +1038,26 @@ public class CallBuilder {
         responseStep, new RequestParams("createConfigMap", namespace, null, body), createConfigmap);
   }
 
+  /**
+   * Asynchronous step for applying a config map server-side, creating it or updating the fields which the operator
+   * manages, without first reading it.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body, which must include the kind and API version
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyConfigMapAsync(
+      String name, String namespace, V1ConfigMap body, ResponseStep<V1ConfigMap> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("applyConfigMap", namespace, name, body), applyConfigmap);
+  }
+
+  private String getConfigMapPath(String namespace, String name) {
+    return String.format("/api/v1/namespaces/%s/configmaps/%s", namespace, name);
+  }
+
   private Call deleteConfigMapAsync(
       ApiClient client,
       String name,
@@ -1488,6 +1593,58 @@ public class CallBuilder {
         responseStep, new RequestParams("createService", namespace, null, body), createService);
   }
 
+  /**
+   * Asynchronous step for applying a service server-side, creating it or updating the fields which the operator
+   * manages, without first reading it.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body, which must include the kind and API version
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step applyServiceAsync(
+      String name, String namespace, V1Service body, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("applyService", namespace, name, body), applyService);
+  }
+
+  private String getServicePath(String namespace, String name) {
+    return String.format("/api/v1/namespaces/%s/services/%s", namespace, name);
+  }
+
+  // Sends an apply patch, as the client's generated patch calls cannot select its content type. The operator
+  // forces its changes, taking ownership of any conflicting fields, as it is the authority for these resources.
+  private <T> Call applyAsync(ApiClient client, String path, Object body, Type returnType, ApiCallback<T> callback)
+      throws ApiException {
+    List<Pair> localVarQueryParams = new ArrayList<>();
+    localVarQueryParams.addAll(client.parameterToPair("fieldManager", FIELD_MANAGER));
+    localVarQueryParams.addAll(client.parameterToPair("force", Boolean.TRUE));
+
+    Map<String, String> localVarHeaderParams = new HashMap<>();
+    localVarHeaderParams.put("Accept", client.selectHeaderAccept(new String[] {"application/json"}));
+    localVarHeaderParams.put("Content-Type", APPLY_PATCH_CONTENT_TYPE);
+    byte[] localVarBody = client.getJSON().serialize(body).getBytes(StandardCharsets.UTF_8);
+
+    Call localVarCall = client.buildCall(path, "PATCH", localVarQueryParams, new ArrayList<>(), localVarBody,
+          localVarHeaderParams, new HashMap<>(), new HashMap<>(), new String[] {"BearerToken"}, callback);
+    client.executeAsync(localVarCall, returnType, callback);
+    return localVarCall;
+  }
+
+  // Reads only the metadata of a resource, which the client's generated read calls cannot request. Servers which
+  // do not support partial metadata will return the entire resource instead.
+  private <T> Call readMetadataAsync(ApiClient client, String path, Type returnType, ApiCallback<T> callback)
+      throws ApiException {
+    Map<String, String> localVarHeaderParams = new HashMap<>();
+    localVarHeaderParams.put("Accept", PARTIAL_OBJECT_METADATA_TYPE + ",application/json");
+
+    Call localVarCall = client.buildCall(path, "GET", new ArrayList<>(), new ArrayList<>(), null,
+          localVarHeaderParams, new HashMap<>(), new HashMap<>(), new String[] {"BearerToken"}, callback);
+    client.executeAsync(localVarCall, returnType, callback);
+    return localVarCall;
+  }
+
   /**
    * Delete service.
    *
@@ -1831,6 +1988,48 @@ public class CallBuilder {
     return executeSynchronousCall(requestParams, createTokenReviewCall);
   }
 
+  /* Leases */
+
+  /**
+   * Read lease.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @return Read lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease readLease(String name, String namespace) throws ApiException {
+    RequestParams requestParams = new RequestParams("readLease", namespace, name, null);
+    return executeSynchronousCall(requestParams, readLeaseCall);
+  }
+
+  /**
+   * Create lease.
+   *
+   * @param namespace Namespace
+   * @param body Body
+   * @return Created lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease createLease(String namespace, V1Lease body) throws ApiException {
+    RequestParams requestParams = new RequestParams("createLease", namespace, null, body);
+    return executeSynchronousCall(requestParams, createLeaseCall);
+  }
+
+  /**
+   * Replace lease. Fails with a conflict if the lease has changed since the body was read.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body
+   * @return Replaced lease
+   * @throws ApiException API Exception
+   */
+  public V1Lease replaceLease(String name, String namespace, V1Lease body) throws ApiException {
+    RequestParams requestParams = new RequestParams("replaceLease", namespace, name, body);
+    return executeSynchronousCall(requestParams, replaceLeaseCall);
+  }
+
   public Step readPodLogAsync(String name, String namespace, ResponseStep<String> responseStep) {
     return createRequestAsync(
         responseStep, new RequestParams("readPodLog", namespace, name, null), readPodLog);
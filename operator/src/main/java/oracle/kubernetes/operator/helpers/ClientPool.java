@@ -4,36 +4,77 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.util.ClientBuilder;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
+import okhttp3.EventListener;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 
+/**
+ * Supplies the clients used to call the Kubernetes API server. Short calls and long-running watches
+ * use separate clients, each with its own connection pool, so that connection reuse can be tuned for each.
+ * Both negotiate HTTP/2 with the API server, which lets all calls, or all watches, share a single multiplexed
+ * connection, so that the number of sockets does not grow with the number of namespaces being watched.
+ */
 public class ClientPool extends Pool<ApiClient> {
+  static final String HTTP2_ENABLED = "http2Enabled";
+  static final String MAX_REQUESTS_PER_HOST = "maxRequestsPerHost";
+  static final String CALL_MAX_IDLE_CONNECTIONS = "callMaxIdleConnections";
+  static final String CALL_KEEP_ALIVE_SECONDS = "callConnectionKeepAliveSeconds";
+  static final String WATCH_MAX_IDLE_CONNECTIONS = "watchMaxIdleConnections";
+  static final String WATCH_KEEP_ALIVE_SECONDS = "watchConnectionKeepAliveSeconds";
+  static final String WATCH_PING_INTERVAL_SECONDS = "watchPingIntervalSeconds";
+
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_CALL_TIMEOUT_SECONDS = 10;
   private static ClientFactory FACTORY = new DefaultClientFactory();
   private static ClientPool SINGLETON = new ClientPool();
+  private static ClientPool WATCH_SINGLETON = new ClientPool(Usage.WATCHES);
   private static ThreadFactory threadFactory;
   private final AtomicBoolean isFirst = new AtomicBoolean(true);
+  private final Usage usage;
+  private final ConnectionCounter connectionCounter = new ConnectionCounter();
 
   // With OKHttp3, each client has it's own connection pool, so instance will be shared
   private final AtomicReference<ApiClient> instance = new AtomicReference<>();
 
+  public ClientPool() {
+    this(Usage.CALLS);
+  }
+
+  ClientPool(Usage usage) {
+    this.usage = usage;
+  }
+
   public static void initialize(ThreadFactory threadFactory) {
     ClientPool.threadFactory = threadFactory;
   }
@@ -56,6 +97,46 @@ public class ClientPool extends Pool<ApiClient> {
     return SINGLETON;
   }
 
+  /**
+   * Returns the pool of clients to be used for watches. Their calls never time out on reads,
+   * and send HTTP/2 pings to detect connections which have silently failed.
+   * @return a client pool
+   */
+  public static ClientPool getWatchInstance() {
+    return WATCH_SINGLETON;
+  }
+
+  /**
+   * Logs the number of connections held by the call and watch clients.
+   */
+  public static void reportConnections() {
+    LOGGER.fine(MessageKeys.API_CONNECTIONS,
+          SINGLETON.getConnectionCount(), SINGLETON.getIdleConnectionCount(),
+          WATCH_SINGLETON.getConnectionCount(), WATCH_SINGLETON.getIdleConnectionCount(),
+          SINGLETON.connectionCounter.getOpenedByProtocol(),
+          WATCH_SINGLETON.connectionCounter.getOpenedByProtocol());
+  }
+
+  /**
+   * Returns the number of open connections held by this pool's client.
+   * @return a count of connections, both active and idle
+   */
+  public int getConnectionCount() {
+    return getConnectionPool().map(ConnectionPool::connectionCount).orElse(0);
+  }
+
+  /**
+   * Returns the number of idle connections held by this pool's client.
+   * @return a count of connections
+   */
+  public int getIdleConnectionCount() {
+    return getConnectionPool().map(ConnectionPool::idleConnectionCount).orElse(0);
+  }
+
+  private Optional<ConnectionPool> getConnectionPool() {
+    return Optional.ofNullable(instance.get()).map(ApiClient::getHttpClient).map(OkHttpClient::connectionPool);
+  }
+
   @Override
   protected ApiClient create() {
     // We no longer need this connection pooling because OkHttp 3 now supports
@@ -64,10 +145,53 @@ public class ClientPool extends Pool<ApiClient> {
     // HTTP client, which was single threaded.
     // Disable pooling and always return the same instance
     return instance.updateAndGet(prev -> {
-      return prev != null ? prev : getApiClient();
+      return prev != null ? prev : configure(getApiClient());
     });
   }
 
+  private ApiClient configure(ApiClient client) {
+    if (client != null) {
+      OkHttpClient.Builder builder = client.getHttpClient().newBuilder()
+            .protocols(getProtocols())
+            .eventListener(connectionCounter);
+      usage.configure(builder, client.getHttpClient().dispatcher());
+      client.setHttpClient(builder.build());
+    }
+    return client;
+  }
+
+  private static List<Protocol> getProtocols() {
+    if (Boolean.parseBoolean(getTuningParameter(HTTP2_ENABLED).orElse("true"))) {
+      return Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+    } else {
+      return Collections.singletonList(Protocol.HTTP_1_1);
+    }
+  }
+
+  private static Optional<String> getTuningParameter(String name) {
+    return Optional.ofNullable(TuningParameters.getInstance()).map(parameters -> parameters.get(name));
+  }
+
+  private static int getIntTuningParameter(String name, int defaultValue) {
+    try {
+      return getTuningParameter(name).map(String::trim).map(Integer::parseInt).orElse(defaultValue);
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static int getCallTimeoutSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getCallBuilderTuning)
+          .map(tuning -> tuning.callTimeoutSeconds)
+          .orElse(DEFAULT_CALL_TIMEOUT_SECONDS);
+  }
+
+  private static ConnectionPool createConnectionPool(String maxIdleName, String keepAliveName) {
+    return new ConnectionPool(
+          getIntTuningParameter(maxIdleName, 5), getIntTuningParameter(keepAliveName, 300), TimeUnit.SECONDS);
+  }
+
   private ApiClient getApiClient() {
     LOGGER.entering();
 
@@ -96,6 +220,50 @@ public class ClientPool extends Pool<ApiClient> {
     return client;
   }
 
+  enum Usage {
+    // Reads are limited by the call timeout, so that a synchronous call cannot wait forever on a stalled response.
+    // With HTTP/2, requests are multiplexed over a single connection, so many may run at once.
+    CALLS {
+      @Override
+      void configure(OkHttpClient.Builder builder, Dispatcher dispatcher) {
+        builder
+              .connectionPool(createConnectionPool(CALL_MAX_IDLE_CONNECTIONS, CALL_KEEP_ALIVE_SECONDS))
+              .readTimeout(getCallTimeoutSeconds(), TimeUnit.SECONDS);
+        dispatcher.setMaxRequestsPerHost(getIntTuningParameter(MAX_REQUESTS_PER_HOST, dispatcher.getMaxRequests()));
+      }
+    },
+    // Watches hold their streams open indefinitely, and are closed by the server.
+    WATCHES {
+      @Override
+      void configure(OkHttpClient.Builder builder, Dispatcher dispatcher) {
+        builder
+              .connectionPool(createConnectionPool(WATCH_MAX_IDLE_CONNECTIONS, WATCH_KEEP_ALIVE_SECONDS))
+              .readTimeout(0, TimeUnit.SECONDS)
+              .pingInterval(getIntTuningParameter(WATCH_PING_INTERVAL_SECONDS, 30), TimeUnit.SECONDS);
+      }
+    };
+
+    abstract void configure(OkHttpClient.Builder builder, Dispatcher dispatcher);
+  }
+
+  /** Counts the connections opened by a client, by the protocol negotiated for each. */
+  private static class ConnectionCounter extends EventListener {
+    private final Map<Protocol, AtomicInteger> opened = new ConcurrentHashMap<>();
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress address, Proxy proxy, Protocol protocol) {
+      if (protocol != null) {
+        opened.computeIfAbsent(protocol, p -> new AtomicInteger()).incrementAndGet();
+      }
+    }
+
+    Map<Protocol, Integer> getOpenedByProtocol() {
+      Map<Protocol, Integer> result = new TreeMap<>();
+      opened.forEach((protocol, count) -> result.put(protocol, count.get()));
+      return result;
+    }
+  }
+
   private static class DefaultClientFactory implements ClientFactory {
     private final AtomicBoolean first = new AtomicBoolean(true);
 
@@ -5,7 +5,11 @@ package oracle.kubernetes.operator.helpers;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -13,24 +17,36 @@ import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
 
 /**
  * Kubernetes mounts ConfigMaps in the Pod's file-system as directories where the contained files
  * are named with the keys and the contents of the file are the values. This class assists with
- * parsing this data and representing it as a Map.
+ * parsing this data and representing it as a Map. Changes to the directory are detected by a file system
+ * watch, so that updates to the ConfigMap are applied within moments of Kubernetes writing them; the
+ * directory is also polled periodically, in case the file system does not report changes.
  */
 public class ConfigMapConsumer implements Map<String, String> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  // Kubernetes updates a mounted ConfigMap by replacing several directory entries; wait for it to finish.
+  private static final long UPDATE_SETTLE_MILLIS = 100;
+
   private final File mountPointDir;
   private final ScheduledExecutorService threadPool;
   private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>(null);
   private final Runnable onUpdate;
+  private final AtomicBoolean updatePending = new AtomicBoolean(false);
 
   /**
    * Construct config map consumer.
@@ -45,9 +61,49 @@ public class ConfigMapConsumer implements Map<String, String> {
     this.onUpdate = onUpdate;
     if (mountPointDir.exists()) {
       schedule();
+      startWatching();
     }
   }
 
+  private void startWatching() {
+    try {
+      Path directory = mountPointDir.toPath();
+      WatchService watchService = directory.getFileSystem().newWatchService();
+      directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+      Thread thread = ThreadFactorySingleton.getInstance().newThread(() -> watchForChanges(watchService));
+      thread.setName("config-map-watcher-" + mountPointDir.getName());
+      thread.start();
+    } catch (IOException | UnsupportedOperationException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private void watchForChanges(WatchService watchService) {
+    try (WatchService service = watchService) {
+      WatchKey key;
+      do {
+        key = service.take();
+        key.pollEvents();
+        scheduleUpdate();
+      } while (key.reset());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException | ClosedWatchServiceException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private void scheduleUpdate() {
+    if (updatePending.compareAndSet(false, true)) {
+      threadPool.schedule(this::runUpdate, UPDATE_SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void runUpdate() {
+    updatePending.set(false);
+    onUpdate.run();
+  }
+
   private void schedule() {
     long initialDelay = readTuningParameter("configMapUpdateInitialDelay", 3);
     long delay = readTuningParameter("configMapUpdateDelay", 10);
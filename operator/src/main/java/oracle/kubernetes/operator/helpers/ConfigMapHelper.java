@@ -3,8 +3,6 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.io.BufferedReader;
-import java.io.IOException;
 import java.io.StringReader;
 import java.util.Collections;
 import java.util.HashMap;
@@ -12,8 +10,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObjectBuilder;
 import javax.json.JsonPatchBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonString;
 import javax.json.JsonValue;
 import javax.validation.constraints.NotNull;
 
@@ -38,6 +43,7 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.joda.time.DateTime;
 
@@ -50,6 +56,7 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.SIT_CONFIG_FI
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_VALIDATION_ERRORS;
+import static oracle.kubernetes.operator.helpers.IntrospectionInputs.INPUTS_HASH_ANNOTATION;
 
 public class ConfigMapHelper {
 
@@ -58,6 +65,13 @@ public class ConfigMapHelper {
   private static final String SCRIPT_LOCATION = "/scripts";
   private static final ConfigMapComparator COMPARATOR = new ConfigMapComparatorImpl();
 
+  /** The entries of the introspector config map which the operator reads. */
+  private static final List<String> OPERATOR_ENTRIES = List.of(IntrospectorConfigMapKeys.TOPOLOGY_YAML,
+        SECRETS_MD_5, DOMAINZIP_HASH, DOMAIN_RESTART_VERSION, DOMAIN_INPUTS_HASH);
+
+  /** An annotation on operator-generated config maps, recording a hash of each data entry. */
+  static final String DATA_HASHES_ANNOTATION = "weblogic.dataHashes";
+
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
 
   private ConfigMapHelper() {
@@ -78,57 +92,6 @@ public class ConfigMapHelper {
     return scriptReader;
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
-    Map<String, String> map = new HashMap<>();
-    String token = ">>>  updatedomainResult=";
-
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.contains(token)) {
-          int index = line.indexOf(token);
-          int beg = index + 1 + token.length();
-          map.put("UPDATEDOMAINRESULT", line.substring(beg - 1));
-        }
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUid);
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, exc);
-    }
-
-    return map;
-  }
-
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUid) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString().trim());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUid, ioe);
-    }
-  }
-
-  static String extractFilename(String line) {
-    int lastSlash = line.lastIndexOf('/');
-    return line.substring(lastSlash + 1);
-  }
-
   /**
    * getModelInImageSpecHash returns the hash for the fields that should be compared for changes.
    *
@@ -150,16 +113,52 @@ public class ConfigMapHelper {
     return domainUid + KubernetesConstants.INTROSPECTOR_CONFIG_MAP_NAME_SUFFIX;
   }
 
+  /**
+   * Compares the data in config maps. The maps passed to the comparator contain, for each key in the config map data,
+   * a hash of its value rather than the value itself.
+   */
   abstract static class ConfigMapComparator {
-    boolean containsAll(V1ConfigMap actual, V1ConfigMap expected) {
-      return containsAllData(getData(actual), getData(expected));
+    abstract boolean containsAllData(Map<String, String> actual, Map<String, String> expected);
+  }
+
+  static Map<String, String> computeDataHashes(Map<String, String> data) {
+    Map<String, String> result = new HashMap<>();
+    Optional.ofNullable(data).ifPresent(d -> d.forEach((key, value) -> result.put(key, hash(value))));
+    return result;
+  }
+
+  private static String hash(String value) {
+    return DigestUtils.sha256Hex(Optional.ofNullable(value).orElse(""));
+  }
+
+  // Returns the data hashes recorded as an annotation on the specified map, or an empty map if there are none.
+  static Map<String, String> getRecordedDataHashes(V1ConfigMap map) {
+    String annotation = Optional.ofNullable(map.getMetadata())
+          .map(V1ObjectMeta::getAnnotations)
+          .map(a -> a.get(DATA_HASHES_ANNOTATION))
+          .orElse(null);
+    if (annotation == null) {
+      return Collections.emptyMap();
     }
 
-    private Map<String,String> getData(V1ConfigMap map) {
-      return Optional.ofNullable(map).map(V1ConfigMap::getData).orElse(Collections.emptyMap());
+    try (JsonReader reader = Json.createReader(new StringReader(annotation))) {
+      Map<String, String> result = new HashMap<>();
+      reader.readObject().forEach((key, value) -> result.put(key, ((JsonString) value).getString()));
+      return result;
+    } catch (JsonException | ClassCastException e) {
+      return Collections.emptyMap();
     }
+  }
 
-    abstract boolean containsAllData(Map<String, String> actual, Map<String, String> expected);
+  static String toAnnotationValue(Map<String, String> dataHashes) {
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    new TreeMap<>(dataHashes).forEach(builder::add);
+    return builder.build().toString();
+  }
+
+  // Escapes a config map key for use in a JSON pointer, as described in RFC 6901.
+  private static String toPointerToken(String key) {
+    return key.replace("~", "~0").replace("/", "~1");
   }
 
   static class ScriptConfigMapStep extends Step {
@@ -189,6 +188,12 @@ public class ConfigMapHelper {
       return scripts;
     }
 
+    // The script map is always written in its entirety, so that it can be applied without first being read.
+    @Override
+    Step verifyConfigMap(Step next) {
+      return CallBuilder.isServerSideApplyEnabled() ? applyConfigMap(next) : super.verifyConfigMap(next);
+    }
+
     @Override
     void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
       packet.put(ProcessingConstants.SCRIPT_CONFIG_MAP, configMap);
@@ -204,6 +209,8 @@ public class ConfigMapHelper {
     private final String namespace;
     private V1ConfigMap model;
     private final Map<String, String> labels = new HashMap<>();
+    private final Map<String, String> annotations = new HashMap<>();
+    private Map<String, String> expectedDataHashes;
 
     ConfigMapContext(Step conflictStep, String name, String namespace, Map<String, String> contents,
                      DomainPresenceInfo info) {
@@ -237,15 +244,22 @@ public class ConfigMapHelper {
     }
 
     protected final V1ConfigMap createModel(Map<String, String> data) {
-      return new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata()).data(data);
+      return new V1ConfigMap().kind("ConfigMap").apiVersion("v1").metadata(createMetadata(data)).data(data);
     }
 
-    private V1ObjectMeta createMetadata() {
+    private V1ObjectMeta createMetadata(Map<String, String> data) {
       return updateForOwnerReference(
           new V1ObjectMeta()
           .name(name)
           .namespace(namespace)
-          .labels(labels));
+          .labels(labels)
+          .annotations(createAnnotations(data)));
+    }
+
+    private Map<String, String> createAnnotations(Map<String, String> data) {
+      Map<String, String> result = new HashMap<>(annotations);
+      result.put(DATA_HASHES_ANNOTATION, toAnnotationValue(computeDataHashes(data)));
+      return result;
     }
 
     @SuppressWarnings("SameParameterValue")
@@ -254,10 +268,19 @@ public class ConfigMapHelper {
       model = null;
     }
 
+    void addAnnotation(String name, String value) {
+      annotations.put(name, value);
+      model = null;
+    }
+
     private Map<String,String> getLabels() {
       return Collections.unmodifiableMap(labels);
     }
 
+    private Map<String,String> getAnnotations() {
+      return Collections.unmodifiableMap(annotations);
+    }
+
     /**
      * Creates the step which begins verifying or updating the config map.
      * @param next the step to run after the config map processing is done
@@ -272,8 +295,63 @@ public class ConfigMapHelper {
           .createConfigMapAsync(namespace, getModel(), createCreateResponseStep(next));
     }
 
+    /**
+     * Creates or updates the config map with a single call, leaving conflicts to the API server. Suitable only
+     * for maps whose contents are complete, as entries previously applied by the operator will be removed.
+     * @param next the step to run after the config map is applied
+     * @return the new step to run
+     */
+    Step applyConfigMap(Step next) {
+      return new CallBuilder().applyConfigMapAsync(getName(), namespace, getModel(), new ApplyResponseStep(next));
+    }
+
     boolean isIncompatibleMap(V1ConfigMap existingMap) {
-      return !COMPARATOR.containsAll(existingMap, getModel());
+      return !COMPARATOR.containsAllData(getDataHashes(existingMap), getExpectedDataHashes());
+    }
+
+    // Returns the hashes of the desired contents, computing them only once per context.
+    private Map<String, String> getExpectedDataHashes() {
+      if (expectedDataHashes == null) {
+        expectedDataHashes = computeDataHashes(contents);
+      }
+      return expectedDataHashes;
+    }
+
+    // Returns the hashes of the entries in the specified map. When the hashes recorded in the map's annotation
+    // cover every entry, they are used as-is, so that an unchanged map is verified without hashing its contents.
+    // The data is hashed only when the annotation is missing, or stale because entries were added outside of
+    // the operator. An entry whose value alone is edited outside of the operator is not detected.
+    private Map<String, String> getDataHashes(V1ConfigMap map) {
+      Map<String, String> recorded = getRecordedDataHashes(map);
+      Map<String, String> data = map.getData();
+      if (data == null) {
+        return new HashMap<>(recorded);
+      } else if (recorded.keySet().containsAll(data.keySet())) {
+        return recordedHashesFor(recorded, data.keySet());
+      } else {
+        return computeDataHashes(data);
+      }
+    }
+
+    private Map<String, String> recordedHashesFor(Map<String, String> recorded, Set<String> keys) {
+      Map<String, String> result = new HashMap<>();
+      keys.forEach(key -> result.put(key, recorded.get(key)));
+      return result;
+    }
+
+    private List<String> getRemovedKeys(V1ConfigMap existingMap) {
+      return Optional.ofNullable(existingMap.getData()).orElse(Collections.emptyMap()).entrySet().stream()
+            .filter(this::shouldRemove)
+            .map(Map.Entry::getKey)
+            .filter(key -> !contents.containsKey(key))
+            .collect(Collectors.toList());
+    }
+
+    private List<String> getChangedKeys(Map<String, String> currentHashes) {
+      return getExpectedDataHashes().entrySet().stream()
+            .filter(entry -> !entry.getValue().equals(currentHashes.get(entry.getKey())))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
     }
 
     V1ConfigMap withoutTransientData(V1ConfigMap originalMap) {
@@ -301,13 +379,20 @@ public class ConfigMapHelper {
       public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
         DomainPresenceInfo.fromPacket(packet).map(DomainPresenceInfo::getDomain).map(Domain::getIntrospectVersion)
               .ifPresent(value -> addLabel(INTROSPECTION_STATE_LABEL, value));
-        V1ConfigMap existingMap = withoutTransientData(callResponse.getResult());
+        V1ConfigMap existingMap = callResponse.getResult();
         if (existingMap == null) {
           return doNext(createConfigMap(getNext()), packet);
-        } else if (isIncompatibleMap(existingMap)) {
+        } else if (existingMap.getData() == null) {
           return doNext(updateConfigMap(getNext(), existingMap), packet);
+        }
+
+        List<String> removedKeys = getRemovedKeys(existingMap);
+        withoutTransientData(existingMap);
+        if (!removedKeys.isEmpty() || isIncompatibleMap(existingMap)) {
+          return doNext(patchCurrentMap(existingMap, removedKeys, getChangedKeys(getDataHashes(existingMap)),
+                getNext()), packet);
         } else if (mustPatchCurrentMap(existingMap)) {
-          return doNext(patchCurrentMap(existingMap, getNext()), packet);
+          return doNext(patchCurrentMap(existingMap, removedKeys, Collections.emptyList(), getNext()), packet);
         } else {
           logConfigMapExists();
           recordCurrentMap(packet, existingMap);
@@ -331,14 +416,24 @@ public class ConfigMapHelper {
       }
 
       private boolean mustPatchCurrentMap(V1ConfigMap currentMap) {
-        return KubernetesUtils.isMissingValues(getMapLabels(currentMap), getLabels());
+        return KubernetesUtils.isMissingValues(getMapLabels(currentMap), getLabels())
+            || KubernetesUtils.isMissingValues(getMapAnnotations(currentMap), getAnnotations());
       }
 
       private Map<String, String> getMapLabels(@NotNull V1ConfigMap map) {
         return Optional.ofNullable(map.getMetadata()).map(V1ObjectMeta::getLabels).orElseGet(Collections::emptyMap);
       }
 
-      private Step patchCurrentMap(V1ConfigMap currentMap, Step next) {
+      private Map<String, String> getMapAnnotations(@NotNull V1ConfigMap map) {
+        return Optional.ofNullable(map.getMetadata())
+              .map(V1ObjectMeta::getAnnotations)
+              .orElseGet(Collections::emptyMap);
+      }
+
+      // Creates a patch which updates only those data entries which have changed, along with the labels and
+      // annotations, rather than sending the entire contents of the map.
+      private Step patchCurrentMap(V1ConfigMap currentMap, List<String> removedKeys, List<String> changedKeys,
+                                   Step next) {
         JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
 
         if (labelsNotDefined(currentMap)) {
@@ -348,18 +443,41 @@ public class ConfigMapHelper {
         KubernetesUtils.addPatches(
             patchBuilder, "/metadata/labels/", getMapLabels(currentMap), getLabels());
 
+        if (annotationsNotDefined(currentMap)) {
+          patchBuilder.add("/metadata/annotations", JsonValue.EMPTY_JSON_OBJECT);
+        }
+
+        KubernetesUtils.addPatches(
+            patchBuilder, "/metadata/annotations/", getMapAnnotations(currentMap), getAnnotations());
+
+        removedKeys.forEach(key -> patchBuilder.remove("/data/" + toPointerToken(key)));
+        changedKeys.forEach(key -> patchBuilder.add("/data/" + toPointerToken(key), contents.get(key)));
+        patchBuilder.add("/metadata/annotations/" + DATA_HASHES_ANNOTATION,
+              toAnnotationValue(getPatchedDataHashes(currentMap)));
+
         return new CallBuilder()
             .patchConfigMapAsync(name, namespace,
                 new V1Patch(patchBuilder.build().toString()), createPatchResponseStep(next));
       }
 
+      // The current map must have had its transient data removed before this is called.
+      private Map<String, String> getPatchedDataHashes(V1ConfigMap currentMap) {
+        Map<String, String> result = getDataHashes(currentMap);
+        result.putAll(getExpectedDataHashes());
+        return result;
+      }
+
       private boolean labelsNotDefined(V1ConfigMap currentMap) {
         return Objects.requireNonNull(currentMap.getMetadata()).getLabels() == null;
       }
+
+      private boolean annotationsNotDefined(V1ConfigMap currentMap) {
+        return Objects.requireNonNull(currentMap.getMetadata()).getAnnotations() == null;
+      }
     }
 
     private Map<String, String> getCombinedData(V1ConfigMap existingConfigMap) {
-      Map<String, String> updated = Objects.requireNonNull(existingConfigMap.getData());
+      Map<String, String> updated = Optional.ofNullable(existingConfigMap.getData()).orElseGet(HashMap::new);
       updated.putAll(contents);
       return updated;
     }
@@ -386,6 +504,19 @@ public class ConfigMapHelper {
       }
     }
 
+    private class ApplyResponseStep extends ResponseStep<V1ConfigMap> {
+      ApplyResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        LOGGER.fine(MessageKeys.CM_PATCHED, getName(), namespace);
+        recordCurrentMap(packet, callResponse.getResult());
+        return doNext(packet);
+      }
+    }
+
     private ResponseStep<V1ConfigMap> createReplaceResponseStep(Step next) {
       return new ReplaceResponseStep(next);
     }
@@ -419,16 +550,22 @@ public class ConfigMapHelper {
         super(next);
       }
 
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+        return super.onFailure(conflictStep, packet, callResponse);
+      }
+
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
         LOGGER.info(MessageKeys.CM_PATCHED, getName(), namespace);
+        recordCurrentMap(packet, callResponse.getResult());
         return doNext(packet);
       }
     }
 
   }
 
-  /** Returns true if the actual map contains all of the entries from the expected map. */
+  /** Returns true if the actual map contains all of the entries (as hashes) from the expected map. */
   static class ConfigMapComparatorImpl extends ConfigMapComparator {
 
     @Override
@@ -440,7 +577,7 @@ public class ConfigMapHelper {
   /**
    * Factory for a step that creates or updates the generated domain config map from introspection results.
    * Reads the following packet fields:
-   *   DOMAIN_INTROSPECTOR_LOG_RESULT     the introspection result
+   *   DOMAIN_INTROSPECTION_RESULT        the introspection result
    * and updates:
    *   DOMAIN_TOPOLOGY                    the parsed topology
    *   DOMAIN_HASH                        a hash of the topology
@@ -499,8 +636,9 @@ public class ConfigMapHelper {
     }
 
     private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
+      data = Optional.ofNullable((IntrospectionResult) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTION_RESULT))
+            .map(IntrospectionResult::getFiles)
+            .orElseGet(HashMap::new);
 
       LOGGER.fine("================");
       LOGGER.fine(data.toString());
@@ -519,7 +657,7 @@ public class ConfigMapHelper {
     private void updatePacket() {
       ScanCache.INSTANCE.registerScan(
             info.getNamespace(), info.getDomainUid(), new Scan(wlsDomainConfig, new DateTime()));
-      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
+      packet.putValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY, wlsDomainConfig);
 
       copyFileToPacketIfPresent(DOMAINZIP_HASH, DOMAINZIP_HASH);
       copyFileToPacketIfPresent(SECRETS_MD_5, SECRETS_MD_5);
@@ -534,7 +672,12 @@ public class ConfigMapHelper {
 
     private Step createValidationStep() {
       return DomainValidationSteps.createValidateDomainTopologyStep(
-            createIntrospectorConfigMapContext(conflictStep).verifyConfigMap(conflictStep.getNext()));
+            createIntrospectorConfigMapContext(conflictStep).withInputsHash(getInputsHash())
+                  .verifyConfigMap(conflictStep.getNext()));
+    }
+
+    private String getInputsHash() {
+      return IntrospectionInputs.getInputsHash(packet);
     }
 
     private IntrospectorConfigMapContext createIntrospectorConfigMapContext(Step conflictStep) {
@@ -621,6 +764,11 @@ public class ConfigMapHelper {
       return this;
     }
 
+    IntrospectorConfigMapContext withInputsHash(String inputsHash) {
+      Optional.ofNullable(inputsHash).ifPresent(hash -> addAnnotation(INPUTS_HASH_ANNOTATION, hash));
+      return this;
+    }
+
     @Override
     Step createConfigMap(Step next) {
       return patchOnly ? null : super.createConfigMap(next);
@@ -640,6 +788,11 @@ public class ConfigMapHelper {
       return key.startsWith(SIT_CONFIG_FILE_PREFIX);
     }
 
+    @Override
+    void recordCurrentMap(Packet packet, V1ConfigMap configMap) {
+      Optional.ofNullable(info).ifPresent(i -> i.setIntrospectorConfigMap(withOperatorEntries(configMap)));
+    }
+
   }
 
   /**
@@ -666,6 +819,7 @@ public class ConfigMapHelper {
 
     @Override
     public NextAction apply(Packet packet) {
+      DomainPresenceInfo.fromPacket(packet).ifPresent(info -> info.setIntrospectorConfigMap(null));
       return doNext(deleteIntrospectorConfigMap(getNext()), packet);
     }
 
@@ -692,6 +846,7 @@ public class ConfigMapHelper {
    *   SECRETS_HASH                       a hash of the override secrets
    *   DOMAIN_RESTART_VERSION             a field from the domain to force rolling when changed
    *   DOMAIN_INPUTS_HASH                 a hash of the image used in the domain.
+   * Only the metadata of the map is read if it is unchanged since the operator last read or wrote it.
    *
    * @param ns the namespace of the domain
    * @param domainUid the unique domain ID
@@ -699,21 +854,89 @@ public class ConfigMapHelper {
    */
   public static Step readExistingIntrospectorConfigMap(String ns, String domainUid) {
     String configMapName = getIntrospectorConfigMapName(domainUid);
-    return new CallBuilder().readConfigMapAsync(configMapName, ns, new ReadIntrospectorConfigMapStep());
+    return new CallBuilder().readConfigMapMetadataAsync(
+          configMapName, ns, new ReadIntrospectorConfigMapMetadataStep(configMapName, ns));
+  }
+
+  // Returns a copy of the introspector config map holding only the entries which the operator reads, so that the
+  // much larger entries, such as the domain archives, are neither held in memory nor read again when unchanged.
+  private static V1ConfigMap withOperatorEntries(V1ConfigMap map) {
+    if (map == null) {
+      return null;
+    }
+
+    Map<String, String> data = new HashMap<>();
+    Optional.ofNullable(map.getData()).ifPresent(d -> OPERATOR_ENTRIES.stream()
+          .filter(d::containsKey)
+          .forEach(key -> data.put(key, d.get(key))));
+    return new V1ConfigMap().metadata(map.getMetadata()).data(data);
+  }
+
+  private static class ReadIntrospectorConfigMapMetadataStep extends DefaultResponseStep<V1ConfigMap> {
+    private final String name;
+    private final String namespace;
+
+    ReadIntrospectorConfigMapMetadataStep(String name, String namespace) {
+      this.name = name;
+      this.namespace = namespace;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      V1ConfigMap recordedMap = info.getIntrospectorConfigMap();
+      if (callResponse.getResult() == null) {
+        info.setIntrospectorConfigMap(null);
+        return doNext(packet);
+      } else if (isUnchanged(recordedMap, callResponse.getResult())) {
+        return doNext(new RecordIntrospectorConfigMapStep(recordedMap, getNext()), packet);
+      } else {
+        return doNext(
+              new CallBuilder().readConfigMapAsync(name, namespace, new ReadIntrospectorConfigMapStep(getNext())),
+              packet);
+      }
+    }
+
+    private boolean isUnchanged(V1ConfigMap recordedMap, V1ConfigMap currentMap) {
+      return Optional.ofNullable(recordedMap)
+            .map(ConfigMapHelper::getResourceVersion)
+            .map(version -> version.equals(getResourceVersion(currentMap)))
+            .orElse(false);
+    }
+  }
+
+  private static String getResourceVersion(V1ConfigMap map) {
+    return Optional.ofNullable(map.getMetadata()).map(V1ObjectMeta::getResourceVersion).orElse(null);
   }
 
   private static class ReadIntrospectorConfigMapStep extends DefaultResponseStep<V1ConfigMap> {
 
-    ReadIntrospectorConfigMapStep() {
+    ReadIntrospectorConfigMapStep(Step next) {
+      super(next);
     }
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
-      V1ConfigMap result = callResponse.getResult();
-      copyMapEntryToPacket(result, packet, SECRETS_MD_5);
-      copyMapEntryToPacket(result, packet, DOMAINZIP_HASH);
-      copyMapEntryToPacket(result, packet, DOMAIN_RESTART_VERSION);
-      copyMapEntryToPacket(result, packet, DOMAIN_INPUTS_HASH);
+      V1ConfigMap result = withOperatorEntries(callResponse.getResult());
+      packet.getSpi(DomainPresenceInfo.class).setIntrospectorConfigMap(result);
+      return doNext(new RecordIntrospectorConfigMapStep(result, getNext()), packet);
+    }
+  }
+
+  private static class RecordIntrospectorConfigMapStep extends Step {
+    private final V1ConfigMap result;
+
+    RecordIntrospectorConfigMapStep(V1ConfigMap result, Step next) {
+      super(next);
+      this.result = result;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      copyMapEntryToPacket(packet, SECRETS_MD_5);
+      copyMapEntryToPacket(packet, DOMAINZIP_HASH);
+      copyMapEntryToPacket(packet, DOMAIN_RESTART_VERSION);
+      copyMapEntryToPacket(packet, DOMAIN_INPUTS_HASH);
 
       DomainTopology domainTopology =
             Optional.ofNullable(result)
@@ -740,10 +963,10 @@ public class ConfigMapHelper {
           info.getDomainUid(),
           new Scan(domainTopology.getDomain(), new DateTime()));
 
-      packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, domainTopology.getDomain());
+      packet.putValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY, domainTopology.getDomain());
     }
 
-    private void copyMapEntryToPacket(V1ConfigMap result, Packet packet, String mapKey) {
+    private void copyMapEntryToPacket(Packet packet, String mapKey) {
       Optional.ofNullable(result)
             .map(V1ConfigMap::getData)
             .map(m -> m.get(mapKey))
@@ -759,6 +982,7 @@ public class ConfigMapHelper {
   /**
    * Reads the introspector config map for the specified domain, populating the following packet entries.
    *   INTROSPECTION_STATE_LABEL          the value of the domain's 'introspectVersion' when this map was created
+   *   INPUTS_HASH_ANNOTATION             a hash of the introspection inputs used to create this map
    *
    * @param ns the namespace of the domain
    * @param domainUid the unique domain ID
@@ -766,7 +990,7 @@ public class ConfigMapHelper {
    */
   public static Step readIntrospectionVersionStep(String ns, String domainUid) {
     String configMapName = getIntrospectorConfigMapName(domainUid);
-    return new CallBuilder().readConfigMapAsync(configMapName, ns, new ReadIntrospectionVersionStep());
+    return new CallBuilder().readConfigMapMetadataAsync(configMapName, ns, new ReadIntrospectionVersionStep());
   }
 
   private static class ReadIntrospectionVersionStep extends DefaultResponseStep<V1ConfigMap> {
@@ -781,6 +1005,14 @@ public class ConfigMapHelper {
                 version -> packet.put(INTROSPECTION_STATE_LABEL, version),
                 () -> packet.remove(INTROSPECTION_STATE_LABEL));
 
+      Optional.ofNullable(callResponse.getResult())
+            .map(V1ConfigMap::getMetadata)
+            .map(V1ObjectMeta::getAnnotations)
+            .map(a -> a.get(INPUTS_HASH_ANNOTATION))
+            .ifPresentOrElse(
+                hash -> packet.put(INPUTS_HASH_ANNOTATION, hash),
+                () -> packet.remove(INPUTS_HASH_ANNOTATION));
+
       return doNext(packet);
     }
   }
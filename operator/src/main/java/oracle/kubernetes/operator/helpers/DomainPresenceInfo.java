@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -46,6 +47,7 @@ public class DomainPresenceInfo {
   private final AtomicBoolean isPopulated = new AtomicBoolean(false);
   private final AtomicInteger retryCount = new AtomicInteger(0);
   private final AtomicReference<Collection<ServerStartupInfo>> serverStartupInfo;
+  private final AtomicReference<V1ConfigMap> introspectorConfigMap = new AtomicReference<>();
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1Service> clusters = new ConcurrentHashMap<>();
@@ -462,6 +464,25 @@ public class DomainPresenceInfo {
     this.serverStartupInfo.set(serverStartupInfo);
   }
 
+  /**
+   * Returns the introspector config map as last read or written by the operator, holding only the entries
+   * which the operator itself reads.
+   *
+   * @return a partial config map, or null if none is known
+   */
+  V1ConfigMap getIntrospectorConfigMap() {
+    return introspectorConfigMap.get();
+  }
+
+  /**
+   * Records the introspector config map as last read or written by the operator.
+   *
+   * @param configMap a partial config map, or null if the map is not known
+   */
+  void setIntrospectorConfigMap(V1ConfigMap configMap) {
+    introspectorConfigMap.set(configMap);
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("DomainPresenceInfo{");
@@ -35,8 +35,8 @@ import static oracle.kubernetes.operator.logging.MessageKeys.DOMAIN_VALIDATION_F
 public class DomainValidationSteps {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
-  private static final String SECRETS = "secrets";
-  private static final String CONFIGMAPS = "configmaps";
+  static final String SECRETS = "secrets";
+  static final String CONFIGMAPS = "configmaps";
 
   public static Step createDomainValidationSteps(String namespace, Step next) {
     return Step.chain(createListSecretsStep(namespace), createListConfigMapsStep(namespace),
@@ -51,6 +51,16 @@ public class DomainValidationSteps {
     return new ValidateDomainTopologyStep(next);
   }
 
+  @SuppressWarnings("unchecked")
+  static List<V1Secret> getSecrets(Packet packet) {
+    return (List<V1Secret>) packet.get(SECRETS);
+  }
+
+  @SuppressWarnings("unchecked")
+  static List<V1ConfigMap> getConfigMaps(Packet packet) {
+    return (List<V1ConfigMap>) packet.get(CONFIGMAPS);
+  }
+
   static class ListSecretsResponseStep extends DefaultResponseStep<V1SecretList> {
 
     @Override
@@ -140,7 +150,7 @@ public class DomainValidationSteps {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-      WlsDomainConfig wlsDomainConfig = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      WlsDomainConfig wlsDomainConfig = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       validate(info, wlsDomainConfig);
 
       return doNext(packet);
@@ -164,11 +174,6 @@ public class DomainValidationSteps {
       return hasMatchingMetadata(secret.getMetadata(), name, namespace);
     }
 
-    @SuppressWarnings("unchecked")
-    private List<V1Secret> getSecrets(Packet packet) {
-      return (List<V1Secret>) packet.get(SECRETS);
-    }
-
     @Override
     public boolean isConfigMapExists(String name, String namespace) {
       return getConfigMaps(packet).stream().anyMatch(s -> isSpecifiedConfigMap(s, name, namespace));
@@ -178,11 +183,6 @@ public class DomainValidationSteps {
       return hasMatchingMetadata(configmap.getMetadata(), name, namespace);
     }
 
-    @SuppressWarnings("unchecked")
-    private List<V1ConfigMap> getConfigMaps(Packet packet) {
-      return (List<V1ConfigMap>) packet.get(CONFIGMAPS);
-    }
-
     private boolean hasMatchingMetadata(V1ObjectMeta metadata, String name, String namespace) {
       return metadata != null
             && Objects.equals(name, metadata.getName())
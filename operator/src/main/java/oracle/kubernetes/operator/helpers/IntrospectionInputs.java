@@ -0,0 +1,154 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A description of the inputs to a domain introspection: the image, the introspect and restart versions, and the
+ * resource versions of the config maps and secrets which the introspector reads. The hash of these values is recorded
+ * as an annotation on the introspector config map, so that a later make-right whose inputs are unchanged
+ * may reuse the recorded topology rather than running the introspector job again. That is only safe when the
+ * inputs fully determine the result of the introspection; see {@link #isReusable(Packet)}.
+ */
+public class IntrospectionInputs {
+
+  /** The annotation on the introspector config map which records the hash of the inputs used to create it. */
+  public static final String INPUTS_HASH_ANNOTATION = "weblogic.introspectionInputsHash";
+
+  private static final String DIGEST_SEPARATOR = "@";
+
+  private final Domain domain;
+  private final List<V1ConfigMap> configMaps;
+  private final List<V1Secret> secrets;
+
+  private IntrospectionInputs(Domain domain, List<V1ConfigMap> configMaps, List<V1Secret> secrets) {
+    this.domain = domain;
+    this.configMaps = configMaps;
+    this.secrets = secrets;
+  }
+
+  /**
+   * Returns the hash of the introspection inputs for the domain in the specified packet. Requires that the
+   * packet contain the config maps and secrets listed by the domain validation steps.
+   *
+   * @param packet a packet containing domain presence info and the namespace config maps and secrets
+   * @return a hex string, or null if the packet does not contain enough information to compute it
+   */
+  static String getInputsHash(Packet packet) {
+    List<V1ConfigMap> configMaps = DomainValidationSteps.getConfigMaps(packet);
+    List<V1Secret> secrets = DomainValidationSteps.getSecrets(packet);
+    if (configMaps == null || secrets == null) {
+      return null;
+    }
+
+    return DomainPresenceInfo.fromPacket(packet)
+          .map(DomainPresenceInfo::getDomain)
+          .map(domain -> new IntrospectionInputs(domain, configMaps, secrets))
+          .map(IntrospectionInputs::getHash)
+          .orElse(null);
+  }
+
+  /**
+   * Returns true if the inputs to the introspection of the domain in the specified packet fully determine its result,
+   * so that a recorded topology may be reused when they are unchanged. That is not so for a domain home on a persistent
+   * volume, whose configuration may change without any change to the domain resource, nor for an image specified by
+   * tag, which may be rebuilt under the same name.
+   *
+   * @param packet a packet containing domain presence info
+   * @return true if a recorded introspection with an unchanged inputs hash may be reused
+   */
+  static boolean isReusable(Packet packet) {
+    return DomainPresenceInfo.fromPacket(packet)
+          .map(DomainPresenceInfo::getDomain)
+          .map(IntrospectionInputs::isFullyDescribed)
+          .orElse(false);
+  }
+
+  private static boolean isFullyDescribed(Domain domain) {
+    return domain.getDomainHomeSourceType() != DomainSourceType.PersistentVolume
+          && isPinnedByDigest(domain.getSpec().getImage());
+  }
+
+  private static boolean isPinnedByDigest(String image) {
+    return image != null && image.contains(DIGEST_SEPARATOR);
+  }
+
+  private String getHash() {
+    return DigestUtils.sha256Hex(describeInputs().toString());
+  }
+
+  private Map<String, String> describeInputs() {
+    Map<String, String> inputs = new TreeMap<>();
+    inputs.put("image", domain.getSpec().getImage());
+    inputs.put("domainHomeSourceType", String.valueOf(domain.getDomainHomeSourceType()));
+    inputs.put("domainHome", domain.getDomainHome());
+    inputs.put("introspectVersion", domain.getIntrospectVersion());
+    inputs.put("restartVersion", domain.getRestartVersion());
+    for (String name : getConfigMapNames()) {
+      inputs.put("configMap/" + name, getResourceVersion(getConfigMapMetadata(name)));
+    }
+    for (String name : getSecretNames()) {
+      inputs.put("secret/" + name, getResourceVersion(getSecretMetadata(name)));
+    }
+    return inputs;
+  }
+
+  private List<String> getConfigMapNames() {
+    List<String> names = new ArrayList<>();
+    Optional.ofNullable(domain.getWdtConfigMap()).ifPresent(names::add);
+    Optional.ofNullable(domain.getConfigOverrides()).ifPresent(names::add);
+    return names;
+  }
+
+  private List<String> getSecretNames() {
+    List<String> names = new ArrayList<>();
+    names.add(domain.getWebLogicCredentialsSecretName());
+    Optional.ofNullable(domain.getOpssWalletPasswordSecret()).ifPresent(names::add);
+    Optional.ofNullable(domain.getOpssWalletFileSecret()).ifPresent(names::add);
+    Optional.ofNullable(domain.getRuntimeEncryptionSecret()).ifPresent(names::add);
+    names.addAll(Optional.ofNullable(domain.getConfigOverrideSecrets()).orElse(Collections.emptyList()));
+    return names;
+  }
+
+  private V1ObjectMeta getConfigMapMetadata(String name) {
+    return configMaps.stream()
+          .map(V1ConfigMap::getMetadata)
+          .filter(metadata -> isSpecifiedResource(metadata, name))
+          .findFirst()
+          .orElse(null);
+  }
+
+  private V1ObjectMeta getSecretMetadata(String name) {
+    return secrets.stream()
+          .map(V1Secret::getMetadata)
+          .filter(metadata -> isSpecifiedResource(metadata, name))
+          .findFirst()
+          .orElse(null);
+  }
+
+  private boolean isSpecifiedResource(V1ObjectMeta metadata, String name) {
+    return metadata != null
+          && Objects.equals(name, metadata.getName())
+          && Objects.equals(domain.getNamespace(), metadata.getNamespace());
+  }
+
+  private String getResourceVersion(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata).map(V1ObjectMeta::getResourceVersion).orElse("");
+  }
+}
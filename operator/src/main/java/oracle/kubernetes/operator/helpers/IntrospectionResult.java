@@ -0,0 +1,188 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * The output of a domain introspection, separated in a single pass into its two channels: the result files,
+ * which the introspector writes between a {@code >>> path} line and a {@code >>> EOF} line, and the diagnostic
+ * messages, each of which starts with a line beginning {@code @[} and continues until the next message or file.
+ * The result files are never treated as part of a message, and the messages never as part of the result.
+ */
+class IntrospectionResult {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final String FILE_MARKER = ">>>";
+  private static final String END_OF_FILE = "EOF";
+  private static final String UPDATE_DOMAIN_RESULT = "UPDATEDOMAINRESULT";
+  private static final String UPDATE_DOMAIN_RESULT_TOKEN = ">>>  updatedomainResult=";
+  private static final String MESSAGE_START = "@[";
+  private static final String SEVERE = "SEVERE";
+  private static final String[] LEVELS = {SEVERE, "ERROR", "WARNING", "INFO", "FINE", "FINER", "FINEST"};
+
+  private final Map<String, String> files = new HashMap<>();
+  private final List<String> messages = new ArrayList<>();
+
+  private IntrospectionResult() {
+  }
+
+  /**
+   * Separates the output of the introspector into result files and diagnostic messages.
+   * @param output the introspector output, as read from the job pod log or from a warm introspector pod
+   * @param domainUid the UID of the introspected domain, used to report an unreadable output
+   * @return the parsed result
+   */
+  static IntrospectionResult parse(String output, String domainUid) {
+    IntrospectionResult result = new IntrospectionResult();
+    if (output != null) {
+      result.readOutput(output, domainUid);
+    }
+    return result;
+  }
+
+  private void readOutput(String output, String domainUid) {
+    try (BufferedReader reader = new BufferedReader(new StringReader(output))) {
+      StringBuilder message = null;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.contains(UPDATE_DOMAIN_RESULT_TOKEN)) {
+          files.put(UPDATE_DOMAIN_RESULT, line.substring(line.indexOf(UPDATE_DOMAIN_RESULT_TOKEN)
+                + UPDATE_DOMAIN_RESULT_TOKEN.length()));
+        } else if (line.startsWith(FILE_MARKER)) {
+          addMessage(message);
+          message = null;
+          if (!line.endsWith(END_OF_FILE)) {
+            readFile(reader, getFileName(line));
+          }
+        } else if (line.startsWith(MESSAGE_START)) {
+          addMessage(message);
+          message = new StringBuilder(JobHelper.INTROSPECTOR_LOG_PREFIX).append(line.trim());
+        } else if (message != null) {
+          message.append(System.lineSeparator()).append(line.trim());
+        }
+      }
+      addMessage(message);
+    } catch (IOException e) {
+      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUid, e);
+    }
+  }
+
+  private void addMessage(StringBuilder message) {
+    if (message != null) {
+      messages.add(message.toString());
+    }
+  }
+
+  private void readFile(BufferedReader reader, String fileName) throws IOException {
+    StringBuilder contents = new StringBuilder();
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.startsWith(FILE_MARKER) && line.endsWith(END_OF_FILE)) {
+        files.put(fileName, contents.toString().trim());
+        return;
+      }
+      contents.append(line).append(System.lineSeparator());
+    }
+  }
+
+  private static String getFileName(String line) {
+    return line.substring(line.lastIndexOf('/') + 1);
+  }
+
+  /**
+   * Returns the result files written by the introspector, keyed by file name.
+   * @return a mutable map of file names to contents
+   */
+  Map<String, String> getFiles() {
+    return files;
+  }
+
+  /**
+   * Returns the diagnostic messages written by the introspector, in order.
+   * @return an unmodifiable list of messages, each prefixed to identify it as from the introspector
+   */
+  List<String> getMessages() {
+    return Collections.unmodifiableList(messages);
+  }
+
+  /**
+   * Returns the problems reported by the severe messages, without their headers.
+   * @return a list of problem descriptions, possibly empty
+   */
+  List<String> getSevereProblems() {
+    List<String> problems = new ArrayList<>();
+    for (String message : messages) {
+      if (SEVERE.equals(getLevel(message))) {
+        String upperCase = message.toUpperCase(Locale.ROOT);
+        problems.add(message.substring(upperCase.lastIndexOf("[" + SEVERE + "]") + SEVERE.length() + 2).trim());
+      }
+    }
+    return problems;
+  }
+
+  /**
+   * Copies the diagnostic messages to the operator log, each at the level recorded by the introspector.
+   */
+  void logMessages() {
+    for (String message : messages) {
+      logMessage(message);
+    }
+  }
+
+  private void logMessage(String message) {
+    switch (getLevel(message)) {
+      case SEVERE:
+      case "ERROR":
+        LOGGER.severe(message);
+        break;
+      case "WARNING":
+        LOGGER.warning(message);
+        break;
+      case "INFO":
+        LOGGER.info(message);
+        break;
+      case "FINER":
+        LOGGER.finer(message);
+        break;
+      case "FINEST":
+        LOGGER.finest(message);
+        break;
+      case "FINE":
+      default:
+        LOGGER.fine(message);
+        break;
+    }
+  }
+
+  // The level is the last one named in brackets on the first line of the message.
+  private static String getLevel(String message) {
+    int endOfLine = message.indexOf(System.lineSeparator());
+    String firstLine = (endOfLine < 0 ? message : message.substring(0, endOfLine)).toUpperCase(Locale.ROOT);
+
+    String level = "";
+    int levelIndex = -1;
+    for (String candidate : LEVELS) {
+      int index = firstLine.lastIndexOf("[" + candidate + "]");
+      if (index > levelIndex) {
+        level = candidate;
+        levelIndex = index;
+      }
+    }
+    return level;
+  }
+}
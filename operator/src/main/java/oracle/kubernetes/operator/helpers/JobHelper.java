@@ -55,7 +55,6 @@ public class JobHelper {
   static final String START_TIME = "WlsRetriever-startTime";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   static final String INTROSPECTOR_LOG_PREFIX = "Introspector Job Log: ";
-  private static final String EOL_PATTERN = "\\r?\\n";
 
   private JobHelper() {
   }
@@ -71,6 +70,7 @@ public class JobHelper {
    *  ProcessingConstants.DOMAIN_RESTART_VERSION - the restart version from the domain
    *  ProcessingConstants.DOMAIN_INPUTS_HASH
    *  ProcessingConstants.DOMAIN_INTROSPECT_VERSION - the introspect version from the old domain spec
+   *  IntrospectionInputs.INPUTS_HASH_ANNOTATION - a hash of the inputs to the previous introspection
    *
    * @param next Next processing step
    * @return Step for creating job
@@ -81,14 +81,24 @@ public class JobHelper {
   }
 
   private static boolean runIntrospector(Packet packet, DomainPresenceInfo info) {
-    WlsDomainConfig topology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    WlsDomainConfig topology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     LOGGER.fine("runIntrospector topology: " + topology);
     LOGGER.fine("runningServersCount: " + runningServersCount(info));
     LOGGER.fine("creatingServers: " + creatingServers(info));
     return topology == null
-          || isBringingUpNewDomain(info)
           || introspectionRequested(packet)
-          || isModelInImageUpdate(packet, info);
+          || (!isIntrospectionInputsUnchanged(packet)
+              && (isBringingUpNewDomain(info) || isModelInImageUpdate(packet, info)));
+  }
+
+  // Returns true if the existing introspector config map was created from the inputs which the domain now specifies,
+  // and those inputs fully determine the introspection, in which case the topology recorded in the map may be reused
+  // without running the introspector job.
+  private static boolean isIntrospectionInputsUnchanged(Packet packet) {
+    return IntrospectionInputs.isReusable(packet)
+          && Optional.ofNullable(packet.get(IntrospectionInputs.INPUTS_HASH_ANNOTATION))
+                .map(hash -> hash.equals(IntrospectionInputs.getInputsHash(packet)))
+                .orElse(false);
   }
 
   private static boolean isBringingUpNewDomain(DomainPresenceInfo info) {
@@ -214,7 +224,7 @@ public class JobHelper {
 
     DomainIntrospectorJobStepContext(Packet packet) {
       super(packet);
-      this.domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      this.domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       init();
     }
 
@@ -339,18 +349,31 @@ public class JobHelper {
 
         packet.putIfAbsent(START_TIME, System.currentTimeMillis());
 
+        Step jobSteps = Step.chain(
+              context.createNewJob(null),
+              readDomainIntrospectorPodLogStep(null),
+              deleteDomainIntrospectorJobStep(null),
+              ConfigMapHelper.createIntrospectorConfigMapStep(getNext()));
+
         return doNext(
             Step.chain(
                 createProgressingStep(info, INSPECTING_DOMAIN_PROGRESS_REASON, true, null),
-                context.createNewJob(null),
-                readDomainIntrospectorPodLogStep(null),
-                deleteDomainIntrospectorJobStep(null),
-                ConfigMapHelper.createIntrospectorConfigMapStep(getNext())),
+                createIntrospectionStep(info, jobSteps)),
               packet);
       }
 
       return doNext(DomainValidationSteps.createValidateDomainTopologyStep(getNext()), packet);
     }
+
+    // uses a warm introspector pod, if enabled, and falls back to the job if that pod cannot do the introspection
+    private Step createIntrospectionStep(DomainPresenceInfo info, Step jobSteps) {
+      if (!WarmIntrospectorHelper.isEnabled(info)) {
+        return jobSteps;
+      }
+
+      return WarmIntrospectorHelper.createIntrospectionStep(
+            jobSteps, ConfigMapHelper.createIntrospectorConfigMapStep(getNext()));
+    }
   }
 
   private static class DeleteIntrospectorJobStep extends Step {
@@ -424,9 +447,19 @@ public class JobHelper {
     }
   }
 
+  /**
+   * Records the output of an introspection which was run outside of the introspector job,
+   * just as if it had been read from the log of the job pod.
+   *
+   * @param packet the packet in which to record the introspection results
+   * @param introspectorLog the output of the introspector script
+   */
+  static void recordIntrospectorLog(Packet packet, String introspectorLog) {
+    new ReadDomainIntrospectorPodLogResponseStep(null).recordIntrospectorLog(packet, introspectorLog);
+  }
+
   private static class ReadDomainIntrospectorPodLogResponseStep extends ResponseStep<String> {
-    private StringBuilder logMessage = new StringBuilder();
-    private final List<String> severeStatuses = new ArrayList<>();
+    private List<String> severeProblems = Collections.emptyList();
 
     ReadDomainIntrospectorPodLogResponseStep(Step nextStep) {
       super(nextStep);
@@ -435,15 +468,8 @@ public class JobHelper {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
       String result = callResponse.getResult();
-      LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
-
       if (result != null) {
-        convertJobLogsToOperatorLogs(result);
-        if (!severeStatuses.isEmpty()) {
-          updateStatus(packet.getSpi(DomainPresenceInfo.class));
-        }
-        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, result);
-        MakeRightDomainOperation.recordInspection(packet);
+        recordIntrospectorLog(packet, result);
       }
 
       V1Job domainIntrospectorJob =
@@ -467,7 +493,7 @@ public class JobHelper {
         return doNext(
             DomainStatusUpdater.createFailedStep(
               onSeparateLines(jobConditionsReason),
-              onSeparateLines(severeStatuses),
+              onSeparateLines(severeProblems),
                 null),
             packet);
       }
@@ -475,75 +501,27 @@ public class JobHelper {
       return doNext(packet);
     }
 
-    private boolean isNotComplete(V1Job domainIntrospectorJob) {
-      return !JobWatcher.isComplete(domainIntrospectorJob);
-    }
-
-    // Parse log messages out of a Job Log
-    //  - assumes each job log message starts with '@['
-    //  - assumes any lines that don't start with '@[' are part
-    //    of the previous log message
-    //  - ignores all lines in the log up to the first line that starts with '@['
-    private void convertJobLogsToOperatorLogs(String jobLogs) {
-      for (String line : jobLogs.split(EOL_PATTERN)) {
-        if (line.startsWith("@[")) {
-          logToOperator();
-          logMessage = new StringBuilder(INTROSPECTOR_LOG_PREFIX).append(line.trim());
-        } else if (logMessage.length() > 0) {
-          logMessage.append(System.lineSeparator()).append(line.trim());
-        }
-      }
-      logToOperator();
-    }
-
-    private void logToOperator() {
-      if (logMessage.length() == 0) {
-        return;
-      }
-
-      String logMsg = logMessage.toString();
-      switch (getLogLevel(logMsg)) {
-        case "SEVERE":
-          addSevereStatus(logMsg); // fall through
-        case "ERROR":
-          LOGGER.severe(logMsg);
-          break;
-        case "WARNING":
-          LOGGER.warning(logMsg);
-          break;
-        case "INFO":
-          LOGGER.info(logMsg);
-          break;
-        case "FINER":
-          LOGGER.finer(logMsg);
-          break;
-        case "FINEST":
-          LOGGER.finest(logMsg);
-          break;
-        case "FINE":
-        default:
-          LOGGER.fine(logMsg);
-          break;
+    // The output is separated once into the result files, which are kept in the packet for the introspector
+    // config map step, and the diagnostic messages, which are copied to the operator log.
+    void recordIntrospectorLog(Packet packet, String output) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      IntrospectionResult result = IntrospectionResult.parse(output, info.getDomainUid());
+      result.logMessages();
+      severeProblems = result.getSevereProblems();
+      if (!severeProblems.isEmpty()) {
+        updateStatus(info);
       }
+      packet.put(ProcessingConstants.DOMAIN_INTROSPECTION_RESULT, result);
+      MakeRightDomainOperation.recordInspection(packet);
     }
 
-    private void addSevereStatus(String logMsg) {
-      int index = logMsg.toUpperCase().lastIndexOf("[SEVERE]") + "[SEVERE]".length();
-      severeStatuses.add(logMsg.substring(index).trim());
-    }
-
-    private String getLogLevel(String logMsg) {
-      String regExp = ".*\\[(SEVERE|ERROR|WARNING|INFO|FINE|FINER|FINEST)].*";
-      return getFirstLine(logMsg).toUpperCase().replaceAll(regExp, "$1");
-    }
-
-    private String getFirstLine(String logMsg) {
-      return logMsg.split(EOL_PATTERN)[0];
+    private boolean isNotComplete(V1Job domainIntrospectorJob) {
+      return !JobWatcher.isComplete(domainIntrospectorJob);
     }
 
     private void updateStatus(DomainPresenceInfo domainPresenceInfo) {
       DomainStatusPatch.updateSynchronously(
-            domainPresenceInfo.getDomain(), DomainStatusUpdater.ERR_INTROSPECTOR, onSeparateLines(severeStatuses));
+            domainPresenceInfo.getDomain(), DomainStatusUpdater.ERR_INTROSPECTOR, onSeparateLines(severeProblems));
     }
 
     private String onSeparateLines(List<String> lines) {
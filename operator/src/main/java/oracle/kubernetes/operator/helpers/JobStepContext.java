@@ -66,6 +66,10 @@ public abstract class JobStepContext extends BasePodStepContext {
     return jobModel;
   }
 
+  V1PodTemplateSpec getJobPodTemplate() {
+    return getJobModel().getSpec().getTemplate();
+  }
+
   String getNamespace() {
     return info.getNamespace();
   }
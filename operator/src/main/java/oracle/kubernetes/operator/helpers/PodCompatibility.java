@@ -209,11 +209,30 @@ class PodCompatibility extends CollectiveCompatibility {
       return Objects.equals(expected, actual)
           || (Objects.equals(expected.getInitialDelaySeconds(), actual.getInitialDelaySeconds())
               && Objects.equals(expected.getTimeoutSeconds(), actual.getTimeoutSeconds())
-              && Objects.equals(expected.getPeriodSeconds(), actual.getPeriodSeconds()));
+              && Objects.equals(expected.getPeriodSeconds(), actual.getPeriodSeconds())
+              && Objects.equals(getHandlerType(expected), getHandlerType(actual)));
+    }
+
+    // The kind of check the probe makes, so that changing a probe mode is reported as the reason for a roll.
+    private static String getHandlerType(V1Probe probe) {
+      if (probe.getTcpSocket() != null) {
+        return "tcpSocket";
+      } else if (probe.getHttpGet() != null) {
+        return "httpGet";
+      } else if (probe.getExec() != null) {
+        return "exec";
+      } else {
+        return "none";
+      }
     }
 
     @Override
     public String getIncompatibility() {
+      if (!Objects.equals(getHandlerType(expected), getHandlerType(actual))) {
+        return String.format(
+            "Expected %s probe to use %s but found %s.",
+            description, getHandlerType(expected), getHandlerType(actual));
+      }
       return String.format(
           "Expected %s probe with initial delay %d, timeout %d and period %d \n"
               + "       but found initial delay %d, timeout %d and period %d.",
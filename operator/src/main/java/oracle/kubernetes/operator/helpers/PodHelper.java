@@ -4,6 +4,8 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -15,6 +17,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Status;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
@@ -268,6 +271,18 @@ public class PodHelper {
     return new DeletePodStep(serverName, next);
   }
 
+  /**
+   * Factory for {@link Step} that deletes the pods of several servers. Pods which share a deletion grace period
+   * are deleted with a single collection delete, selected by their server name labels.
+   *
+   * @param serverNames the names of the servers whose pods are to be deleted
+   * @param next Next processing step
+   * @return Step for deleting server pods
+   */
+  public static Step deletePodsStep(Collection<String> serverNames, Step next) {
+    return new DeletePodsStep(serverNames, next);
+  }
+
   static List<V1EnvVar> createCopy(List<V1EnvVar> envVars) {
     ArrayList<V1EnvVar> copy = new ArrayList<>();
     if (envVars != null) {
@@ -562,26 +577,8 @@ public class PodHelper {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       V1Pod oldPod = info.getServerPod(serverName);
 
-      long gracePeriodSeconds = Shutdown.DEFAULT_TIMEOUT;
-      String clusterName = null;
       if (oldPod != null) {
-        Map<String, String> labels = oldPod.getMetadata().getLabels();
-        if (labels != null) {
-          clusterName = labels.get(CLUSTERNAME_LABEL);
-        }
-
-        ServerSpec serverSpec = info.getDomain().getServer(serverName, clusterName);
-        if (serverSpec != null) {
-          // We add a 10 second fudge factor here to account for the fact that WLST takes
-          // ~6 seconds to start, so along with any other delay in connecting and issuing
-          // the shutdown, the actual server instance has the full configured timeout to
-          // gracefully shutdown before the container is destroyed by this timeout.
-          // We will remove this fudge factor when the operator connects via REST to shutdown
-          // the server instance.
-          gracePeriodSeconds =
-              serverSpec.getShutdown().getTimeoutSeconds() + DEFAULT_ADDITIONAL_DELETE_TIME;
-        }
-
+        long gracePeriodSeconds = getDeleteGracePeriodSeconds(info, serverName, oldPod);
         String name = oldPod.getMetadata().getName();
         info.setServerPodBeingDeleted(serverName, Boolean.TRUE);
         return doNext(deletePod(name, info.getNamespace(), gracePeriodSeconds, getNext()), packet);
@@ -616,4 +613,88 @@ public class PodHelper {
               name, namespace, deleteOptions, new DefaultResponseStep<>(conflictStep, next));
     }
   }
+
+  private static long getDeleteGracePeriodSeconds(DomainPresenceInfo info, String serverName, V1Pod pod) {
+    String clusterName = Optional.ofNullable(pod.getMetadata().getLabels())
+          .map(labels -> labels.get(CLUSTERNAME_LABEL))
+          .orElse(null);
+
+    ServerSpec serverSpec = info.getDomain().getServer(serverName, clusterName);
+    if (serverSpec == null) {
+      return Shutdown.DEFAULT_TIMEOUT;
+    }
+
+    // We add a 10 second fudge factor here to account for the fact that WLST takes
+    // ~6 seconds to start, so along with any other delay in connecting and issuing
+    // the shutdown, the actual server instance has the full configured timeout to
+    // gracefully shutdown before the container is destroyed by this timeout.
+    // We will remove this fudge factor when the operator connects via REST to shutdown
+    // the server instance.
+    return serverSpec.getShutdown().getTimeoutSeconds() + DEFAULT_ADDITIONAL_DELETE_TIME;
+  }
+
+  private static class DeletePodsStep extends Step {
+    private final Collection<String> serverNames;
+
+    DeletePodsStep(Collection<String> serverNames, Step next) {
+      super(next);
+      this.serverNames = serverNames;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      Map<Long, List<String>> serversByGracePeriod = new LinkedHashMap<>();
+      for (String serverName : serverNames) {
+        Optional.ofNullable(info.getServerPod(serverName))
+              .map(pod -> getDeleteGracePeriodSeconds(info, serverName, pod))
+              .map(period -> serversByGracePeriod.computeIfAbsent(period, p -> new ArrayList<>()))
+              .ifPresent(names -> names.add(serverName));
+      }
+
+      Collection<StepAndPacket> work = new ArrayList<>();
+      serversByGracePeriod.forEach((gracePeriod, names) ->
+            work.add(new StepAndPacket(createDeleteStep(info, names, gracePeriod), packet.clone())));
+
+      if (work.isEmpty()) {
+        return doNext(packet);
+      } else {
+        return doForkJoin(getNext(), packet, work);
+      }
+    }
+
+    private Step createDeleteStep(DomainPresenceInfo info, List<String> names, long gracePeriodSeconds) {
+      if (names.size() == 1) {
+        return new DeletePodStep(names.get(0), null);
+      }
+
+      names.forEach(serverName -> info.setServerPodBeingDeleted(serverName, Boolean.TRUE));
+      return new CallBuilder()
+          .withLabelSelectors(
+              LabelConstants.forDomainUidSelector(info.getDomainUid()),
+              LabelConstants.getCreatedbyOperatorSelector(),
+              String.format("%s in (%s)", LabelConstants.SERVERNAME_LABEL, String.join(",", names)))
+          .withGracePeriodSeconds((int) gracePeriodSeconds)
+          .deleteCollectionPodAsync(info.getNamespace(), new DeletePodCollectionResponseStep(names));
+    }
+  }
+
+  // If the collection cannot be deleted, falls back to deleting the pods one at a time.
+  private static class DeletePodCollectionResponseStep extends DefaultResponseStep<V1Status> {
+    private final List<String> serverNames;
+
+    DeletePodCollectionResponseStep(List<String> serverNames) {
+      super(null);
+      this.serverNames = serverNames;
+    }
+
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<V1Status> callResponse) {
+      Collection<StepAndPacket> work = new ArrayList<>();
+      for (String serverName : serverNames) {
+        work.add(new StepAndPacket(new DeletePodStep(serverName, null), packet.clone()));
+      }
+      return doForkJoin(getNext(), packet, work);
+    }
+  }
 }
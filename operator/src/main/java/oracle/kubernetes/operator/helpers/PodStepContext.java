@@ -30,6 +30,7 @@ import io.kubernetes.client.openapi.models.V1PodReadinessGate;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1Probe;
 import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1TCPSocketAction;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 import oracle.kubernetes.operator.DomainSourceType;
@@ -38,6 +39,7 @@ import oracle.kubernetes.operator.IntrospectorConfigMapKeys;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
+import oracle.kubernetes.operator.ProbeMode;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
@@ -79,11 +81,11 @@ public abstract class PodStepContext extends BasePodStepContext {
   PodStepContext(Step conflictStep, Packet packet) {
     super(packet.getSpi(DomainPresenceInfo.class));
     this.conflictStep = conflictStep;
-    domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     miiModelSecretsHash = (String)packet.get(IntrospectorConfigMapKeys.SECRETS_MD_5);
     miiDomainZipHash = (String)packet.get(IntrospectorConfigMapKeys.DOMAINZIP_HASH);
     domainRestartVersion = (String)packet.get(IntrospectorConfigMapKeys.DOMAIN_RESTART_VERSION);
-    scan = (WlsServerConfig) packet.get(ProcessingConstants.SERVER_SCAN);
+    scan = packet.getValue(ProcessingConstants.SERVER_SCAN_KEY);
   }
 
   private static boolean isCustomerItem(Map.Entry<String, String> entry) {
@@ -722,12 +724,26 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   private V1Probe createLivenessProbe(TuningParameters.PodTuning tuning) {
-    return new V1Probe()
+    V1Probe livenessProbe = new V1Probe()
         .initialDelaySeconds(getLivenessProbeInitialDelaySeconds(tuning))
         .timeoutSeconds(getLivenessProbeTimeoutSeconds(tuning))
         .periodSeconds(getLivenessProbePeriodSeconds(tuning))
-        .failureThreshold(FAILURE_THRESHOLD)
-        .exec(execAction(LIVENESS_PROBE));
+        .failureThreshold(FAILURE_THRESHOLD);
+    if (useTcpLivenessProbe()) {
+      livenessProbe.tcpSocket(new V1TCPSocketAction().port(new IntOrString(getLocalAdminProtocolChannelPort())));
+    } else {
+      livenessProbe.exec(execAction(LIVENESS_PROBE));
+    }
+    return livenessProbe;
+  }
+
+  // The liveness script also copies dynamically distributed overrides, and Istio intercepts the admin port,
+  // so those cases must keep using the script.
+  private boolean useTcpLivenessProbe() {
+    return ProbeMode.TcpSocket.name().equals(getServerSpec().getLivenessProbe().getMode())
+        && !distributeOverridesDynamically()
+        && !getDomain().isIstioEnabled()
+        && getLocalAdminProtocolChannelPort() != null;
   }
 
   private int getLivenessProbeInitialDelaySeconds(TuningParameters.PodTuning tuning) {
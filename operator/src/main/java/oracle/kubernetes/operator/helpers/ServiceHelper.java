@@ -57,6 +57,7 @@ public class ServiceHelper {
   public static final String CLUSTER_IP_TYPE = "ClusterIP";
   public static final String NODE_PORT_TYPE = "NodePort";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int UNPROCESSABLE_ENTITY = 422;
 
   private ServiceHelper() {
   }
@@ -221,7 +222,7 @@ public class ServiceHelper {
       this.isPreserveServices = isPreserveServices;
       serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
       clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-      scan = (WlsServerConfig) packet.get(ProcessingConstants.SERVER_SCAN);
+      scan = packet.getValue(ProcessingConstants.SERVER_SCAN_KEY);
       version = packet.getSpi(KubernetesVersion.class);
     }
 
@@ -384,7 +385,7 @@ public class ServiceHelper {
     ServiceStepContext(Step conflictStep, Packet packet, OperatorServiceType serviceType) {
       super(packet.getSpi(DomainPresenceInfo.class));
       this.conflictStep = conflictStep;
-      domainTopology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      domainTopology = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       this.serviceType = serviceType;
     }
 
@@ -507,16 +508,27 @@ public class ServiceHelper {
     Step verifyService(Step next) {
       V1Service service = getServiceFromRecord();
       if (service == null) {
-        return createNewService(next);
+        return CallBuilder.isServerSideApplyEnabled()
+              ? applyService(getServiceCreatedMessageKey(), next)
+              : createNewService(next);
       } else if (canUseCurrentService(createModel(), service)) {
         logServiceExists();
         return next;
+      } else if (CallBuilder.isServerSideApplyEnabled()) {
+        return applyService(getServiceReplaceMessageKey(), next);
       } else {
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
       }
     }
 
+    // Creates or updates the service with a single call, leaving conflicts to the API server.
+    private Step applyService(String messageKey, Step next) {
+      V1Service model = createModel().apiVersion("v1").kind("Service");
+      return new CallBuilder()
+          .applyServiceAsync(createServiceName(), getNamespace(), model, new ApplyResponse(messageKey, next));
+    }
+
     protected abstract void logServiceExists();
 
     private Step createNewService(Step next) {
@@ -612,6 +624,35 @@ public class ServiceHelper {
       }
     }
 
+    private class ApplyResponse extends ResponseStep<V1Service> {
+      private final String messageKey;
+
+      ApplyResponse(String messageKey, Step next) {
+        super(next);
+        this.messageKey = messageKey;
+      }
+
+      // A change to an immutable field, such as the cluster IP, requires that the service be recreated.
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1Service> callResponse) {
+        if (callResponse.getStatusCode() == UNPROCESSABLE_ENTITY) {
+          removeServiceFromRecord();
+          return doNext(deleteAndReplaceService(getNext()), packet);
+        } else if (UnrecoverableErrorBuilder.isAsyncCallFailure(callResponse)) {
+          return doNext(DomainStatusUpdater.createFailedStep(callResponse, null), packet);
+        } else {
+          return super.onFailure(packet, callResponse);
+        }
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
+        logServiceCreated(messageKey);
+        addServiceToRecord(callResponse.getResult());
+        return doNext(packet);
+      }
+    }
+
     private class CreateResponse extends ResponseStep<V1Service> {
       private final String messageKey;
 
@@ -688,7 +729,7 @@ public class ServiceHelper {
     ClusterStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet, OperatorServiceType.CLUSTER);
       clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
-      config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      config = packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
     }
 
     protected V1ServiceSpec createServiceSpec() {
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1OwnerReference;
@@ -18,6 +19,10 @@ import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
 public abstract class StepContextBase implements StepContextConstants {
+  // the bean properties of each model class, found by reflection only once, as every pod model is copied through them
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit tests
+  private static Map<Class<?>, List<Pair<Method, Method>>> TYPE_BEANS = new ConcurrentHashMap<>();
+
   protected final DomainPresenceInfo info;
 
   StepContextBase(DomainPresenceInfo info) {
@@ -88,7 +93,11 @@ public abstract class StepContextBase implements StepContextConstants {
         || cls.getPackageName().startsWith(DOMAIN_MODEL_PACKAGE);
   }
 
-  private List<Pair<Method, Method>> typeBeans(Class cls) {
+  private List<Pair<Method, Method>> typeBeans(Class<?> cls) {
+    return TYPE_BEANS.computeIfAbsent(cls, StepContextBase::findTypeBeans);
+  }
+
+  private static List<Pair<Method, Method>> findTypeBeans(Class<?> cls) {
     List<Pair<Method, Method>> results = new ArrayList<>();
     Method[] methods = cls.getMethods();
     for (Method m : methods) {
@@ -119,6 +128,10 @@ public abstract class StepContextBase implements StepContextConstants {
   }
 
   private String translate(final Map<String, String> substitutionVariables, String rawValue, boolean requiresDns1123) {
+    if (rawValue == null || !rawValue.contains("$(")) {
+      return rawValue;
+    }
+
     String result = rawValue;
     for (Map.Entry<String, String> entry : substitutionVariables.entrySet()) {
       if (result != null && entry.getValue() != null) {
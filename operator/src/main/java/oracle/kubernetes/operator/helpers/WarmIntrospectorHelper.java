@@ -0,0 +1,349 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.io.CharStreams;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
+import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.logging.LoggingContext;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.utils.KubernetesExecFactory;
+import oracle.kubernetes.operator.utils.KubernetesExecFactoryImpl;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+import static oracle.kubernetes.operator.LabelConstants.forDomainUidSelector;
+
+/**
+ * Runs domain introspection in a long-lived pod, rather than in a new job, when the "introspectorWarmPod" tuning
+ * parameter is "true". The pod is created from the same template as the introspector job pod, but idles instead of
+ * running the introspector script; the operator then runs the script in it through the Kubernetes exec API and
+ * processes its output just as it would the log of the job pod. This saves scheduling a pod, pulling the image
+ * and mounting volumes on each introspection; the script itself, including WLST, still starts on each run.
+ *
+ * <p>The pod is annotated with a hash of its spec and of the introspection inputs, so that a change to either causes
+ * a new pod to be created, and the old one deleted, rather than introspecting with stale mounts. Whenever a current
+ * pod is not yet ready, or the script fails in it, the introspector job runs instead. Model-in-image domains always
+ * use the job, since their introspection reads back the introspector config map which it mounts.
+ *
+ * <p>The script runs for as long as WLST takes, so it is run, and its output read, on threads of its own rather
+ * than on those of the engine.
+ */
+public class WarmIntrospectorHelper {
+
+  static final String WARM_INTROSPECTOR_PARAM = "introspectorWarmPod";
+  private static final String POD_NAME_INFIX = "-introspector-";
+  private static final int POD_NAME_HASH_LENGTH = 10;
+  private static final List<String> IDLE_COMMAND = Arrays.asList("sleep", "infinity");
+  private static final String INTROSPECTOR_OUTPUT = "warmIntrospectorOutput";
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
+  private static final ExecutorService EXEC_EXECUTOR
+        = Executors.newCachedThreadPool(ThreadFactorySingleton.getInstance());
+
+  private WarmIntrospectorHelper() {
+  }
+
+  /**
+   * Returns true if the specified domain should be introspected in a warm introspector pod.
+   * @param info the domain presence info
+   * @return true if warm introspection is enabled and supported for the domain
+   */
+  static boolean isEnabled(DomainPresenceInfo info) {
+    return "true".equalsIgnoreCase(TuningParameters.getInstance().get(WARM_INTROSPECTOR_PARAM))
+          && info.getDomain().getDomainHomeSourceType() != DomainSourceType.FromModel;
+  }
+
+  /**
+   * Creates a step which introspects the domain in a warm introspector pod, if a current one is ready,
+   * and otherwise runs the specified job steps.
+   * @param jobSteps the steps which run the introspector job, and then the next step
+   * @param next the step to run after a successful introspection in the warm pod
+   * @return a step to be scheduled
+   */
+  static Step createIntrospectionStep(Step jobSteps, Step next) {
+    return new WarmIntrospectionStep(jobSteps, next);
+  }
+
+  static String getPodName(String domainUid, String hash) {
+    return LegalNames.toDns1123LegalName(domainUid + POD_NAME_INFIX + hash.substring(0, POD_NAME_HASH_LENGTH));
+  }
+
+  /**
+   * Creates the model for the warm introspector pod from the template of the introspector job pod.
+   * @param context a context for the introspector job, whose model will not be used to create the job
+   * @param inputsHash the hash of the current introspection inputs
+   * @return the pod model, annotated with its hash
+   */
+  static V1Pod createPodModel(JobStepContext context, String inputsHash) {
+    V1PodTemplateSpec template = context.getJobPodTemplate();
+    V1PodSpec spec = template.getSpec().activeDeadlineSeconds(null).restartPolicy("Always");
+    for (V1Container container : spec.getContainers()) {
+      container.setCommand(IDLE_COMMAND);
+    }
+
+    V1ObjectMeta metadata = context.createMetadata()
+          .annotations(template.getMetadata().getAnnotations())
+          .putLabelsItem(LabelConstants.WARM_INTROSPECTOR_LABEL, "true")
+          .putAnnotationsItem(IntrospectionInputs.INPUTS_HASH_ANNOTATION, inputsHash);
+    V1Pod pod = AnnotationHelper.withSha256Hash(new V1Pod().metadata(metadata).spec(spec));
+    metadata.setName(getPodName(context.getDomainUid(), AnnotationHelper.getHash(pod)));
+    return pod;
+  }
+
+  private static class WarmIntrospectionStep extends Step {
+    private final Step jobSteps;
+
+    WarmIntrospectionStep(Step jobSteps, Step next) {
+      super(next);
+      this.jobSteps = jobSteps;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      String inputsHash = IntrospectionInputs.getInputsHash(packet);
+      if (inputsHash == null) {
+        return doNext(jobSteps, packet);
+      }
+
+      JobStepContext context = new JobHelper.DomainIntrospectorJobStepContext(packet);
+      V1Pod model = createPodModel(context, inputsHash);
+      return doNext(
+            new CallBuilder()
+                  .withLabelSelectors(
+                        forDomainUidSelector(context.getDomainUid()), LabelConstants.WARM_INTROSPECTOR_LABEL)
+                  .listPodAsync(
+                        context.getNamespace(),
+                        new ListWarmPodsResponseStep(model, context.getContainerCommand(), jobSteps, getNext())),
+            packet);
+    }
+  }
+
+  /**
+   * A response step which does not allow a failure to prevent introspection: it continues with its next step,
+   * which eventually runs the introspector job.
+   */
+  private static class ContinueOnFailureResponseStep<T> extends ResponseStep<T> {
+    ContinueOnFailureResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<T> callResponse) {
+      LOGGER.fine(MessageKeys.WARM_INTROSPECTOR_CALL_FAILED, callResponse.getStatusCode());
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<T> callResponse) {
+      return doNext(packet);
+    }
+  }
+
+  // Chooses to use the current warm pod, if it is ready, or to create it, and deletes any obsolete pods.
+  private static class ListWarmPodsResponseStep extends ContinueOnFailureResponseStep<V1PodList> {
+    private final V1Pod model;
+    private final List<String> command;
+    private final Step introspectedStep;
+
+    ListWarmPodsResponseStep(V1Pod model, List<String> command, Step jobSteps, Step introspectedStep) {
+      super(jobSteps);
+      this.model = model;
+      this.command = command;
+      this.introspectedStep = introspectedStep;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
+      List<V1Pod> pods = Optional.ofNullable(callResponse.getResult())
+            .map(V1PodList::getItems)
+            .orElse(Collections.emptyList());
+      V1Pod current = pods.stream().filter(this::isCurrent).findFirst().orElse(null);
+
+      Step step = createIntrospectionStep(current);
+      for (V1Pod pod : pods) {
+        if (pod != current) {
+          step = deletePodStep(pod, step);
+        }
+      }
+      return doNext(step, packet);
+    }
+
+    private boolean isCurrent(V1Pod pod) {
+      return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(pod)) && !PodHelper.isDeleting(pod);
+    }
+
+    private Step createIntrospectionStep(V1Pod current) {
+      if (current == null) {
+        return createPodStep(getNext());
+      } else if (!PodHelper.getReadyStatus(current)) {
+        return getNext();
+      } else {
+        return new ExecIntrospectorStep(
+              current, command, new RecordIntrospectorOutputStep(getNext(), introspectedStep));
+      }
+    }
+
+    private Step createPodStep(Step next) {
+      return new CallBuilder().createPodAsync(
+            model.getMetadata().getNamespace(), model, new ContinueOnFailureResponseStep<>(next));
+    }
+
+    private Step deletePodStep(V1Pod pod, Step next) {
+      return new CallBuilder().deletePodAsync(
+            pod.getMetadata().getName(), pod.getMetadata().getNamespace(), null,
+            new ContinueOnFailureResponseStep<>(next));
+    }
+  }
+
+  // Runs the introspector script in the warm pod, and records its output in the packet if it succeeds.
+  private static class ExecIntrospectorStep extends Step {
+    private final V1Pod pod;
+    private final List<String> command;
+
+    ExecIntrospectorStep(V1Pod pod, List<String> command, Step next) {
+      super(next);
+      this.pod = pod;
+      this.command = command;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Domain domain = packet.getSpi(DomainPresenceInfo.class).getDomain();
+      long timeoutSeconds = getTimeoutSeconds(domain);
+
+      return doSuspend(
+          fiber -> EXEC_EXECUTOR.execute(() -> {
+            try (LoggingContext stack = LoggingContext.setThreadContext().namespace(getNamespace())) {
+              Optional.ofNullable(execIntrospector(domain.getDomainUid(), timeoutSeconds))
+                    .ifPresent(output -> packet.put(INTROSPECTOR_OUTPUT, output));
+            }
+            fiber.resume(packet);
+          }));
+    }
+
+    private long getTimeoutSeconds(Domain domain) {
+      return Optional.ofNullable(domain.getIntrospectorJobActiveDeadlineSeconds())
+            .orElse(TuningParameters.getInstance().getPodTuning().introspectorJobActiveDeadlineSeconds);
+    }
+
+    private String execIntrospector(String domainUid, long timeoutSeconds) {
+      long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+      Process proc = null;
+      ClientPool helper = ClientPool.getInstance();
+      ApiClient client = helper.take();
+      try {
+        proc = EXEC_FACTORY.create(client, pod, getContainerName()).exec(command.toArray(new String[0]));
+
+        String output = readOutput(proc, deadlineNanos - System.nanoTime());
+        if (!proc.waitFor(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          LOGGER.info(MessageKeys.WARM_INTROSPECTION_TIMED_OUT, domainUid, getName(), timeoutSeconds);
+          return null;
+        } else if (proc.exitValue() != 0) {
+          LOGGER.info(MessageKeys.WARM_INTROSPECTION_FAILED, domainUid, getName(), proc.exitValue());
+          return null;
+        }
+
+        LOGGER.info(MessageKeys.WARM_INTROSPECTION_COMPLETE, domainUid, getNamespace(), getName());
+        return output;
+      } catch (TimeoutException e) {
+        LOGGER.info(MessageKeys.WARM_INTROSPECTION_TIMED_OUT, domainUid, getName(), timeoutSeconds);
+        return null;
+      } catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+        return null;
+      } catch (ExecutionException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e.getCause());
+        return null;
+      } catch (IOException | ApiException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+        return null;
+      } finally {
+        helper.recycle(client);
+        if (proc != null) {
+          proc.destroy();
+        }
+      }
+    }
+
+    // A script which neither exits nor closes its output would block a read to the end of it, so the read is
+    // done on another thread, and abandoned at the timeout; destroying the process then ends it. The stderr of
+    // the exec is deliberately ignored: the script reports its results on stdout, and failure by its exit code.
+    private String readOutput(Process proc, long timeoutNanos)
+          throws InterruptedException, ExecutionException, TimeoutException {
+      Future<String> output = EXEC_EXECUTOR.submit(() -> {
+        try (final Reader reader = new InputStreamReader(proc.getInputStream())) {
+          return CharStreams.toString(reader);
+        }
+      });
+      try {
+        return output.get(timeoutNanos, TimeUnit.NANOSECONDS);
+      } finally {
+        output.cancel(true);
+      }
+    }
+
+    private String getName() {
+      return pod.getMetadata().getName();
+    }
+
+    private String getNamespace() {
+      return pod.getMetadata().getNamespace();
+    }
+
+    private String getContainerName() {
+      return pod.getSpec().getContainers().get(0).getName();
+    }
+  }
+
+  // Processes the output of a successful warm introspection, or runs the introspector job if there is none.
+  private static class RecordIntrospectorOutputStep extends Step {
+    private final Step jobSteps;
+
+    RecordIntrospectorOutputStep(Step jobSteps, Step next) {
+      super(next);
+      this.jobSteps = jobSteps;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      String output = (String) packet.remove(INTROSPECTOR_OUTPUT);
+      if (output == null) {
+        return doNext(jobSteps, packet);
+      }
+
+      JobHelper.recordIntrospectorLog(packet, output);
+      return doNext(packet);
+    }
+  }
+}
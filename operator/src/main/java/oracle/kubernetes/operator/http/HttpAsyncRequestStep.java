@@ -15,6 +15,8 @@ import java.util.concurrent.TimeUnit;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.tracing.ActiveSpan;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.work.AsyncFiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -86,6 +88,7 @@ public class HttpAsyncRequestStep extends Step {
   class AsyncProcessing {
     private Packet packet;
     private CompletableFuture<HttpResponse<String>> future;
+    private ActiveSpan span = ActiveSpan.NONE;
 
     AsyncProcessing(Packet packet) {
       this.packet = packet;
@@ -93,6 +96,9 @@ public class HttpAsyncRequestStep extends Step {
 
     void process(AsyncFiber fiber) {
       HttpResponseStep.removeResponse(packet);
+      span = Tracer.getInstance().startSpan("http " + request.method(), packet)
+          .tag("http.method", request.method())
+          .tag("http.url", request.uri().toString());
       future = factory.createFuture(request);
       future.whenComplete((response, throwable) -> resume(fiber, response, throwable));
       fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
@@ -107,13 +113,16 @@ public class HttpAsyncRequestStep extends Step {
     private void resume(AsyncFiber fiber, HttpResponse<String> response, Throwable throwable) {
       if (throwable != null) {
         LOGGER.fine(MessageKeys.HTTP_REQUEST_TIMED_OUT, request.method(), request.uri(), throwable);
+        span.tag("error", throwable.toString());
       }
       
       Optional.ofNullable(response).ifPresent(this::recordResponse);
+      span.end();
       fiber.resume(packet);
     }
 
     private void recordResponse(HttpResponse<String> response) {
+      span.tag("http.status_code", response.statusCode());
       if (response.statusCode() != HttpURLConnection.HTTP_OK) {
         LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, request.method(), request.uri(), response.statusCode());
       }
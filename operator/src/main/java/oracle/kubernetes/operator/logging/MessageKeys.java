@@ -134,6 +134,15 @@ public class MessageKeys {
   public static final String INTROSPECTOR_JOB_FAILED_DETAIL = "WLSKO-0176";
   public static final String INTROSPECTOR_POD_FAILED = "WLSKO-0177";
   public static final String POD_FORCE_DELETED = "WLSKO-0179";
+  public static final String API_CONNECTIONS = "WLSKO-0180";
+  public static final String LEADER_ELECTED = "WLSKO-0181";
+  public static final String LEADERSHIP_LOST = "WLSKO-0182";
+  public static final String WARM_INTROSPECTION_COMPLETE = "WLSKO-0183";
+  public static final String WARM_INTROSPECTION_FAILED = "WLSKO-0184";
+  public static final String SERVER_STATUS_READ_TIMED_OUT = "WLSKO-0185";
+  public static final String WARM_INTROSPECTION_TIMED_OUT = "WLSKO-0186";
+  public static final String FIBER_GATE_STATISTICS = "WLSKO-0187";
+  public static final String WARM_INTROSPECTOR_CALL_FAILED = "WLSKO-0188";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
@@ -0,0 +1,103 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.utils.SystemClock;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * A cache of the authentication and authorization decisions made by Kubernetes for callers of the REST api.
+ * Each decision is kept for a limited time, configured by the "restAccessCacheSeconds" tuning parameter, so that
+ * a client which calls the api repeatedly, such as an autoscaler, does not cause a token review and several
+ * subject access reviews on every request. Access tokens are recorded only by their hashes.
+ */
+class AccessDecisionCache {
+
+  private static final int PRUNE_THRESHOLD = 1000;
+
+  @SuppressWarnings("FieldMayBeFinal") // tests may replace this value
+  private static AccessDecisionCache INSTANCE = new AccessDecisionCache();
+
+  private final Map<String, CachedDecision<V1UserInfo>> authentications = new ConcurrentHashMap<>();
+  private final Map<List<Object>, CachedDecision<Boolean>> authorizations = new ConcurrentHashMap<>();
+
+  static AccessDecisionCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the user identified by the specified access token, using a previous authentication if it has not expired.
+   * The authenticator is expected to throw an exception if the token cannot be authenticated; such failures are
+   * not cached.
+   *
+   * @param accessToken the token presented by the caller
+   * @param authenticator a function to authenticate the token with Kubernetes
+   * @return information about the authenticated user
+   */
+  V1UserInfo getUserInfo(String accessToken, Supplier<V1UserInfo> authenticator) {
+    return getDecision(authentications, DigestUtils.sha256Hex(Optional.ofNullable(accessToken).orElse("")),
+          authenticator);
+  }
+
+  /**
+   * Returns true if the specified access is permitted, using a previous decision if it has not expired.
+   *
+   * @param key a list of the values which identify the user and the requested access
+   * @param authorizer a function to ask Kubernetes whether the access is permitted
+   * @return true if the access is permitted
+   */
+  boolean isAuthorized(List<Object> key, BooleanSupplier authorizer) {
+    return getDecision(authorizations, key, authorizer::getAsBoolean);
+  }
+
+  private <K, V> V getDecision(Map<K, CachedDecision<V>> decisions, K key, Supplier<V> source) {
+    long now = SystemClock.now().getMillis();
+    CachedDecision<V> cached = decisions.get(key);
+    if (cached != null && !cached.isExpired(now)) {
+      return cached.value;
+    }
+
+    V value = source.get();
+    long cacheMillis = getCacheMillis();
+    if (cacheMillis > 0) {
+      pruneIfNeeded(decisions, now);
+      decisions.put(key, new CachedDecision<>(value, now + cacheMillis));
+    }
+    return value;
+  }
+
+  private <K, V> void pruneIfNeeded(Map<K, CachedDecision<V>> decisions, long now) {
+    if (decisions.size() >= PRUNE_THRESHOLD) {
+      decisions.values().removeIf(decision -> decision.isExpired(now));
+    }
+  }
+
+  private long getCacheMillis() {
+    return TimeUnit.SECONDS.toMillis(TuningParameters.getInstance().getRestTuning().restAccessCacheSeconds);
+  }
+
+  private static class CachedDecision<V> {
+    private final V value;
+    private final long expirationTime;
+
+    CachedDecision(V value, long expirationTime) {
+      this.value = value;
+      this.expirationTime = expirationTime;
+    }
+
+    boolean isExpired(long now) {
+      return now >= expirationTime;
+    }
+  }
+}
@@ -32,7 +32,9 @@ import org.glassfish.jersey.server.ResourceConfig;
  *
  * <p>The backend impl is responsible for authenticating the token (if it can't then it throws a
  * WebApplicationException) and storing info about the authenticated user so that it can do access
- * checks for this request later.
+ * checks for this request later. A request with an invalid token is therefore rejected before any
+ * resource method runs. Authentication decisions are cached for a short time, so that a client which
+ * calls the api repeatedly does not cause a token review on every request.
  */
 @Provider
 @PreMatching // so that it's called before the subresource locators are called since they need to
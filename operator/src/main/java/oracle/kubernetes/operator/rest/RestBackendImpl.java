@@ -4,12 +4,20 @@
 package oracle.kubernetes.operator.rest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -25,6 +33,8 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
@@ -37,17 +47,25 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainActionType;
+import oracle.kubernetes.operator.rest.model.ScaleClusterResultModel;
+import oracle.kubernetes.operator.tracing.Span;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.logging.MessageKeys.INVALID_DOMAIN_UID;
 
 /**
  * RestBackendImpl implements the backend of the WebLogic operator REST api by making calls to
  * Kubernetes and WebLogic. A separate instance is created for each REST request since we need to
- * hold some per-request state.
+ * hold some per-request state. The caller is authenticated when the backend is created, so that a request
+ * with an invalid token is rejected before any resource method runs. Authentication and authorization
+ * decisions are cached across requests for a short time. Domains are looked up in the operator's own
+ * records where possible, but any domain which is to be updated is first read from Kubernetes.
  */
 public class RestBackendImpl implements RestBackend {
 
@@ -68,11 +86,18 @@ public class RestBackendImpl implements RestBackend {
         return null;
       };
 
+  @SuppressWarnings("FieldMayBeFinal") // used by unit test
+  private static DomainRetriever domainRetriever = DomainProcessorImpl::getKnownDomains;
+
+  private static ExecutorService listExecutor;
+
   private final AuthenticationProxy atn = new AuthenticationProxy();
   private final AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Collection<String> targetNamespaces;
-  private V1UserInfo userInfo;
+  private final V1UserInfo userInfo;
+  private List<Domain> domains;
+  private boolean domainsIncludeKnown;
 
   /**
    * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
@@ -87,16 +112,51 @@ public class RestBackendImpl implements RestBackend {
   RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
-    userInfo = authenticate(accessToken);
+    userInfo = AccessDecisionCache.getInstance().getUserInfo(accessToken, () -> authenticate(accessToken));
     this.targetNamespaces = targetNamespaces;
     LOGGER.exiting();
   }
 
   private void authorize(String domainUid, Operation operation) {
     LOGGER.entering(domainUid, operation);
-    boolean authorized;
+    String namespace = domainUid == null ? null : getNamespace(domainUid);
+    List<Object> key = Arrays.asList(userInfo.getUsername(), userInfo.getGroups(), operation, domainUid, namespace);
+    if (AccessDecisionCache.getInstance().isAuthorized(key, () -> checkAccess(domainUid, namespace, operation))) {
+      LOGGER.exiting();
+      return;
+    }
+    // TBD - should we say what who the user is and what the user can't do?
+    WebApplicationException e = createWebApplicationException(Status.FORBIDDEN, null);
+    LOGGER.throwing(e);
+    throw e;
+  }
+
+  // Created on first use, as the tuning parameters are not yet loaded when this class is initialized.
+  private static synchronized ExecutorService getListExecutor() {
+    if (listExecutor == null) {
+      listExecutor = createBoundedExecutor(TuningParameters.getInstance().getRestTuning().restMaxConcurrentListings);
+    }
+    return listExecutor;
+  }
+
+  /**
+   * Creates an executor which runs at most the specified number of tasks at once, queueing any others.
+   * Its threads are released when idle.
+   *
+   * @param maxThreads the maximum number of threads
+   * @return a new executor
+   */
+  static ExecutorService createBoundedExecutor(int maxThreads) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+          maxThreads, maxThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+          ThreadFactorySingleton.getInstance());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private boolean checkAccess(String domainUid, String namespace, Operation operation) {
     if (domainUid == null) {
-      authorized =
+      return
           atz.check(
               userInfo.getUsername(),
               userInfo.getGroups(),
@@ -106,7 +166,7 @@ public class RestBackendImpl implements RestBackend {
               Scope.cluster,
               null);
     } else {
-      authorized =
+      return
           atz.check(
               userInfo.getUsername(),
               userInfo.getGroups(),
@@ -114,16 +174,8 @@ public class RestBackendImpl implements RestBackend {
               Resource.DOMAINS,
               domainUid,
               Scope.namespace,
-              getNamespace(domainUid));
-    }
-    if (authorized) {
-      LOGGER.exiting();
-      return;
+              namespace);
     }
-    // TBD - should we say what who the user is and what the user can't do?
-    WebApplicationException e = createWebApplicationException(Status.FORBIDDEN, null);
-    LOGGER.throwing(e);
-    throw e;
   }
 
   private String getNamespace(String domainUid) {
@@ -149,12 +201,12 @@ public class RestBackendImpl implements RestBackend {
       LOGGER.throwing(e);
       throw e;
     }
-    userInfo = status.getUser();
-    if (userInfo == null) {
+    V1UserInfo user = status.getUser();
+    if (user == null) {
       throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_USER_INFO, status));
     }
-    LOGGER.exiting(userInfo);
-    return userInfo;
+    LOGGER.exiting(user);
+    return user;
   }
 
   private boolean isNotAuthenticated(@Nonnull V1TokenReviewStatus status) {
@@ -174,17 +226,58 @@ public class RestBackendImpl implements RestBackend {
     return result;
   }
 
+  // Returns the domains in the target namespaces. These are obtained once per request: from the operator's records
+  // for namespaces which it is already tracking, and by listing the remaining namespaces concurrently.
   private List<Domain> getDomainsList() {
+    if (domains == null) {
+      domains = readDomainsList(true);
+    }
+    return domains;
+  }
+
+  // Lists the domains in all target namespaces, replacing any taken from the operator's records. Used when a domain
+  // is not found in those records, which may not yet include a domain that was created recently.
+  private List<Domain> getListedDomainsList() {
+    if (domains == null || domainsIncludeKnown) {
+      domains = readDomainsList(false);
+    }
+    return domains;
+  }
+
+  private List<Domain> readDomainsList(boolean useKnownDomains) {
     Collection<List<Domain>> c = new ArrayList<>();
-    try {
-      for (String ns : targetNamespaces) {
-        DomainList dl = new CallBuilder().listDomain(ns);
+    Collection<CompletableFuture<List<Domain>>> listings = new ArrayList<>();
+    domainsIncludeKnown = false;
+    for (String ns : targetNamespaces) {
+      Optional.ofNullable(useKnownDomains ? domainRetriever.getDomains(ns) : null)
+            .ifPresentOrElse(recordKnownDomains(c), () -> listings.add(listDomainsAsync(ns)));
+    }
 
-        if (dl != null) {
-          c.add(dl.getItems());
-        }
+    try {
+      listings.stream().map(CompletableFuture::join).forEach(c::add);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof WebApplicationException) {
+        throw (WebApplicationException) e.getCause();
       }
-      return c.stream().flatMap(Collection::stream).collect(Collectors.toList());
+      throw e;
+    }
+    return c.stream().flatMap(Collection::stream).collect(Collectors.toList());
+  }
+
+  private Consumer<List<Domain>> recordKnownDomains(Collection<List<Domain>> c) {
+    return known -> {
+      domainsIncludeKnown = true;
+      c.add(known);
+    };
+  }
+
+  private CompletableFuture<List<Domain>> listDomainsAsync(String ns) {
+    return CompletableFuture.supplyAsync(() -> listDomains(ns), getListExecutor());
+  }
+
+  private List<Domain> listDomains(String ns) {
+    try {
+      return Optional.ofNullable(new CallBuilder().listDomain(ns)).map(DomainList::getItems).orElse(List.of());
     } catch (ApiException e) {
       throw handleApiException(e);
     }
@@ -252,20 +345,29 @@ public class RestBackendImpl implements RestBackend {
   }
 
   private void forDomainDo(String domainUid, Consumer<Domain> consumer) {
+    consumer.accept(getExistingDomain(domainUid));
+  }
+
+  // Returns the current definition of the specified domain, read from Kubernetes, as it is about to be updated.
+  private Domain getExistingDomain(String domainUid) {
     if (domainUid == null) {
       throw new AssertionError(LOGGER.formatMessage(MessageKeys.NULL_DOMAIN_UID));
     }
 
-    getDomain(domainUid).ifPresentOrElse(consumer, () -> reportNotFound(domainUid));
+    return getDomain(domainUid).map(this::readCurrentDomain).orElseThrow(() -> createNotFoundException(domainUid));
   }
 
-  private void reportNotFound(String domainUid) {
-    throw createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
+  private WebApplicationException createNotFoundException(String domainUid) {
+    return createWebApplicationException(Status.NOT_FOUND, MessageKeys.MATCHING_DOMAIN_NOT_FOUND, domainUid);
   }
 
   private Optional<Domain> getDomain(String domainUid) {
     authorize(null, Operation.list);
-    return getDomainsList().stream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
+    return findDomain(getDomainsList(), domainUid).or(() -> findDomain(getListedDomainsList(), domainUid));
+  }
+
+  private Optional<Domain> findDomain(List<Domain> domains, String domainUid) {
+    return domains.stream().filter(domain -> domainUid.equals(domain.getDomainUid())).findFirst();
   }
 
   @Override
@@ -292,7 +394,18 @@ public class RestBackendImpl implements RestBackend {
   }
 
   @Override
-  public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+  public List<Span> getSpans(String domainUid) {
+    LOGGER.entering(domainUid);
+    verifyDomain(domainUid);
+    authorize(domainUid, Operation.get);
+    List<Span> result = Tracer.getInstance().getSpans(domainUid);
+    LOGGER.exiting(result.size());
+    return result;
+  }
+
+  @Override
+  public CompletionStage<ScaleClusterResultModel> scaleCluster(
+        String domainUid, String cluster, int managedServerCount) {
     LOGGER.entering(domainUid, cluster, managedServerCount);
 
     if (managedServerCount < 0) {
@@ -301,18 +414,41 @@ public class RestBackendImpl implements RestBackend {
     }
 
     authorize(domainUid, Operation.update);
-    forDomainDo(domainUid, d -> performScaling(d, cluster, managedServerCount));
+    CompletionStage<ScaleClusterResultModel> result
+          = performScaling(getExistingDomain(domainUid), cluster, managedServerCount);
     LOGGER.exiting();
+    return result;
   }
 
-  private void performScaling(Domain domain, String cluster, int managedServerCount) {
+  // Each request is validated on its own, but only the latest of those which arrive together is applied.
+  // A request which was held while another was applied re-reads the domain, as the one it has may be out of date.
+  private CompletionStage<ScaleClusterResultModel> performScaling(
+        Domain domain, String cluster, int managedServerCount) {
     verifyWlsConfiguredClusterCapacity(domain, cluster, managedServerCount);
-    patchClusterReplicas(domain, cluster, managedServerCount);
+    return ScaleRequestCoalescer.getInstance().submit(
+          getClusterKey(domain, cluster), managedServerCount,
+          deferred -> patchClusterReplicas(deferred ? readCurrentDomain(domain) : domain, cluster, managedServerCount));
   }
 
-  private void patchClusterReplicas(Domain domain, String cluster, int replicas) {
+  private Domain readCurrentDomain(Domain domain) {
+    try {
+      return Optional.ofNullable(
+            new CallBuilder().readDomain(domain.getMetadata().getName(), domain.getMetadata().getNamespace()))
+          .orElseThrow(() -> createNotFoundException(domain.getDomainUid()));
+    } catch (ApiException e) {
+      throw e.getCode() == HTTP_NOT_FOUND ? createNotFoundException(domain.getDomainUid()) : handleApiException(e);
+    }
+  }
+
+  private String getClusterKey(Domain domain, String cluster) {
+    return domain.getMetadata().getNamespace() + "/" + domain.getDomainUid() + "/" + cluster;
+  }
+
+  // Returns true if the domain was patched; false if the cluster already has the specified replica count.
+  // The patch is rejected if the cluster is no longer at the index found in the domain that was read.
+  private boolean patchClusterReplicas(Domain domain, String cluster, int replicas) {
     if (replicas == domain.getReplicaCount(cluster)) {
-      return;
+      return false;
     }
 
     JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
@@ -320,10 +456,13 @@ public class RestBackendImpl implements RestBackend {
     if (index < 0) {
       patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER_REPLICAS, cluster, replicas));
     } else {
-      patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
+      patchBuilder
+          .test("/spec/clusters/" + index + "/clusterName", cluster)
+          .replace("/spec/clusters/" + index + "/replicas", replicas);
     }
 
     patchDomain(domain, patchBuilder);
+    return true;
   }
 
   private void patchDomain(Domain domain, JsonPatchBuilder patchBuilder) {
@@ -417,4 +556,13 @@ public class RestBackendImpl implements RestBackend {
   interface TopologyRetriever {
     WlsDomainConfig getWlsDomainConfig(String ns, String domainUid);
   }
+
+  interface DomainRetriever {
+    /**
+     * Returns the domains in the specified namespace known to the operator.
+     * @param ns a namespace
+     * @return a list of domains, or null if the namespace is not yet tracked by the operator
+     */
+    List<Domain> getDomains(String ns);
+  }
 }
@@ -3,6 +3,8 @@
 
 package oracle.kubernetes.operator.rest;
 
+import java.util.concurrent.Executor;
+
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 
 /**
@@ -112,4 +114,13 @@ public interface RestConfig {
    *     requests).
    */
   RestBackend getBackend(String accessToken);
+
+  /**
+   * Gets the executor on which the REST resources perform their backend work. It is separate from the
+   * operator's engine, so that neither the server's worker threads nor the threads which process domains
+   * are held while waiting for Kubernetes.
+   *
+   * @return an executor, or null if requests are to be processed on the threads which receive them.
+   */
+  Executor getBackendExecutor();
 }
@@ -4,7 +4,9 @@
 package oracle.kubernetes.operator.rest;
 
 import java.util.Collection;
+import java.util.concurrent.Executor;
 
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
@@ -17,6 +19,7 @@ public class RestConfigImpl implements RestConfig {
 
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final Executor backendExecutor = RestBackendImpl.createBoundedExecutor(getWorkerThreads());
 
   /**
    * Constructs a RestConfigImpl.
@@ -32,6 +35,10 @@ public class RestConfigImpl implements RestConfig {
     LOGGER.exiting();
   }
 
+  private static int getWorkerThreads() {
+    return TuningParameters.getInstance().getRestTuning().restWorkerThreads;
+  }
+
   @Override
   public String getHost() {
     return "0.0.0.0";
@@ -94,4 +101,9 @@ public class RestConfigImpl implements RestConfig {
     LOGGER.exiting();
     return result;
   }
+
+  @Override
+  public Executor getBackendExecutor() {
+    return backendExecutor;
+  }
 }
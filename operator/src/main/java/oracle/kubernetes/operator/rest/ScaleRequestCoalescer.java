@@ -0,0 +1,151 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.rest.model.ScaleClusterResultModel;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+
+/**
+ * Coalesces requests to scale the same cluster. The first request for an idle cluster is applied at once.
+ * Requests which arrive while it is being applied, or within a short window afterwards, are held; when the
+ * window closes, only the latest of them is applied, and every held request is completed with its result.
+ * The length of the window is set by the "scaleRequestCoalescingMillis" tuning parameter. The timer only
+ * closes windows; held requests are applied on a bounded pool of workers, so that clusters whose windows
+ * close together are scaled concurrently.
+ */
+class ScaleRequestCoalescer {
+
+  // Created on first use, as the tuning parameters are not yet loaded when this class is initialized.
+  private static ScaleRequestCoalescer INSTANCE;
+
+  private final ScheduledExecutorService timer;
+  private final Executor workers;
+  private final AtomicLong requestIds = new AtomicLong();
+  private final Map<String, List<ScaleRequest>> heldRequests = new HashMap<>();
+
+  ScaleRequestCoalescer(ScheduledExecutorService timer, Executor workers) {
+    this.timer = timer;
+    this.workers = workers;
+  }
+
+  static synchronized ScaleRequestCoalescer getInstance() {
+    if (INSTANCE == null) {
+      INSTANCE = new ScaleRequestCoalescer(
+            Executors.newSingleThreadScheduledExecutor(ThreadFactorySingleton.getInstance()),
+            RestBackendImpl.createBoundedExecutor(getRestTuning().restWorkerThreads));
+    }
+    return INSTANCE;
+  }
+
+  /**
+   * Submits a request to scale a cluster.
+   *
+   * @param clusterKey a key which uniquely identifies the cluster
+   * @param managedServerCount the requested number of managed servers
+   * @param scaler a function which applies the request
+   * @return a future which will be completed with the result of the request which is applied
+   */
+  CompletableFuture<ScaleClusterResultModel> submit(String clusterKey, int managedServerCount, Scaler scaler) {
+    ScaleRequest request = new ScaleRequest(requestIds.incrementAndGet(), managedServerCount, scaler);
+    synchronized (heldRequests) {
+      List<ScaleRequest> held = heldRequests.get(clusterKey);
+      if (held != null) {
+        held.add(request);
+        return request.result;
+      }
+      heldRequests.put(clusterKey, new ArrayList<>());
+    }
+
+    apply(clusterKey, List.of(request), false);
+    return request.result;
+  }
+
+  // Applies the latest of the specified requests, completes them all, and opens a window for later requests.
+  // Every request is completed, whatever the scaler throws, so that no caller waits forever.
+  private void apply(String clusterKey, List<ScaleRequest> requests, boolean deferred) {
+    ScaleRequest applied = requests.get(requests.size() - 1);
+    try {
+      boolean replicasChanged = applied.scaler.scale(deferred);
+      requests.forEach(r -> r.result.complete(r.createResult(applied, replicasChanged)));
+    } catch (Throwable t) {
+      requests.forEach(r -> r.result.completeExceptionally(t));
+    } finally {
+      scheduleWindowClose(clusterKey);
+    }
+  }
+
+  private void scheduleWindowClose(String clusterKey) {
+    long windowMillis = getWindowMillis();
+    if (windowMillis <= 0) {
+      closeWindow(clusterKey);
+    } else {
+      timer.schedule(() -> closeWindow(clusterKey), windowMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void closeWindow(String clusterKey) {
+    List<ScaleRequest> held;
+    synchronized (heldRequests) {
+      held = heldRequests.get(clusterKey);
+      if (held.isEmpty()) {
+        heldRequests.remove(clusterKey);
+        return;
+      }
+      heldRequests.put(clusterKey, new ArrayList<>());
+    }
+
+    workers.execute(() -> apply(clusterKey, held, true));
+  }
+
+  private static TuningParameters.RestTuning getRestTuning() {
+    return TuningParameters.getInstance().getRestTuning();
+  }
+
+  private long getWindowMillis() {
+    return getRestTuning().scaleRequestCoalescingMillis;
+  }
+
+  @FunctionalInterface
+  interface Scaler {
+    /**
+     * Applies a request to scale a cluster.
+     *
+     * @param deferred true if the request was held while an earlier request was applied, in which case
+     *                 any domain read before the request was submitted may be out of date and must be
+     *                 read again before it is compared with the request
+     * @return true if the cluster's replica count was changed
+     */
+    boolean scale(boolean deferred);
+  }
+
+  private static class ScaleRequest {
+    private final long id;
+    private final int managedServerCount;
+    private final Scaler scaler;
+    private final CompletableFuture<ScaleClusterResultModel> result = new CompletableFuture<>();
+
+    ScaleRequest(long id, int managedServerCount, Scaler scaler) {
+      this.id = id;
+      this.managedServerCount = managedServerCount;
+      this.scaler = scaler;
+    }
+
+    ScaleClusterResultModel createResult(ScaleRequest applied, boolean replicasChanged) {
+      return new ScaleClusterResultModel(
+            id, managedServerCount, applied.id, applied.managedServerCount, replicasChanged);
+    }
+  }
+}
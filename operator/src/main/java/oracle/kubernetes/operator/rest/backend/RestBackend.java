@@ -3,9 +3,13 @@
 
 package oracle.kubernetes.operator.rest.backend;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import oracle.kubernetes.operator.rest.model.DomainAction;
+import oracle.kubernetes.operator.rest.model.ScaleClusterResultModel;
+import oracle.kubernetes.operator.tracing.Span;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -60,9 +64,10 @@ public interface RestBackend {
 
   /**
    * Scales the number of managed servers in a WebLogic cluster. This method configures the desired
-   * number of managed servers, both at the Kubernetes and WebLogic cluster levels, then returns. It
-   * does not wait for the number of running managed servers to match the configured number of
-   * servers.
+   * number of managed servers, both at the Kubernetes and WebLogic cluster levels. It does not wait
+   * for the number of running managed servers to match the configured number of servers. Requests
+   * to scale the same cluster which arrive close together may be coalesced, so that only the latest
+   * of them is applied.
    *
    * @param domainUid - the unique identifier assigned to the Weblogic domain when it was registered
    *     with the WebLogic operator. The caller is responsible for calling isDomainUid first and not
@@ -70,6 +75,20 @@ public interface RestBackend {
    * @param cluster - the name of the cluster in the WebLogic domain. The caller is responsible for
    *     calling isCluster first and not calling this method if the cluster does not exist.
    * @param managedServerCount - the desired number of WebLogic managed servers.
+   * @return a stage which completes once the cluster has been configured, identifying the request
+   *     which was applied.
    */
-  public void scaleCluster(String domainUid, String cluster, int managedServerCount);
+  public CompletionStage<ScaleClusterResultModel> scaleCluster(
+      String domainUid, String cluster, int managedServerCount);
+
+  /**
+   * Get the most recent spans recorded for the operations which the WebLogic operator has performed on
+   * a WebLogic domain. None are recorded unless tracing has been enabled.
+   *
+   * @param domainUid - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator. The caller is responsible for calling isDomainUid first and not
+   *     calling this method if the domain has not been registered.
+   * @return the spans, oldest first.
+   */
+  public List<Span> getSpans(String domainUid);
 }
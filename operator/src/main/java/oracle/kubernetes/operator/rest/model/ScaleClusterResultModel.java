@@ -0,0 +1,143 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+/**
+ * ScaleClusterResultModel describes the outcome of a WebLogic cluster scaling operation. Requests to scale
+ * the same cluster which arrive close together are coalesced, so that only the latest of them is applied;
+ * this model identifies both the request which was made and the request which was applied.
+ */
+public class ScaleClusterResultModel extends BaseModel {
+
+  private long requestId;
+  private int managedServerCount;
+  private long appliedRequestId;
+  private int appliedManagedServerCount;
+  private boolean replicasChanged;
+
+  /**
+   * Construct an empty ScaleClusterResultModel.
+   */
+  public ScaleClusterResultModel() {
+  }
+
+  /**
+   * Construct a populated ScaleClusterResultModel.
+   *
+   * @param requestId - the identifier assigned to the request
+   * @param managedServerCount - the number of managed servers specified by the request
+   * @param appliedRequestId - the identifier of the request which was applied
+   * @param appliedManagedServerCount - the number of managed servers specified by the applied request
+   * @param replicasChanged - true if applying the request changed the cluster's replica count
+   */
+  public ScaleClusterResultModel(long requestId, int managedServerCount,
+                                 long appliedRequestId, int appliedManagedServerCount, boolean replicasChanged) {
+    this.requestId = requestId;
+    this.managedServerCount = managedServerCount;
+    this.appliedRequestId = appliedRequestId;
+    this.appliedManagedServerCount = appliedManagedServerCount;
+    this.replicasChanged = replicasChanged;
+  }
+
+  /**
+   * Get the identifier which the operator assigned to the request.
+   *
+   * @return the request identifier.
+   */
+  public long getRequestId() {
+    return requestId;
+  }
+
+  /**
+   * Set the identifier which the operator assigned to the request.
+   *
+   * @param requestId - the request identifier.
+   */
+  public void setRequestId(long requestId) {
+    this.requestId = requestId;
+  }
+
+  /**
+   * Get the number of managed servers specified by the request.
+   *
+   * @return the requested number of managed servers.
+   */
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+
+  /**
+   * Set the number of managed servers specified by the request.
+   *
+   * @param managedServerCount - the requested number of managed servers.
+   */
+  public void setManagedServerCount(int managedServerCount) {
+    this.managedServerCount = managedServerCount;
+  }
+
+  /**
+   * Get the identifier of the request which was applied to the cluster. This differs from the request
+   * identifier if the request was superseded by a later one.
+   *
+   * @return the applied request identifier.
+   */
+  public long getAppliedRequestId() {
+    return appliedRequestId;
+  }
+
+  /**
+   * Set the identifier of the request which was applied to the cluster.
+   *
+   * @param appliedRequestId - the applied request identifier.
+   */
+  public void setAppliedRequestId(long appliedRequestId) {
+    this.appliedRequestId = appliedRequestId;
+  }
+
+  /**
+   * Get the number of managed servers specified by the applied request.
+   *
+   * @return the applied number of managed servers.
+   */
+  public int getAppliedManagedServerCount() {
+    return appliedManagedServerCount;
+  }
+
+  /**
+   * Set the number of managed servers specified by the applied request.
+   *
+   * @param appliedManagedServerCount - the applied number of managed servers.
+   */
+  public void setAppliedManagedServerCount(int appliedManagedServerCount) {
+    this.appliedManagedServerCount = appliedManagedServerCount;
+  }
+
+  /**
+   * Returns true if applying the request changed the cluster's replica count; false if the cluster
+   * already had the applied number of replicas.
+   *
+   * @return whether the replica count was changed.
+   */
+  public boolean isReplicasChanged() {
+    return replicasChanged;
+  }
+
+  /**
+   * Set whether applying the request changed the cluster's replica count.
+   *
+   * @param replicasChanged - whether the replica count was changed.
+   */
+  public void setReplicasChanged(boolean replicasChanged) {
+    this.replicasChanged = replicasChanged;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "requestId=" + getRequestId()
+        + ", managedServerCount=" + getManagedServerCount()
+        + ", appliedRequestId=" + getAppliedRequestId()
+        + ", appliedManagedServerCount=" + getAppliedManagedServerCount()
+        + ", replicasChanged=" + isReplicasChanged(); // super has no properties
+  }
+}
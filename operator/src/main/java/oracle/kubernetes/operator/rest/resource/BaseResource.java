@@ -5,8 +5,18 @@ package oracle.kubernetes.operator.rest.resource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.Configuration;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -14,6 +24,7 @@ import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import oracle.kubernetes.operator.rest.AuthenticationFilter;
+import oracle.kubernetes.operator.rest.RestConfig;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.LinkContainerModel;
 
@@ -28,6 +39,7 @@ public class BaseResource {
 
   @Context private UriInfo uriInfo;
   @Context private ContainerRequestContext containerRequestContext;
+  @Context private Configuration configuration;
 
   protected BaseResource(BaseResource parent, String pathSegment) {
     this.parent = parent;
@@ -47,6 +59,63 @@ public class BaseResource {
         getContainerRequestContext().getProperty(AuthenticationFilter.REST_BACKEND_PROPERTY);
   }
 
+  private Executor getBackendExecutor() {
+    return Optional.ofNullable(getRoot().configuration)
+        .map(c -> (RestConfig) c.getProperty(RestConfig.REST_CONFIG_PROPERTY))
+        .map(RestConfig::getBackendExecutor)
+        .orElse(null);
+  }
+
+  /**
+   * Performs backend work for a suspended request and resumes the request with its result. The work
+   * runs on the backend executor when the REST configuration provides one, and otherwise on the calling
+   * thread. Since the work may run after the request thread has returned, it must not use
+   * request-scoped objects such as the URI info or request context; obtain anything needed from them
+   * beforehand.
+   *
+   * @param asyncResponse the suspended response
+   * @param work a function which performs the work and returns the response entity, null if there is
+   *             none, or a completion stage which will supply the entity
+   */
+  protected void performAsync(AsyncResponse asyncResponse, Supplier<Object> work) {
+    Executor executor = getBackendExecutor();
+    if (executor == null) {
+      resumeWithResult(asyncResponse, work);
+    } else {
+      try {
+        executor.execute(() -> resumeWithResult(asyncResponse, work));
+      } catch (RejectedExecutionException e) {
+        asyncResponse.resume(e);
+      }
+    }
+  }
+
+  private static void resumeWithResult(AsyncResponse asyncResponse, Supplier<Object> work) {
+    try {
+      resume(asyncResponse, work.get());
+    } catch (RuntimeException | Error e) {
+      asyncResponse.resume(e);
+    }
+  }
+
+  private static void resume(AsyncResponse asyncResponse, Object result) {
+    if (result instanceof CompletionStage) {
+      ((CompletionStage<?>) result).whenComplete((entity, failure) -> resume(asyncResponse, entity, failure));
+    } else {
+      asyncResponse.resume(result);
+    }
+  }
+
+  private static void resume(AsyncResponse asyncResponse, Object entity, Throwable failure) {
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      asyncResponse.resume(failure.getCause());
+    } else if (failure != null) {
+      asyncResponse.resume(failure);
+    } else {
+      asyncResponse.resume(entity);
+    }
+  }
+
   protected UriInfo getUriInfo() {
     return getRoot().uriInfo;
   }
@@ -76,14 +145,47 @@ public class BaseResource {
   }
 
   protected WebApplicationException notFound(String pathSegment) {
-    String notFoundHref = href(pathSegment);
+    return notFoundAt(href(pathSegment));
+  }
+
+  private static WebApplicationException notFoundAt(String notFoundHref) {
     return new WebApplicationException(
         Response.status(Status.NOT_FOUND).entity(notFoundHref).build());
   }
 
+  /**
+   * Returns a check that this resource exists, which throws a not-found exception if the specified
+   * condition is false. Unlike {@link #notFound(String)}, the check may be performed after the request
+   * thread has returned, so that any lookup it requires runs with the rest of the request's backend work.
+   *
+   * @param exists a condition which is true if this resource exists
+   * @return the check
+   */
+  protected Runnable existenceCheck(BooleanSupplier exists) {
+    String resourceHref = href();
+    return () -> {
+      if (!exists.getAsBoolean()) {
+        throw notFoundAt(resourceHref);
+      }
+    };
+  }
+
+  /**
+   * Returns a function which computes the hrefs of this resource's children. Unlike {@link #href(String...)},
+   * the function may be used after the request thread has returned.
+   *
+   * @return a function from a child path segment to its href
+   */
+  protected Function<String, String> childHrefs() {
+    UriBuilder base = getUriInfo().getBaseUriBuilder();
+    return segment -> href(base.clone(), segment);
+  }
+
   protected String href(String... pathSegments) {
+    return href(getUriInfo().getBaseUriBuilder(), pathSegments);
+  }
 
-    UriBuilder b = getUriInfo().getBaseUriBuilder();
+  private String href(UriBuilder b, String... pathSegments) {
 
     // traverse my parents to find the path segments to this resource.
     // insert each into an array starting at 0 so that the array
@@ -6,10 +6,13 @@ package oracle.kubernetes.operator.rest.resource;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
 
 /**
@@ -34,17 +37,21 @@ public class ClusterResource extends BaseResource {
   /**
    * Get a description of this Weblogic cluster.
    *
-   * @return a ClusterModel describing this cluster.
+   * @param asyncResponse - the response, resumed with a ClusterModel describing this cluster.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public ClusterModel get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
     LOGGER.entering(href());
+    Runnable clusterCheck = getClusterCheck();
     ClusterModel item = new ClusterModel(getCluster());
     addSelfAndParentLinks(item);
     addActionLink(item, "scale");
-    LOGGER.exiting(item);
-    return item;
+    performAsync(asyncResponse, () -> {
+      clusterCheck.run();
+      return item;
+    });
+    LOGGER.exiting();
   }
 
   /**
@@ -60,6 +67,20 @@ public class ClusterResource extends BaseResource {
     return result;
   }
 
+  // Returns a check, which may run after the request thread has returned, that the domain and this cluster exist.
+  Runnable getClusterCheck() {
+    ClustersResource clusters = (ClustersResource) getParent();
+    Runnable domainCheck = clusters.getDomainCheck();
+    RestBackend backend = getBackend();
+    String domainUid = clusters.getDomainUid();
+    String cluster = getCluster();
+    Runnable clusterCheck = existenceCheck(() -> backend.isCluster(domainUid, cluster));
+    return () -> {
+      domainCheck.run();
+      clusterCheck.run();
+    };
+  }
+
   private String getCluster() {
     return getPathSegment();
   }
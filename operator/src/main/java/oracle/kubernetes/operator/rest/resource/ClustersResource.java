@@ -3,15 +3,18 @@
 
 package oracle.kubernetes.operator.rest.resource;
 
+import java.util.function.Function;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
-import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
 import oracle.kubernetes.operator.rest.model.CollectionModel;
 
@@ -37,44 +40,51 @@ public class ClustersResource extends BaseResource {
   /**
    * List a WebLogic domain's clusters.
    *
-   * @return a collection of ClusterModels describing the clusters.
+   * @param asyncResponse - the response, resumed with a collection of ClusterModels describing the clusters.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<ClusterModel> get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
     LOGGER.entering(href());
+    Runnable domainCheck = getDomainCheck();
     String domainUid = getDomainUid();
+    RestBackend backend = getBackend();
+    Function<String, String> clusterHrefs = childHrefs();
     CollectionModel<ClusterModel> collection = new CollectionModel<ClusterModel>();
-    for (String cluster : getBackend().getClusters(domainUid)) {
-      ClusterModel item = new ClusterModel(cluster);
-      item.addSelfLinks(href(item.getCluster()));
-      collection.addItem(item);
-    }
     addSelfAndParentLinks(collection);
-    LOGGER.exiting(collection);
-    return collection;
+    performAsync(asyncResponse, () -> {
+      domainCheck.run();
+      for (String cluster : backend.getClusters(domainUid)) {
+        ClusterModel item = new ClusterModel(cluster);
+        item.addSelfLinks(clusterHrefs.apply(item.getCluster()));
+        collection.addItem(item);
+      }
+      return collection;
+    });
+    LOGGER.exiting();
   }
 
   /**
-   * Construct and return a 'cluster' jaxrs child resource.
+   * Construct and return a 'cluster' jaxrs child resource. The cluster is not looked up here; the child
+   * resource's methods report that it is not found, as part of their backend work.
    *
    * @param cluster - the name of the WebLogic cluster.
-   * @return the cluster sub resource, throws a WebApplicationException if cluster does not exist.
+   * @return the cluster sub resource.
    */
   @Path("{clusters}")
   public ClusterResource getClusterResource(@PathParam("clusters") String cluster) {
     LOGGER.entering(href(), cluster);
-    if (!getBackend().isCluster(getDomainUid(), cluster)) {
-      WebApplicationException e = notFound(cluster);
-      LOGGER.throwing(e);
-      throw e;
-    }
     ClusterResource result = new ClusterResource(this, cluster);
     LOGGER.exiting(result);
     return result;
   }
 
-  private String getDomainUid() {
+  // Returns a check, which may run after the request thread has returned, that the domain exists.
+  Runnable getDomainCheck() {
+    return ((DomainResource) getParent()).getDomainCheck();
+  }
+
+  String getDomainUid() {
     return getParent().getPathSegment();
   }
 }
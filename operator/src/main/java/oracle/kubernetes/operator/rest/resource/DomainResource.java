@@ -8,12 +8,16 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainModel;
+import oracle.kubernetes.operator.tracing.JaegerExporter;
 
 /**
  * DomainResource is a jaxrs resource that implements the REST api for the
@@ -37,28 +41,62 @@ public class DomainResource extends BaseResource {
   /**
    * Get a description of this WebLogic domain.
    *
-   * @return a DomainModel describing this domain.
+   * @param asyncResponse - the response, resumed with a DomainModel describing this domain.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public DomainModel get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
     LOGGER.entering(href());
+    Runnable domainCheck = getDomainCheck();
     DomainModel item = new DomainModel(getDomainUid());
     addSelfAndParentLinks(item);
     addLink(item, "clusters");
-    LOGGER.exiting(item);
-    return item;
+    addLink(item, "traces");
+    performAsync(asyncResponse, () -> {
+      domainCheck.run();
+      return item;
+    });
+    LOGGER.exiting();
   }
 
   /**
    * Apply changes to this domain. The changes depend on the details of the specified instructions
    *
    * @param params - an update command, including a command type and optional parameters
+   * @param asyncResponse - the response, resumed once the domain has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final DomainAction params) {
-    getBackend().performDomainAction(getDomainUid(), params);
+  public void post(final DomainAction params, @Suspended AsyncResponse asyncResponse) {
+    Runnable domainCheck = getDomainCheck();
+    RestBackend backend = getBackend();
+    String domainUid = getDomainUid();
+    performAsync(asyncResponse, () -> {
+      domainCheck.run();
+      backend.performDomainAction(domainUid, params);
+      return null;
+    });
+  }
+
+  /**
+   * Get the most recent spans recorded for this domain, in the JSON format used by the Jaeger query service.
+   *
+   * @param asyncResponse - the response, resumed with a JSON object whose "data" array contains one entry
+   *     for each trace.
+   */
+  @GET
+  @Path("traces")
+  @Produces(MediaType.APPLICATION_JSON)
+  public void getTraces(@Suspended AsyncResponse asyncResponse) {
+    LOGGER.entering(href());
+    Runnable domainCheck = getDomainCheck();
+    RestBackend backend = getBackend();
+    String domainUid = getDomainUid();
+    performAsync(asyncResponse, () -> {
+      domainCheck.run();
+      return JaegerExporter.export(backend.getSpans(domainUid)).toString();
+    });
+    LOGGER.exiting();
   }
 
   /**
@@ -74,6 +112,13 @@ public class DomainResource extends BaseResource {
     return result;
   }
 
+  // Returns a check, which may run after the request thread has returned, that this domain exists.
+  Runnable getDomainCheck() {
+    RestBackend backend = getBackend();
+    String domainUid = getDomainUid();
+    return existenceCheck(() -> backend.isDomainUid(domainUid));
+  }
+
   private String getDomainUid() {
     return getPathSegment();
   }
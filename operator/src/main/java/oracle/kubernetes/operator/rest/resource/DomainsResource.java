@@ -3,15 +3,18 @@
 
 package oracle.kubernetes.operator.rest.resource;
 
+import java.util.function.Function;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
-import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.CollectionModel;
 import oracle.kubernetes.operator.rest.model.DomainModel;
 
@@ -37,39 +40,38 @@ public class DomainsResource extends BaseResource {
   /**
    * List the WebLogic domains that are registered with the WebLogic operator.
    *
-   * @return a collection of DomainModels describing the domains.
+   * @param asyncResponse - the response, resumed with a collection of DomainModels describing the domains.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<DomainModel> get() {
+  public void get(@Suspended AsyncResponse asyncResponse) {
     LOGGER.entering(href());
+    RestBackend backend = getBackend();
+    Function<String, String> domainHrefs = childHrefs();
     CollectionModel<DomainModel> collection = new CollectionModel<DomainModel>();
-    for (String domainUid : getBackend().getDomainUids()) {
-      DomainModel item = new DomainModel(domainUid);
-      item.addSelfLinks(href(item.getDomainUid()));
-      collection.addItem(item);
-    }
     addSelfAndParentLinks(collection);
-    LOGGER.exiting(collection);
-    return collection;
+    performAsync(asyncResponse, () -> {
+      for (String domainUid : backend.getDomainUids()) {
+        DomainModel item = new DomainModel(domainUid);
+        item.addSelfLinks(domainHrefs.apply(item.getDomainUid()));
+        collection.addItem(item);
+      }
+      return collection;
+    });
+    LOGGER.exiting();
   }
 
   /**
-   * Construct and return a 'domain' jaxrs child resource.
+   * Construct and return a 'domain' jaxrs child resource. The domain is not looked up here; the child
+   * resource's methods report that it is not found, as part of their backend work.
    *
    * @param domainUid - the unique identifier assigned to the WebLogic domain when it was registered
    *     with the WebLogic operator.
-   * @return the domain sub resource, throws a WebApplicationException if domainUID is not
-   *     registered.
+   * @return the domain sub resource.
    */
   @Path("{domainUID}")
   public DomainResource getDomainResource(@PathParam("domainUID") String domainUid) {
     LOGGER.entering(href(), domainUid);
-    if (!getBackend().isDomainUid(domainUid)) {
-      WebApplicationException e = notFound(domainUid);
-      LOGGER.throwing(e);
-      throw e;
-    }
     DomainResource result = new DomainResource(this, domainUid);
     LOGGER.exiting(result);
     return result;
@@ -5,10 +5,14 @@ package oracle.kubernetes.operator.rest.resource;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.MediaType;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 
 /**
@@ -33,16 +37,26 @@ public class ScaleClusterResource extends BaseResource {
   /**
    * Scale this WebLogic cluster up or down. This method configures the specified numer of managed
    * servers at both the Kubernetes and WebLogic levels, then returns. It does not wait for the new
-   * managed servers to start or removed managed servers to stop.
+   * managed servers to start or removed managed servers to stop. Requests which arrive close together
+   * are coalesced; the response identifies the request which was applied.
    *
    * @param params - a ScaleClusterParamsModel that specifies the desired number of managed servers
    *     in the cluster
+   * @param asyncResponse - the response, resumed with a ScaleClusterResultModel once the cluster has been updated
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
+  @Produces(MediaType.APPLICATION_JSON)
+  public void post(final ScaleClusterParamsModel params, @Suspended AsyncResponse asyncResponse) {
     LOGGER.entering(href(), params);
-    getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
+    Runnable clusterCheck = ((ClusterResource) getParent()).getClusterCheck();
+    RestBackend backend = getBackend();
+    String domainUid = getDomainUid();
+    String cluster = getCluster();
+    performAsync(asyncResponse, () -> {
+      clusterCheck.run();
+      return backend.scaleCluster(domainUid, cluster, params.getManagedServerCount());
+    });
     LOGGER.exiting();
   }
 
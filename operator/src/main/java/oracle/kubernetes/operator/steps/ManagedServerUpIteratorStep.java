@@ -127,7 +127,7 @@ public class ManagedServerUpIteratorStep extends Step {
     Packet p = packet.clone();
     p.put(ProcessingConstants.CLUSTER_NAME, ssi.getClusterName());
     p.put(ProcessingConstants.SERVER_NAME, ssi.getName());
-    p.put(ProcessingConstants.SERVER_SCAN, ssi.serverConfig);
+    p.putValue(ProcessingConstants.SERVER_SCAN_KEY, ssi.serverConfig);
     p.put(ProcessingConstants.ENVVARS, ssi.getEnvironment());
     return p;
   }
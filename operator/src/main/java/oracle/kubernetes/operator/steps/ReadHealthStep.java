@@ -279,8 +279,7 @@ public class ReadHealthStep extends Step {
 
     private WlsDomainConfig getWlsDomainConfig() {
       DomainPresenceInfo info = getPacket().getSpi(DomainPresenceInfo.class);
-      WlsDomainConfig domainConfig =
-          (WlsDomainConfig) getPacket().get(ProcessingConstants.DOMAIN_TOPOLOGY);
+      WlsDomainConfig domainConfig = getPacket().getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY);
       if (domainConfig == null) {
         Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
         domainConfig = scan.getWlsDomainConfig();
@@ -3,14 +3,39 @@
 
 package oracle.kubernetes.operator.steps;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.DomainStatusUpdater;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.PodAwaiterStepFactory;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
+/**
+ * A step which shuts down the specified servers. The servers in each cluster are shut down in parallel, up to
+ * the cluster's maximum concurrent shutdown; non-clustered managed servers are shut down in parallel without limit.
+ * The admin server, if included, is shut down only after all managed servers, so that they may reach it while
+ * shutting down. Servers which may all shut down at once have their pods deleted together. The services of each
+ * server are deleted once its pod is gone, while the next server shuts down, and the domain status is updated
+ * after the managed servers and again after the admin server.
+ */
 public class ServerDownIteratorStep extends Step {
   private final List<String> serverNames;
 
@@ -30,17 +55,200 @@ public class ServerDownIteratorStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    Collection<StepAndPacket> startDetails =
-        getServersToStop().stream()
-            .map(
-                serverName ->
-                    new StepAndPacket(new ServerDownStep(serverName, null), packet.clone()))
-            .collect(Collectors.toList());
-
-    if (startDetails.isEmpty()) {
+    if (getServersToStop().isEmpty()) {
       return doNext(packet);
-    } else {
-      return doForkJoin(getNext(), packet, startDetails);
+    }
+
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    String adminServerName = getAdminServerName(packet);
+    List<String> managedServerNames = getServersToStop().stream()
+          .filter(serverName -> !serverName.equals(adminServerName))
+          .collect(Collectors.toList());
+
+    Step next = createStatusUpdateStep(info, getNext());
+    if (getServersToStop().contains(adminServerName)) {
+      next = createStatusUpdateStep(info,
+            new ShutdownServersStep(Collections.singletonList(adminServerName), next));
+    }
+    return doNext(new ShutdownServersStep(managedServerNames, next), packet);
+  }
+
+  private String getAdminServerName(Packet packet) {
+    return Optional.ofNullable(packet.getValue(ProcessingConstants.DOMAIN_TOPOLOGY_KEY))
+          .map(WlsDomainConfig::getAdminServerName)
+          .orElse(null);
+  }
+
+  // a domain which is being deleted has no status to update
+  private Step createStatusUpdateStep(DomainPresenceInfo info, Step next) {
+    return info.getDomain() != null && info.isNotDeleting()
+          ? DomainStatusUpdater.createStatusUpdateStep(next)
+          : next;
+  }
+
+  private static String getClusterName(DomainPresenceInfo info, String serverName) {
+    return Optional.ofNullable(info.getServerPod(serverName))
+          .map(V1Pod::getMetadata)
+          .map(V1ObjectMeta::getLabels)
+          .map(labels -> labels.get(LabelConstants.CLUSTERNAME_LABEL))
+          .orElse(null);
+  }
+
+  private static int getMaxConcurrentShutdown(DomainPresenceInfo info, String clusterName) {
+    return clusterName == null
+          ? 0
+          : Optional.ofNullable(info.getDomain()).map(d -> d.getMaxConcurrentShutdown(clusterName)).orElse(0);
+  }
+
+  /**
+   * Shuts down a set of servers, grouped by cluster. Each group is served by as many workers as it may shut down
+   * servers in parallel, so that only those workers, rather than every server, need their own packets.
+   */
+  static class ShutdownServersStep extends Step {
+    private final List<String> serverNames;
+
+    ShutdownServersStep(List<String> serverNames, Step next) {
+      super(next);
+      this.serverNames = serverNames;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      Collection<StepAndPacket> work = new ArrayList<>();
+      groupByCluster(info).forEach((clusterName, names) ->
+            work.addAll(createWorkers(names, getMaxConcurrentShutdown(info, clusterName), packet)));
+
+      if (work.isEmpty()) {
+        return doNext(packet);
+      } else {
+        return doForkJoin(getNext(), packet, work);
+      }
+    }
+
+    // the non-clustered servers are grouped under a null cluster name
+    private Map<String, List<String>> groupByCluster(DomainPresenceInfo info) {
+      Map<String, List<String>> groups = new LinkedHashMap<>();
+      for (String serverName : serverNames) {
+        groups.computeIfAbsent(getClusterName(info, serverName), k -> new ArrayList<>()).add(serverName);
+      }
+      return groups;
+    }
+
+    private Collection<StepAndPacket> createWorkers(List<String> serverNames, int maxConcurrency, Packet packet) {
+      if (maxConcurrency <= 0 && serverNames.size() > 1) {
+        return Collections.singletonList(new StepAndPacket(new ShutdownAllStep(serverNames), packet.clone()));
+      }
+
+      Queue<String> queue = new ConcurrentLinkedQueue<>(serverNames);
+      int numWorkers = maxConcurrency > 0 ? Math.min(maxConcurrency, serverNames.size()) : serverNames.size();
+
+      Collection<StepAndPacket> workers = new ArrayList<>();
+      for (int i = 0; i < numWorkers; i++) {
+        workers.add(new StepAndPacket(new ShutdownWorkerStep(queue), packet.clone()));
+      }
+      return workers;
+    }
+  }
+
+  /**
+   * Repeatedly takes a server from a shared queue and shuts it down, until the queue is empty. The services of
+   * the server last shut down are deleted while the pod of the next one is deleted. Runs on a single fiber.
+   */
+  static class ShutdownWorkerStep extends Step {
+    private final Queue<String> queue;
+    private String serverShutDown;
+
+    ShutdownWorkerStep(Queue<String> queue) {
+      super(null);
+      this.queue = queue;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> work = new ArrayList<>();
+      Optional.ofNullable(serverShutDown)
+            .map(serverName -> new StepAndPacket(ServiceHelper.deleteServicesStep(serverName, null), packet.clone()))
+            .ifPresent(work::add);
+
+      serverShutDown = queue.poll();
+      Optional.ofNullable(serverShutDown)
+            .map(serverName -> new StepAndPacket(new PodDownStep(serverName, null), packet.clone()))
+            .ifPresent(work::add);
+
+      if (work.isEmpty()) {
+        return doNext(packet);
+      } else {
+        return doForkJoin(this, packet, work);
+      }
+    }
+  }
+
+  /**
+   * Shuts down servers which may all stop at once. Their pods are deleted together, with as few calls as possible,
+   * and the services of each server are deleted as soon as its pod is gone.
+   */
+  static class ShutdownAllStep extends Step {
+    private final List<String> serverNames;
+
+    ShutdownAllStep(List<String> serverNames) {
+      super(null);
+      this.serverNames = serverNames;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      PodAwaiterStepFactory pw = packet.getSpi(PodAwaiterStepFactory.class);
+
+      Collection<StepAndPacket> work = new ArrayList<>();
+      for (String serverName : serverNames) {
+        Step deleteServices = ServiceHelper.deleteServicesStep(serverName, null);
+        Step step = Optional.ofNullable(info.getServerPod(serverName))
+              .map(pod -> pw.waitForDelete(pod, deleteServices))
+              .orElse(deleteServices);
+        work.add(new StepAndPacket(step, packet.clone()));
+      }
+
+      return doNext(PodHelper.deletePodsStep(serverNames, new ForkJoinStep(work)), packet);
+    }
+  }
+
+  private static class ForkJoinStep extends Step {
+    private final Collection<StepAndPacket> work;
+
+    ForkJoinStep(Collection<StepAndPacket> work) {
+      super(null);
+      this.work = work;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(getNext(), packet, work);
+    }
+  }
+
+  /**
+   * Deletes the pod for a server, if any, and waits until it is gone.
+   */
+  static class PodDownStep extends Step {
+    private final String serverName;
+
+    PodDownStep(String serverName, Step next) {
+      super(next);
+      this.serverName = serverName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      V1Pod oldPod = info.getServerPod(serverName);
+      if (oldPod == null) {
+        return doNext(packet);
+      }
+
+      PodAwaiterStepFactory pw = packet.getSpi(PodAwaiterStepFactory.class);
+      return doNext(PodHelper.deletePodStep(serverName, pw.waitForDelete(oldPod, getNext())), packet);
     }
   }
 }
@@ -0,0 +1,74 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A span which has been started, but not yet ended. Once ended, it is recorded in the buffer of its domain;
+ * any further tags or attempts to end it are ignored. A span may be started on one thread and ended on another.
+ */
+public class ActiveSpan {
+
+  /** A span which records nothing, returned when tracing is disabled or no domain is known. */
+  public static final ActiveSpan NONE = new ActiveSpan(null, null, null, null, null, 0, 0);
+
+  private final Tracer tracer;
+  private final TraceContext context;
+  private final String operationName;
+  private final String namespace;
+  private final String domainUid;
+  private final long startMicros;
+  private final long startNanos;
+  private final Map<String, Object> tags = new LinkedHashMap<>();
+  private boolean ended;
+
+  ActiveSpan(Tracer tracer, TraceContext context, String operationName, String namespace, String domainUid,
+             long startMicros, long startNanos) {
+    this.tracer = tracer;
+    this.context = context;
+    this.operationName = operationName;
+    this.namespace = namespace;
+    this.domainUid = domainUid;
+    this.startMicros = startMicros;
+    this.startNanos = startNanos;
+  }
+
+  public TraceContext getContext() {
+    return context;
+  }
+
+  /**
+   * Adds a tag to this span. Values which are null are ignored.
+   *
+   * @param key the name of the tag
+   * @param value a string, boolean or number
+   * @return this span
+   */
+  public synchronized ActiveSpan tag(String key, Object value) {
+    if (tracer != null && !ended && value != null) {
+      tags.put(key, value);
+    }
+    return this;
+  }
+
+  /** Ends this span and records it, if it has not already been ended. */
+  public void end() {
+    Span span = createCompletedSpan();
+    if (span != null) {
+      tracer.record(span);
+    }
+  }
+
+  private synchronized Span createCompletedSpan() {
+    if (tracer == null || ended) {
+      return null;
+    }
+
+    ended = true;
+    long durationMicros = (tracer.nanoTime() - startNanos) / 1000;
+    return new Span(context, operationName, namespace, domainUid, startMicros, durationMicros, tags);
+  }
+}
@@ -0,0 +1,114 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+/**
+ * Renders spans in the JSON format returned by the Jaeger query service, which the Jaeger UI can load directly.
+ * Spans are grouped into one trace per trace ID; each trace has a single process, identifying the operator
+ * and the domain.
+ */
+public class JaegerExporter {
+
+  static final String SERVICE_NAME = "weblogic-operator";
+  private static final String PROCESS_ID = "p1";
+
+  private JaegerExporter() {
+  }
+
+  /**
+   * Renders the specified spans.
+   *
+   * @param spans the spans to export
+   * @return a JSON object with a "data" array containing one entry per trace
+   */
+  public static JsonObject export(List<Span> spans) {
+    JsonArrayBuilder data = Json.createArrayBuilder();
+    groupByTrace(spans).forEach((traceId, traceSpans) -> data.add(createTrace(traceId, traceSpans)));
+    return Json.createObjectBuilder().add("data", data).build();
+  }
+
+  private static Map<Long, List<Span>> groupByTrace(List<Span> spans) {
+    Map<Long, List<Span>> traces = new LinkedHashMap<>();
+    for (Span span : spans) {
+      traces.computeIfAbsent(span.getContext().getTraceId(), id -> new ArrayList<>()).add(span);
+    }
+    return traces;
+  }
+
+  private static JsonObject createTrace(long traceId, List<Span> spans) {
+    JsonArrayBuilder spanArray = Json.createArrayBuilder();
+    spans.forEach(span -> spanArray.add(createSpan(span)));
+    return Json.createObjectBuilder()
+          .add("traceID", toHex(traceId))
+          .add("spans", spanArray)
+          .add("processes", Json.createObjectBuilder().add(PROCESS_ID, createProcess(spans.get(0))))
+          .build();
+  }
+
+  private static JsonObject createProcess(Span span) {
+    JsonArrayBuilder tags = Json.createArrayBuilder();
+    Map<String, Object> processTags = new LinkedHashMap<>();
+    processTags.put("weblogic.domainUID", span.getDomainUid());
+    processTags.put("weblogic.namespace", span.getNamespace());
+    processTags.forEach((key, value) -> addTag(tags, key, value));
+    return Json.createObjectBuilder().add("serviceName", SERVICE_NAME).add("tags", tags).build();
+  }
+
+  private static JsonObject createSpan(Span span) {
+    TraceContext context = span.getContext();
+    JsonArrayBuilder references = Json.createArrayBuilder();
+    if (context.hasParent()) {
+      references.add(Json.createObjectBuilder()
+            .add("refType", "CHILD_OF")
+            .add("traceID", toHex(context.getTraceId()))
+            .add("spanID", toHex(context.getParentSpanId())));
+    }
+
+    JsonArrayBuilder tags = Json.createArrayBuilder();
+    span.getTags().forEach((key, value) -> addTag(tags, key, value));
+
+    return Json.createObjectBuilder()
+          .add("traceID", toHex(context.getTraceId()))
+          .add("spanID", toHex(context.getSpanId()))
+          .add("operationName", span.getOperationName())
+          .add("references", references)
+          .add("startTime", span.getStartMicros())
+          .add("duration", span.getDurationMicros())
+          .add("tags", tags)
+          .add("logs", Json.createArrayBuilder())
+          .add("processID", PROCESS_ID)
+          .build();
+  }
+
+  private static void addTag(JsonArrayBuilder tags, String key, Object value) {
+    if (value == null) {
+      return;
+    }
+
+    JsonObjectBuilder tag = Json.createObjectBuilder().add("key", key);
+    if (value instanceof Boolean) {
+      tag.add("type", "bool").add("value", (Boolean) value);
+    } else if (value instanceof Integer || value instanceof Long) {
+      tag.add("type", "int64").add("value", ((Number) value).longValue());
+    } else if (value instanceof Number) {
+      tag.add("type", "float64").add("value", ((Number) value).doubleValue());
+    } else {
+      tag.add("type", "string").add("value", value.toString());
+    }
+    tags.add(tag);
+  }
+
+  private static String toHex(long id) {
+    return String.format("%016x", id);
+  }
+}
@@ -0,0 +1,76 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/** A completed span: a single timed operation performed on behalf of a domain. */
+public class Span {
+  private final TraceContext context;
+  private final String operationName;
+  private final String namespace;
+  private final String domainUid;
+  private final long startMicros;
+  private final long durationMicros;
+  private final Map<String, Object> tags;
+
+  Span(TraceContext context, String operationName, String namespace, String domainUid,
+       long startMicros, long durationMicros, Map<String, Object> tags) {
+    this.context = context;
+    this.operationName = operationName;
+    this.namespace = namespace;
+    this.domainUid = domainUid;
+    this.startMicros = startMicros;
+    this.durationMicros = durationMicros;
+    this.tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+  }
+
+  public TraceContext getContext() {
+    return context;
+  }
+
+  public String getOperationName() {
+    return operationName;
+  }
+
+  public String getNamespace() {
+    return namespace;
+  }
+
+  public String getDomainUid() {
+    return domainUid;
+  }
+
+  /**
+   * Returns the time at which the operation started.
+   *
+   * @return the start time, in microseconds since the epoch
+   */
+  public long getStartMicros() {
+    return startMicros;
+  }
+
+  public long getDurationMicros() {
+    return durationMicros;
+  }
+
+  public Map<String, Object> getTags() {
+    return tags;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+          .append("operationName", operationName)
+          .append("domainUid", domainUid)
+          .append("startMicros", startMicros)
+          .append("durationMicros", durationMicros)
+          .append("tags", tags)
+          .toString();
+  }
+}
@@ -0,0 +1,40 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** A fixed-size ring of the most recent spans recorded for a domain. */
+class SpanBuffer {
+  private final Span[] spans;
+  private long count;
+
+  SpanBuffer(int capacity) {
+    spans = new Span[capacity];
+  }
+
+  int getCapacity() {
+    return spans.length;
+  }
+
+  synchronized void add(Span span) {
+    spans[(int) (count++ % spans.length)] = span;
+  }
+
+  /** Returns the retained spans, oldest first. */
+  synchronized List<Span> getSpans() {
+    int size = (int) Math.min(count, spans.length);
+    List<Span> result = new ArrayList<>(size);
+    for (long i = count - size; i < count; i++) {
+      result.add(spans[(int) (i % spans.length)]);
+    }
+    return result;
+  }
+
+  /** Returns the number of spans which have been recorded, including those which have been discarded. */
+  synchronized long getRecordedCount() {
+    return count;
+  }
+}
@@ -0,0 +1,64 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The identity of a span: the trace to which it belongs, its own identifier, and that of its parent span, if any.
+ * Identifiers are non-zero random numbers; zero indicates that a span has no parent.
+ */
+public final class TraceContext {
+  private final long traceId;
+  private final long spanId;
+  private final long parentSpanId;
+
+  TraceContext(long traceId, long spanId, long parentSpanId) {
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.parentSpanId = parentSpanId;
+  }
+
+  /**
+   * Creates the context for the first span of a new trace.
+   *
+   * @return a new context
+   */
+  public static TraceContext createRoot() {
+    return new TraceContext(createId(), createId(), 0);
+  }
+
+  /**
+   * Creates the context for a span whose parent is the span identified by this context.
+   *
+   * @return a new context in the same trace
+   */
+  public TraceContext createChild() {
+    return new TraceContext(traceId, createId(), spanId);
+  }
+
+  private static long createId() {
+    long id;
+    do {
+      id = ThreadLocalRandom.current().nextLong();
+    } while (id == 0);
+    return id;
+  }
+
+  public long getTraceId() {
+    return traceId;
+  }
+
+  public long getSpanId() {
+    return spanId;
+  }
+
+  public long getParentSpanId() {
+    return parentSpanId;
+  }
+
+  public boolean hasParent() {
+    return parentSpanId != 0;
+  }
+}
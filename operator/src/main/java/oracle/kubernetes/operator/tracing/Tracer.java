@@ -0,0 +1,159 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.logging.LoggingContext;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Packet;
+
+/**
+ * Records spans for the operations performed on behalf of each domain. The most recent spans for each domain are
+ * kept in a bounded buffer, whose size is set by the "tracingSpansPerDomain" tuning parameter; a size of zero,
+ * the default, disables tracing. Spans are attributed to the domain and namespace found in the packet on which
+ * the operation acts, in the same way as for log messages; operations for which no domain is known are not traced.
+ */
+public class Tracer {
+
+  @SuppressWarnings("FieldMayBeFinal") // may be replaced by unit tests
+  private static Tracer INSTANCE = new Tracer();
+
+  private final LongSupplier nanoTime;
+  private final long baseNanos;
+  private final long baseMicros;
+  private final Map<String, SpanBuffer> buffers = new ConcurrentHashMap<>();
+  private volatile int spansPerDomain;
+
+  Tracer() {
+    this(System::nanoTime, System.currentTimeMillis() * 1000);
+  }
+
+  Tracer(LongSupplier nanoTime, long baseMicros) {
+    this.nanoTime = nanoTime;
+    this.baseNanos = nanoTime.getAsLong();
+    this.baseMicros = baseMicros;
+  }
+
+  public static Tracer getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sets the number of spans to retain for each domain. Changing it discards all spans recorded so far.
+   *
+   * @param spansPerDomain the number of spans; zero disables tracing
+   */
+  public synchronized void setSpansPerDomain(int spansPerDomain) {
+    if (spansPerDomain != this.spansPerDomain) {
+      this.spansPerDomain = Math.max(0, spansPerDomain);
+      buffers.clear();
+    }
+  }
+
+  public boolean isEnabled() {
+    return spansPerDomain > 0;
+  }
+
+  /**
+   * Starts a span as a child of the span of the fiber running on the current thread, if any.
+   *
+   * @param operationName the name of the operation
+   * @param packet the packet on which the operation acts
+   * @return the started span, which the caller must end
+   */
+  public ActiveSpan startSpan(String operationName, Packet packet) {
+    if (!isEnabled()) {
+      return ActiveSpan.NONE;
+    }
+
+    TraceContext context = Optional.ofNullable(Fiber.getCurrentIfSet())
+          .map(Fiber::getTraceContext)
+          .map(TraceContext::createChild)
+          .orElseGet(TraceContext::createRoot);
+    return startSpan(context, packet, () -> operationName);
+  }
+
+  /**
+   * Starts a span with the specified identity. The operation name is computed only if the span is to be recorded.
+   *
+   * @param context the identity of the span
+   * @param packet the packet on which the operation acts
+   * @param operationName a supplier of the name of the operation
+   * @return the started span, which the caller must end
+   */
+  public ActiveSpan startSpan(TraceContext context, Packet packet, Supplier<String> operationName) {
+    if (!isEnabled()) {
+      return ActiveSpan.NONE;
+    }
+
+    String domainUid = getDomainUid(packet);
+    if (domainUid == null) {
+      return ActiveSpan.NONE;
+    }
+
+    long startNanos = nanoTime();
+    return new ActiveSpan(this, context, operationName.get(), getNamespace(packet), domainUid,
+          baseMicros + (startNanos - baseNanos) / 1000, startNanos);
+  }
+
+  private String getDomainUid(Packet packet) {
+    return Optional.ofNullable(getDomainPresenceInfo(packet))
+          .map(DomainPresenceInfo::getDomainUid)
+          .orElseGet(() -> getLoggingContext(packet).map(LoggingContext::domainUid).orElse(null));
+  }
+
+  private String getNamespace(Packet packet) {
+    return Optional.ofNullable(getDomainPresenceInfo(packet))
+          .map(DomainPresenceInfo::getNamespace)
+          .orElseGet(() -> getLoggingContext(packet).map(LoggingContext::namespace).orElse(null));
+  }
+
+  private DomainPresenceInfo getDomainPresenceInfo(Packet packet) {
+    return packet == null ? null : packet.getSpi(DomainPresenceInfo.class);
+  }
+
+  private Optional<LoggingContext> getLoggingContext(Packet packet) {
+    return Optional.ofNullable(packet)
+          .map(p -> p.getSpi(LoggingContext.class))
+          .or(LoggingContext::optionalContext);
+  }
+
+  long nanoTime() {
+    return nanoTime.getAsLong();
+  }
+
+  void record(Span span) {
+    int capacity = spansPerDomain;
+    if (capacity > 0) {
+      buffers.computeIfAbsent(span.getDomainUid(), uid -> new SpanBuffer(capacity)).add(span);
+    }
+  }
+
+  /**
+   * Returns the spans retained for the specified domain, oldest first.
+   *
+   * @param domainUid the UID of a domain
+   * @return a list of spans, which is empty if the domain has none
+   */
+  public List<Span> getSpans(String domainUid) {
+    return Optional.ofNullable(buffers.get(domainUid)).map(SpanBuffer::getSpans).orElse(Collections.emptyList());
+  }
+
+  /**
+   * Discards the spans retained for the specified domain.
+   *
+   * @param domainUid the UID of a domain
+   */
+  public void removeDomain(String domainUid) {
+    buffers.remove(domainUid);
+  }
+}
@@ -0,0 +1,5 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+/** Per-domain tracing of the operations performed by the Operator's fibers. */
+package oracle.kubernetes.operator.tracing;
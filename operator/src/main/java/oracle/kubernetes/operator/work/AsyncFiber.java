@@ -34,6 +34,20 @@ public interface AsyncFiber {
    */
   void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable);
 
+  /**
+   * Schedules an operation for some time in the future, which may be cancelled if no longer needed.
+   * The operation may run somewhat after the requested interval.
+   *
+   * @param timeout the interval before the check should run, in units
+   * @param unit the unit of time that defines the interval
+   * @param runnable the operation to run
+   * @return a handle with which to cancel the operation
+   */
+  default Timeout scheduleTimeout(long timeout, TimeUnit unit, Runnable runnable) {
+    scheduleOnce(timeout, unit, runnable);
+    return () -> false;
+  }
+
   /**
    * Creates a child Fiber. If this Fiber is cancelled, so will all of the children.
    *
@@ -5,8 +5,10 @@ package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -16,6 +18,7 @@ import java.util.concurrent.atomic.AtomicReference;
 public class Engine {
   private static final int DEFAULT_THREAD_COUNT = 10;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private final TimingWheel timingWheel;
 
   /**
    * Creates engine with the specified executor.
@@ -24,6 +27,22 @@ public class Engine {
    */
   public Engine(ScheduledExecutorService threadPool) {
     this.threadPool.set(threadPool);
+    this.timingWheel = null;
+  }
+
+  /**
+   * Creates engine with the specified executor, which will schedule low-precision timeouts on a timing wheel.
+   * Timeouts of at least one tick and at most one revolution of the wheel are handled by the wheel; others
+   * are scheduled directly on the executor.
+   *
+   * @param threadPool Executor
+   * @param tickDuration the duration of each tick of the timing wheel
+   * @param unit the unit of the tick duration
+   * @param ticksPerWheel the number of ticks in each revolution of the wheel; must be a power of two
+   */
+  public Engine(ScheduledExecutorService threadPool, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+    this.threadPool.set(threadPool);
+    this.timingWheel = new TimingWheel(this::getExecutor, tickDuration, unit, ticksPerWheel);
   }
 
   /**
@@ -42,10 +61,31 @@ public class Engine {
    * @return executor service
    */
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
+    return wrappedExecutorService(createThreadPool(id), container);
+  }
+
+  /**
+   * wrapped executor service.
+   * @param threadPool the thread pool to wrap
+   * @param container container
+   * @return executor service
+   */
+  public static ScheduledExecutorService wrappedExecutorService(
+        ScheduledThreadPoolExecutor threadPool, Container container) {
+    return wrap(container, threadPool);
+  }
+
+  /**
+   * Creates a thread pool with the default number of threads. Its size may be changed later
+   * by calling {@link ScheduledThreadPoolExecutor#setCorePoolSize(int)}.
+   * @param id id
+   * @return thread pool
+   */
+  public static ScheduledThreadPoolExecutor createThreadPool(String id) {
     ScheduledThreadPoolExecutor threadPool =
         new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
     threadPool.setRemoveOnCancelPolicy(true);
-    return wrap(container, threadPool);
+    return threadPool;
   }
 
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
@@ -65,6 +105,24 @@ public class Engine {
     getExecutor().execute(fiber);
   }
 
+  /**
+   * Schedules an operation to run after a delay. Unlike scheduling on the executor, this may use a timing wheel,
+   * which makes scheduling and cancellation cheap, at the cost of precision.
+   *
+   * @param delay the delay
+   * @param unit the unit of the delay
+   * @param runnable the operation to run
+   * @return a handle with which to cancel the operation
+   */
+  public Timeout scheduleTimeout(long delay, TimeUnit unit, Runnable runnable) {
+    if (timingWheel != null && timingWheel.accepts(delay, unit)) {
+      return timingWheel.schedule(delay, unit, runnable);
+    }
+
+    ScheduledFuture<?> future = getExecutor().schedule(runnable, delay, unit);
+    return () -> future.cancel(false);
+  }
+
   /**
    * Creates a new fiber in a suspended state.
    *
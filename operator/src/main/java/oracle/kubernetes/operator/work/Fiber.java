@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
@@ -21,6 +22,9 @@ import java.util.function.Consumer;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.tracing.ActiveSpan;
+import oracle.kubernetes.operator.tracing.TraceContext;
+import oracle.kubernetes.operator.tracing.Tracer;
 import oracle.kubernetes.operator.work.NextAction.Kind;
 
 import static oracle.kubernetes.operator.logging.MessageKeys.CURRENT_STEPS;
@@ -62,6 +66,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   public final Engine owner;
   private final Fiber parent;
   private final int id;
+  private final TraceContext traceContext;
   /**
    * Replace uses of synchronized(this) with this lock so that we can control unlocking for resume
    * use cases.
@@ -81,6 +86,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   private Collection<Fiber> children = null;
   // Will only be populated if log level is at least FINE
   private List<BreadCrumb> breadCrumbs = null;
+  private ActiveSpan span = ActiveSpan.NONE;
 
   Fiber(Engine engine) {
     this(engine, null);
@@ -90,6 +96,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
     this.owner = engine;
     this.parent = parent;
     id = (parent == null) ? iotaGen.incrementAndGet() : (parent.children.size() + 1);
+    traceContext = createTraceContext(parent);
 
     // if this is run from another fiber, then we naturally inherit its context
     // classloader,
@@ -121,14 +128,26 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   }
 
   /**
-   * Use this fiber's executor to schedule an operation for some time in the future.
+   * Use this fiber's engine to schedule an operation for some time in the future.
    * @param timeout the interval before the check should run, in units
    * @param unit the unit of time that defines the interval
    * @param runnable the operation to run
    */
   @Override
   public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
-    this.owner.getExecutor().schedule(runnable, timeout, unit);
+    scheduleTimeout(timeout, unit, runnable);
+  }
+
+  /**
+   * Use this fiber's engine to schedule an operation for some time in the future.
+   * @param timeout the interval before the check should run, in units
+   * @param unit the unit of time that defines the interval
+   * @param runnable the operation to run
+   * @return a handle with which to cancel the operation
+   */
+  @Override
+  public Timeout scheduleTimeout(long timeout, TimeUnit unit, Runnable runnable) {
+    return this.owner.scheduleTimeout(timeout, unit, runnable);
   }
 
   /**
@@ -150,6 +169,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
       if (LOGGER.isFinestEnabled()) {
         breadCrumbs = new ArrayList<>();
       }
+      span = startFiberSpan(stepline, packet);
 
       owner.addRunnable(this);
     }
@@ -511,6 +531,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
         }
 
         recordBreadCrumb();
+        span.tag("outcome", getOutcome(s)).end();
         try {
           if (s == NOT_COMPLETE && completionCallback != null) {
             if (na.throwable != null) {
@@ -531,6 +552,16 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
     }
   }
 
+  private String getOutcome(int status) {
+    if (status == CANCELLED) {
+      return "cancelled";
+    } else if (na.throwable != null) {
+      return "failed";
+    } else {
+      return "completed";
+    }
+  }
+
   /** Executes the fiber as much as possible. */
   private boolean doRun() {
     // isRequireUnlock will contain Boolean.FALSE when lock has already been
@@ -627,9 +658,12 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
       addBreadCrumb(na);
 
       NextAction result;
+      ActiveSpan stepSpan = startStepSpan(na);
       try {
         result = na.next.apply(na.packet);
+        stepSpan.end();
       } catch (Throwable t) {
+        stepSpan.tag("error", t.toString()).end();
         Packet p = na.packet;
         na = new NextAction();
         na.terminate(t, p);
@@ -673,6 +707,39 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
     return false;
   }
 
+  // Fibers created while tracing is disabled have no trace context, and are never traced.
+  private static TraceContext createTraceContext(Fiber parent) {
+    if (!Tracer.getInstance().isEnabled()) {
+      return null;
+    } else if (parent == null || parent.traceContext == null) {
+      return TraceContext.createRoot();
+    } else {
+      return parent.traceContext.createChild();
+    }
+  }
+
+  private ActiveSpan startFiberSpan(Step stepline, Packet packet) {
+    if (traceContext == null) {
+      return ActiveSpan.NONE;
+    }
+
+    return Tracer.getInstance().startSpan(traceContext, packet, () -> getSpanName(stepline));
+  }
+
+  private String getSpanName(Step stepline) {
+    return "Fiber " + Optional.ofNullable(stepline).map(Step::getName).orElse("");
+  }
+
+  private ActiveSpan startStepSpan(NextAction na) {
+    Tracer tracer = Tracer.getInstance();
+    if (traceContext == null || !tracer.isEnabled()) {
+      return ActiveSpan.NONE;
+    }
+
+    Step step = na.next;
+    return tracer.startSpan(traceContext.createChild(), na.packet, step::getName);
+  }
+
   private boolean isReady() {
     return na.kind != Kind.SUSPEND;
   }
@@ -709,6 +776,16 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
     return na.packet;
   }
 
+  /**
+   * Returns the identity of the span which records the processing of this fiber. The spans of its steps,
+   * and of its child fibers, are children of that span.
+   *
+   * @return the trace context, or null if tracing was disabled when this fiber was created
+   */
+  public TraceContext getTraceContext() {
+    return traceContext;
+  }
+
   /**
    * Returns completion callback associated with this {@link Fiber}.
    *
@@ -8,22 +8,34 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.Fiber.ExitCallback;
+import org.apache.commons.lang3.builder.ToStringBuilder;
 
 /**
  * Allows at most one running Fiber per key value. However, rather than queue later arriving Fibers
  * this class cancels the earlier arriving Fibers. For the operator, this makes sense as domain
  * presence Fibers that come later will always complete or correct work that may have been
  * in-flight.
+ *
+ * <p>Fibers for different keys are started without any lock common to the gate; requests for the same key
+ * are serialized by the map which holds the current fibers.
  */
 public class FiberGate {
+  // a request whose key is locked for less than this long is not counted as contended
+  private static final long CONTENTION_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
   private final Engine engine;
   private final ConcurrentMap<String, Fiber> gateMap = new ConcurrentHashMap<String, Fiber>();
 
+  private final GateStatistics statistics = new GateStatistics();
+
   private final Fiber placeholder;
 
   /**
@@ -87,40 +99,229 @@ public class FiberGate {
    * @param callback Completion callback
    * @return started Fiber, or null, if no Fiber started
    */
-  public synchronized Fiber startFiberIfLastFiberMatches(
+  public Fiber startFiberIfLastFiberMatches(
       String key, Fiber old, Step strategy, Packet packet, CompletionCallback callback) {
-    Fiber f = engine.createFiber();
-    WaitForOldFiberStep wfofs;
-    if (old != null) {
-      if (old == placeholder) {
-        if (gateMap.putIfAbsent(key, f) != null) {
-          return null;
+    StartRequest request = new StartRequest(old, strategy, packet, callback);
+    gateMap.compute(key, request);
+    statistics.record(request);
+    request.runDeferredCompletion();
+    return request.started;
+  }
+
+  /**
+   * Cancels every running fiber, and removes it from the gate, so that new fibers may be started for its key.
+   * Cancelled fibers do not invoke their completion callbacks.
+   */
+  public void cancelAllFibers() {
+    gateMap.forEach((key, fiber) -> {
+      fiber.cancel(false);
+      gateMap.remove(key, fiber);
+    });
+  }
+
+  /**
+   * Returns a snapshot of the counts of fibers started and rejected by this gate.
+   * @return the current statistics
+   */
+  public Statistics getStatistics() {
+    return statistics.snapshot();
+  }
+
+  // Decides, while holding only the lock for its key, whether to start a new fiber. The new fiber is fully
+  // prepared, and started, before it is added to the map, so that a later fiber which finds it there will
+  // also find the fiber that it, in turn, must cancel, and can never cancel it before it has been started.
+  // A fiber which completes while it is being started cannot update the map, whose lock is held; its
+  // completion is instead deferred until the map has been updated.
+  private class StartRequest implements BiFunction<String, Fiber, Fiber> {
+    private final Fiber expected;
+    private final Step strategy;
+    private final Packet packet;
+    private final CompletionCallback callback;
+    private final long requestTime = System.nanoTime();
+    private long waitNanos;
+    private boolean replacing;
+    private Fiber started;
+    private boolean starting;
+    private Runnable deferredCompletion;
+
+    StartRequest(Fiber expected, Step strategy, Packet packet, CompletionCallback callback) {
+      this.expected = expected;
+      this.strategy = strategy;
+      this.packet = packet;
+      this.callback = callback;
+    }
+
+    @Override
+    public Fiber apply(String key, Fiber current) {
+      waitNanos = System.nanoTime() - requestTime;
+      if (!isStartAllowed(current)) {
+        return current;
+      }
+
+      replacing = current != null;
+      started = engine.createFiber();
+      WaitForOldFiberStep wfofs = new WaitForOldFiberStep(current, strategy);
+      started.getComponents().put(ProcessingConstants.FIBER_COMPONENT_NAME, Component.createFor(wfofs));
+      return start(key, wfofs);
+    }
+
+    // Returns the fiber to record in the map: the started fiber, or none if it has already completed.
+    private Fiber start(String key, WaitForOldFiberStep wfofs) {
+      synchronized (this) {
+        starting = true;
+      }
+      started.start(wfofs, packet, new GateCompletionCallback(key));
+      synchronized (this) {
+        starting = false;
+        return deferredCompletion == null ? started : null;
+      }
+    }
+
+    private void complete(String key, Runnable completion) {
+      synchronized (this) {
+        if (starting) {
+          deferredCompletion = completion;
+          return;
+        }
+      }
+      gateMap.remove(key, started);
+      completion.run();
+    }
+
+    private void runDeferredCompletion() {
+      Runnable completion;
+      synchronized (this) {
+        completion = deferredCompletion;
+      }
+      if (completion != null) {
+        completion.run();
+      }
+    }
+
+    private boolean isStartAllowed(Fiber current) {
+      if (expected == null) {
+        return true;
+      } else if (expected == placeholder) {
+        return current == null;
+      } else {
+        return current == expected;
+      }
+    }
+
+    private class GateCompletionCallback implements CompletionCallback {
+      private final String key;
+
+      GateCompletionCallback(String key) {
+        this.key = key;
+      }
+
+      @Override
+      public void onCompletion(Packet packet) {
+        complete(key, () -> callback.onCompletion(packet));
+      }
+
+      @Override
+      public void onThrowable(Packet packet, Throwable throwable) {
+        complete(key, () -> callback.onThrowable(packet, throwable));
+      }
+    }
+  }
+
+  // Updated without locks; the counts may be slightly inconsistent with one another while fibers are starting.
+  private static class GateStatistics {
+    private final LongAdder started = new LongAdder();
+    private final LongAdder superseding = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    void record(StartRequest request) {
+      if (request.started == null) {
+        rejected.increment();
+      } else {
+        started.increment();
+        if (request.replacing) {
+          superseding.increment();
         }
-      } else if (!gateMap.replace(key, old, f)) {
-        return null;
       }
-    } else {
-      old = gateMap.put(key, f);
-    }
-    wfofs = new WaitForOldFiberStep(old, strategy);
-    f.getComponents().put(ProcessingConstants.FIBER_COMPONENT_NAME, Component.createFor(wfofs));
-    f.start(
-        wfofs,
-        packet,
-        new CompletionCallback() {
-          @Override
-          public void onCompletion(Packet packet) {
-            gateMap.remove(key, f);
-            callback.onCompletion(packet);
-          }
-
-          @Override
-          public void onThrowable(Packet packet, Throwable throwable) {
-            gateMap.remove(key, f);
-            callback.onThrowable(packet, throwable);
-          }
-        });
-    return f;
+      if (request.waitNanos > CONTENTION_THRESHOLD_NANOS) {
+        contended.increment();
+        waitNanos.add(request.waitNanos);
+      }
+    }
+
+    Statistics snapshot() {
+      return new Statistics(started.sum(), superseding.sum(), rejected.sum(), contended.sum(), waitNanos.sum());
+    }
+  }
+
+  /** Counts of the fibers started and rejected by a gate. */
+  public static class Statistics {
+    private final long started;
+    private final long superseding;
+    private final long rejected;
+    private final long contended;
+    private final long waitNanos;
+
+    Statistics(long started, long superseding, long rejected, long contended, long waitNanos) {
+      this.started = started;
+      this.superseding = superseding;
+      this.rejected = rejected;
+      this.contended = contended;
+      this.waitNanos = waitNanos;
+    }
+
+    /**
+     * Returns the number of fibers started by the gate.
+     * @return a count of fibers
+     */
+    public long getStarted() {
+      return started;
+    }
+
+    /**
+     * Returns the number of fibers started which replaced an existing fiber for the same key.
+     * @return a count of fibers
+     */
+    public long getSuperseding() {
+      return superseding;
+    }
+
+    /**
+     * Returns the number of requests to start a fiber which were rejected, because the current fiber for
+     * the key was not the one expected.
+     * @return a count of requests
+     */
+    public long getRejected() {
+      return rejected;
+    }
+
+    /**
+     * Returns the number of requests which waited for another request for the same key.
+     * @return a count of requests
+     */
+    public long getContended() {
+      return contended;
+    }
+
+    /**
+     * Returns the total time spent by contended requests waiting for other requests for the same key.
+     * @return a time in nanoseconds
+     */
+    public long getWaitNanos() {
+      return waitNanos;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+            .append("started", started)
+            .append("superseding", superseding)
+            .append("rejected", rejected)
+            .append("contended", contended)
+            .append("waitMillis", TimeUnit.NANOSECONDS.toMillis(waitNanos))
+            .toString();
+    }
   }
 
   private static class WaitForOldFiberStep extends Step {
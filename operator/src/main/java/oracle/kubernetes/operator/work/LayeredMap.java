@@ -0,0 +1,231 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A map which can be forked in constant time. Each fork starts with the entries of the map from which it was forked,
+ * and thereafter changes to either one are not seen by the other. Entries written since the last fork are kept in a
+ * local layer; forking freezes that layer and shares it, unchanged, between the original map and the new one.
+ * Removals of frozen entries are recorded in the local layer as markers. When the chain of frozen layers grows too
+ * deep, it is flattened into a single layer.
+ *
+ * <p>Reads are not synchronized; changes and forks are.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+class LayeredMap<K, V> extends AbstractMap<K, V> {
+
+  private static final int MAX_DEPTH = 8;
+  private static final Object REMOVED = new Object();
+
+  // the parent is always written before the local layer, and read after it
+  private volatile Layer parent;
+  private volatile Map<Object, Object> local = new ConcurrentHashMap<>();
+  private volatile long version;
+
+  LayeredMap() {
+  }
+
+  private LayeredMap(Layer parent) {
+    this.parent = parent;
+  }
+
+  /**
+   * Creates a new map with the same entries as this one, without copying them.
+   * @return the new map
+   */
+  synchronized LayeredMap<K, V> fork() {
+    if (!local.isEmpty()) {
+      parent = freeze(local, parent);
+      local = new ConcurrentHashMap<>();
+    }
+    return new LayeredMap<>(parent);
+  }
+
+  private static Layer freeze(Map<Object, Object> entries, Layer parent) {
+    if (parent != null && parent.depth >= MAX_DEPTH) {
+      Map<Object, Object> flattened = flatten(parent);
+      for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+        if (entry.getValue() == REMOVED) {
+          flattened.remove(entry.getKey());
+        } else {
+          flattened.put(entry.getKey(), entry.getValue());
+        }
+      }
+      return new Layer(flattened, null);
+    }
+    return new Layer(entries, parent);
+  }
+
+  private static Map<Object, Object> flatten(Layer top) {
+    Deque<Layer> layers = new ArrayDeque<>();
+    for (Layer layer = top; layer != null; layer = layer.parent) {
+      layers.push(layer);
+    }
+
+    Map<Object, Object> result = new HashMap<>();
+    for (Layer layer : layers) {
+      for (Map.Entry<Object, Object> entry : layer.entries.entrySet()) {
+        if (entry.getValue() == REMOVED) {
+          result.remove(entry.getKey());
+        } else {
+          result.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a number which changes whenever the contents of this map change.
+   * @return the current version
+   */
+  long getVersion() {
+    return version;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    if (key == null) {
+      return null;
+    }
+
+    Object value = local.get(key);
+    for (Layer layer = parent; value == null && layer != null; layer = layer.parent) {
+      value = layer.entries.get(key);
+    }
+    return value == REMOVED ? null : (V) value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public synchronized V put(K key, V value) {
+    V previous = get(key);
+    local.put(key, value);
+    version++;
+    return previous;
+  }
+
+  @Override
+  public synchronized V remove(Object key) {
+    V previous = get(key);
+    if (previous != null) {
+      if (isFrozen(key)) {
+        local.put(key, REMOVED);
+      } else {
+        local.remove(key);
+      }
+      version++;
+    }
+    return previous;
+  }
+
+  private boolean isFrozen(Object key) {
+    for (Layer layer = parent; layer != null; layer = layer.parent) {
+      if (layer.entries.containsKey(key)) {
+        return layer.entries.get(key) != REMOVED;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public synchronized void clear() {
+    parent = null;
+    local = new ConcurrentHashMap<>();
+    version++;
+  }
+
+  @Override
+  public int size() {
+    return snapshot().size();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<K, V> snapshot() {
+    Map<Object, Object> result = flatten(new Layer(local, parent));
+    return (Map<K, V>) result;
+  }
+
+  private static class Layer {
+    private final Map<Object, Object> entries;
+    private final Layer parent;
+    private final int depth;
+
+    Layer(Map<Object, Object> entries, Layer parent) {
+      this.entries = entries;
+      this.parent = parent;
+      this.depth = parent == null ? 1 : parent.depth + 1;
+    }
+  }
+
+  // A view of the map, iterating over the entries present when the iteration starts.
+  private class EntrySet extends AbstractSet<Entry<K, V>> {
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      Iterator<Entry<K, V>> entries = snapshot().entrySet().iterator();
+      return new Iterator<Entry<K, V>>() {
+        private Entry<K, V> current;
+
+        @Override
+        public boolean hasNext() {
+          return entries.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+          current = entries.next();
+          return new LayeredEntry(current.getKey(), current.getValue());
+        }
+
+        @Override
+        public void remove() {
+          if (current == null) {
+            throw new IllegalStateException();
+          }
+          LayeredMap.this.remove(current.getKey());
+          current = null;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return LayeredMap.this.size();
+    }
+  }
+
+  private class LayeredEntry extends SimpleEntry<K, V> {
+    LayeredEntry(K key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      LayeredMap.this.put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+}
@@ -6,22 +6,29 @@ package oracle.kubernetes.operator.work;
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components. Cloning a packet,
+ * as is done for each branch of a fork, does not copy its values or components; they are shared until changed.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<String, Component>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<String, Object>();
+  private static final Object NO_SPI = new Object();
+
+  private final LayeredMap<String, Component> components;
+  private final LayeredMap<String, Object> delegate;
+  private volatile SpiCache spiCache = new SpiCache(-1);
 
   public Packet() {
+    components = new LayeredMap<>();
+    delegate = new LayeredMap<>();
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    components = that.components.fork();
+    delegate = that.delegate.fork();
   }
 
   /**
@@ -34,19 +41,36 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
   }
 
   /**
-   * Get SPI by class.
+   * Get SPI by class. The result is remembered until the components of this packet change.
    * @param spiType SPI class
    * @param <S> SPI class
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
+    SpiCache cache = getSpiCache();
+    Object spi = cache.spis.computeIfAbsent(spiType, this::findSpi);
+    return spi == NO_SPI ? null : spiType.cast(spi);
+  }
+
+  // The version is read before the components are searched, so that a search which might see
+  // an out-of-date set of components is never recorded with a later version.
+  private SpiCache getSpiCache() {
+    long version = components.getVersion();
+    SpiCache cache = spiCache;
+    if (cache.version != version) {
+      spiCache = cache = new SpiCache(version);
+    }
+    return cache;
+  }
+
+  private Object findSpi(Class<?> spiType) {
     for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
+      Object s = c.getSpi(spiType);
       if (s != null) {
         return s;
       }
     }
-    return null;
+    return NO_SPI;
   }
 
   @Override
@@ -68,13 +92,86 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return delegate.entrySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return delegate.containsKey(key);
+  }
+
   @Override
   public Object put(String key, Object value) {
     return value != null ? delegate.put(key, value) : delegate.remove(key);
   }
 
+  @Override
+  public Object remove(Object key) {
+    return delegate.remove(key);
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
   }
+
+  /**
+   * Returns the value for the specified typed key.
+   * @param key the key
+   * @param <T> the type of the value
+   * @return the value, or null if there is none
+   */
+  public <T> T getValue(Key<T> key) {
+    return key.type.cast(get(key.name));
+  }
+
+  /**
+   * Sets the value for the specified typed key.
+   * @param key the key
+   * @param value the new value, or null to remove the current value
+   * @param <T> the type of the value
+   */
+  public <T> void putValue(Key<T> key, T value) {
+    put(key.name, value);
+  }
+
+  /**
+   * A packet key which also specifies the type of its value. A value set with a typed key may also be
+   * read with its name.
+   *
+   * @param <T> the type of the value
+   */
+  public static final class Key<T> {
+    private final String name;
+    private final Class<T> type;
+
+    private Key(String name, Class<T> type) {
+      this.name = Objects.requireNonNull(name);
+      this.type = Objects.requireNonNull(type);
+    }
+
+    public static <T> Key<T> of(String name, Class<T> type) {
+      return new Key<>(name, type);
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  private static class SpiCache {
+    private final long version;
+    private final Map<Class<?>, Object> spis = new ConcurrentHashMap<>();
+
+    SpiCache(long version) {
+      this.version = version;
+    }
+  }
 }
@@ -0,0 +1,14 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/** A handle to an operation scheduled to run after a delay. */
+public interface Timeout {
+  /**
+   * Prevents the operation from running, if it has not already started.
+   *
+   * @return true if the operation was cancelled
+   */
+  boolean cancel();
+}
@@ -0,0 +1,220 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A hashed timing wheel for low-precision timeouts. Time is divided into ticks, and each timeout is placed in
+ * the bucket for the tick at which it expires, so that scheduling and cancelling a timeout take constant time,
+ * regardless of how many are pending. A timeout runs on the first tick at or after its deadline, so it may be late
+ * by up to one tick. Timeouts longer than one revolution of the wheel wait for the required number of revolutions.
+ *
+ * <p>Only the tick task, which runs periodically on the executor, touches the buckets. New and cancelled timeouts
+ * are handed to it through lock-free queues, and expired operations are run on the executor.
+ */
+class TimingWheel {
+
+  private static final int INITIAL = 0;
+  private static final int CANCELLED = 1;
+  private static final int EXPIRED = 2;
+
+  private final Supplier<ScheduledExecutorService> executor;
+  private final LongSupplier nanoTime;
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Queue<WheelTimeout> added = new ConcurrentLinkedQueue<>();
+  private final Queue<WheelTimeout> cancelled = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final long startTime;
+  private long currentTick;
+
+  TimingWheel(Supplier<ScheduledExecutorService> executor, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+    this(executor, System::nanoTime, tickDuration, unit, ticksPerWheel);
+  }
+
+  TimingWheel(Supplier<ScheduledExecutorService> executor, LongSupplier nanoTime,
+              long tickDuration, TimeUnit unit, int ticksPerWheel) {
+    if (Integer.bitCount(ticksPerWheel) != 1) {
+      throw new IllegalArgumentException("ticksPerWheel must be a power of two: " + ticksPerWheel);
+    }
+    this.executor = executor;
+    this.nanoTime = nanoTime;
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.wheel = new Bucket[ticksPerWheel];
+    this.mask = ticksPerWheel - 1;
+    for (int i = 0; i < wheel.length; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.startTime = nanoTime.getAsLong();
+  }
+
+  /**
+   * Returns true if the specified delay should be handled by this wheel: it must be at least one tick, so that
+   * rounding to ticks does not matter, and at most one revolution, beyond which a precise timer is preferred.
+   *
+   * @param delay the delay
+   * @param unit the unit of the delay
+   * @return true if the wheel should be used
+   */
+  boolean accepts(long delay, TimeUnit unit) {
+    long nanos = unit.toNanos(delay);
+    return nanos >= tickNanos && nanos <= tickNanos * wheel.length;
+  }
+
+  /**
+   * Schedules an operation to run on the executor after the specified delay.
+   *
+   * @param delay the delay
+   * @param unit the unit of the delay
+   * @param runnable the operation to run
+   * @return a handle with which to cancel the operation
+   */
+  Timeout schedule(long delay, TimeUnit unit, Runnable runnable) {
+    startIfNeeded();
+    WheelTimeout timeout = new WheelTimeout(nanoTime.getAsLong() + unit.toNanos(delay) - startTime, runnable);
+    added.add(timeout);
+    return timeout;
+  }
+
+  private void startIfNeeded() {
+    if (started.compareAndSet(false, true)) {
+      executor.get().scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /** Advances the wheel to the current time, running any timeouts which have expired. */
+  synchronized void tick() {
+    long targetTick = (nanoTime.getAsLong() - startTime) / tickNanos;
+    while (currentTick < targetTick) {
+      currentTick++;
+      removeCancelledTimeouts();
+      transferAddedTimeouts();
+      wheel[(int) (currentTick & mask)].expireTimeouts(currentTick, executor.get());
+    }
+  }
+
+  private void removeCancelledTimeouts() {
+    for (WheelTimeout timeout = cancelled.poll(); timeout != null; timeout = cancelled.poll()) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  private void transferAddedTimeouts() {
+    for (WheelTimeout timeout = added.poll(); timeout != null; timeout = added.poll()) {
+      if (timeout.state.get() == INITIAL) {
+        // a timeout whose deadline has already passed is run on the current tick
+        timeout.deadlineTick = Math.max(ceilDiv(timeout.deadline, tickNanos), currentTick);
+        wheel[(int) (timeout.deadlineTick & mask)].add(timeout);
+      }
+    }
+  }
+
+  private static long ceilDiv(long dividend, long divisor) {
+    return -Math.floorDiv(-dividend, divisor);
+  }
+
+  /** Returns the number of timeouts which have been scheduled, but neither run nor cancelled. */
+  int getPendingCount() {
+    return pending.get();
+  }
+
+  private class WheelTimeout implements Timeout {
+    private final long deadline;
+    private final Runnable runnable;
+    private final AtomicInteger state = new AtomicInteger(INITIAL);
+    private long deadlineTick;
+
+    // maintained only by the tick task
+    private Bucket bucket;
+    private WheelTimeout next;
+    private WheelTimeout prev;
+
+    WheelTimeout(long deadline, Runnable runnable) {
+      this.deadline = deadline;
+      this.runnable = runnable;
+      pending.incrementAndGet();
+    }
+
+    @Override
+    public boolean cancel() {
+      if (!state.compareAndSet(INITIAL, CANCELLED)) {
+        return false;
+      }
+      pending.decrementAndGet();
+      cancelled.add(this);
+      return true;
+    }
+
+    void expire(Executor executor) {
+      if (state.compareAndSet(INITIAL, EXPIRED)) {
+        pending.decrementAndGet();
+        executor.execute(runnable);
+      }
+    }
+  }
+
+  // A doubly-linked list of the timeouts which expire on ticks mapping to a single slot of the wheel.
+  private static class Bucket {
+    private WheelTimeout head;
+    private WheelTimeout tail;
+
+    void add(WheelTimeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = timeout;
+        tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+    }
+
+    void expireTimeouts(long tick, Executor executor) {
+      WheelTimeout timeout = head;
+      while (timeout != null) {
+        WheelTimeout next = timeout.next;
+        if (timeout.deadlineTick <= tick) {
+          remove(timeout);
+          timeout.expire(executor);
+        } else if (timeout.state.get() == CANCELLED) {
+          remove(timeout);
+        }
+        timeout = next;
+      }
+    }
+
+    void remove(WheelTimeout timeout) {
+      if (timeout.bucket != this) {
+        return;
+      }
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      } else {
+        head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      } else {
+        tail = timeout.prev;
+      }
+      timeout.next = null;
+      timeout.prev = null;
+      timeout.bucket = null;
+    }
+  }
+}
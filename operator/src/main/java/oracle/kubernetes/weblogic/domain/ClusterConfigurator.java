@@ -30,6 +30,8 @@ public interface ClusterConfigurator extends ServiceConfigurator {
   ClusterConfigurator withLivenessProbeSettings(
       Integer initialDelay, Integer timeout, Integer period);
 
+  ClusterConfigurator withLivenessProbeMode(String mode);
+
   /**
    * Add a node label to the Cluster's node selector.
    *
@@ -132,4 +134,6 @@ public interface ClusterConfigurator extends ServiceConfigurator {
   ClusterConfigurator withAllowReplicasBelowDynClusterSize(boolean allowReplicasBelowDynClusterSize);
 
   ClusterConfigurator withMaxConcurrentStartup(Integer maxConcurrentStartup);
+
+  ClusterConfigurator withMaxConcurrentShutdown(Integer maxConcurrentShutdown);
 }
@@ -177,6 +177,11 @@ public abstract class DomainConfigurator {
     return this;
   }
 
+  public DomainConfigurator withMaxConcurrentShutdown(Integer maxConcurrentShutdown) {
+    getDomainSpec().setMaxClusterConcurrentShutdown(maxConcurrentShutdown);
+    return this;
+  }
+
   /**
    * Sets the WebLogic configuration overrides configmap name for the domain.
    *
@@ -218,6 +223,13 @@ public abstract class DomainConfigurator {
   public abstract void withDefaultLivenessProbeSettings(
       Integer initialDelay, Integer timeout, Integer period);
 
+  /**
+   * Sets the default mode of the liveness probe ("Exec" or "TcpSocket").
+   *
+   * @param mode the default probe mode
+   */
+  public abstract void withDefaultLivenessProbeMode(String mode);
+
   /**
    * Sets the default server start policy ("ALWAYS", "NEVER" or "IF_NEEDED") for the domain.
    *
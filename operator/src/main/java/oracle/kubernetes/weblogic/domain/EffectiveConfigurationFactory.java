@@ -34,4 +34,6 @@ public interface EffectiveConfigurationFactory {
   boolean isAllowReplicasBelowMinDynClusterSize(String clusterName);
 
   int getMaxConcurrentStartup(String clusterName);
+
+  int getMaxConcurrentShutdown(String clusterName);
 }
@@ -26,6 +26,8 @@ public interface ServerConfigurator extends ServiceConfigurator {
   ServerConfigurator withLivenessProbeSettings(
       Integer initialDelay, Integer timeout, Integer period);
 
+  ServerConfigurator withLivenessProbeMode(String mode);
+
   ServerConfigurator withReadinessProbeSettings(
       Integer initialDelay, Integer timeout, Integer period);
 
@@ -145,7 +145,11 @@ public abstract class BaseConfiguration {
     serverPod.setLivenessProbe(initialDelay, timeout, period);
   }
 
-  ProbeTuning getLivenessProbe() {
+  void setLivenessProbeMode(String mode) {
+    serverPod.setLivenessProbeMode(mode);
+  }
+
+  LivenessProbeTuning getLivenessProbe() {
     return serverPod.getLivenessProbeTuning();
   }
 
@@ -0,0 +1,129 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.weblogic.domain.EffectiveConfigurationFactory;
+
+/**
+ * An effective configuration factory which computes each effective spec once and then returns it from a map.
+ * It is valid only for a single generation of a domain spec; the domain discards it when the spec changes.
+ * Setting a replica count updates the spec through the uncached factory and discards the computed specs.
+ */
+class CachedEffectiveConfigurationFactory implements EffectiveConfigurationFactory {
+
+  private final DomainSpec spec;
+  private final String apiVersion;
+  private final long generation;
+  private final EffectiveConfigurationFactory delegate;
+
+  private volatile AdminServerSpec adminServerSpec;
+  private final Map<List<String>, ServerSpec> serverSpecs = new ConcurrentHashMap<>();
+  private final Map<List<String>, ClusterSpec> clusterSpecs = new ConcurrentHashMap<>();
+  private final Map<List<String>, Integer> replicaCounts = new ConcurrentHashMap<>();
+  private final Map<List<String>, Integer> maxConcurrentStartups = new ConcurrentHashMap<>();
+  private final Map<List<String>, Integer> maxConcurrentShutdowns = new ConcurrentHashMap<>();
+
+  CachedEffectiveConfigurationFactory(DomainSpec spec, String apiVersion, long generation) {
+    this.spec = spec;
+    this.apiVersion = apiVersion;
+    this.generation = generation;
+    this.delegate = spec.getEffectiveConfigurationFactory(apiVersion);
+  }
+
+  /**
+   * Returns true if this factory may be used for the specified spec.
+   *
+   * @param spec the current domain spec
+   * @param apiVersion the current domain api version
+   * @param generation the current domain generation
+   * @return true if the cached specs were computed from the same spec
+   */
+  boolean isValidFor(DomainSpec spec, String apiVersion, long generation) {
+    return this.spec == spec && this.generation == generation && Objects.equals(this.apiVersion, apiVersion);
+  }
+
+  @Override
+  public AdminServerSpec getAdminServerSpec() {
+    AdminServerSpec result = adminServerSpec;
+    if (result == null) {
+      adminServerSpec = result = delegate.getAdminServerSpec();
+    }
+    return result;
+  }
+
+  @Override
+  public ServerSpec getServerSpec(String serverName, String clusterName) {
+    return serverSpecs.computeIfAbsent(Arrays.asList(serverName, clusterName),
+          k -> delegate.getServerSpec(serverName, clusterName));
+  }
+
+  @Override
+  public ClusterSpec getClusterSpec(String clusterName) {
+    return clusterSpecs.computeIfAbsent(toKey(clusterName), k -> delegate.getClusterSpec(clusterName));
+  }
+
+  @Override
+  public int getReplicaCount(String clusterName) {
+    return replicaCounts.computeIfAbsent(toKey(clusterName), k -> delegate.getReplicaCount(clusterName));
+  }
+
+  @Override
+  public void setReplicaCount(String clusterName, int replicaCount) {
+    delegate.setReplicaCount(clusterName, replicaCount);
+    invalidate();
+  }
+
+  private void invalidate() {
+    adminServerSpec = null;
+    serverSpecs.clear();
+    clusterSpecs.clear();
+    replicaCounts.clear();
+    maxConcurrentStartups.clear();
+    maxConcurrentShutdowns.clear();
+  }
+
+  @Override
+  public int getMaxUnavailable(String clusterName) {
+    return delegate.getMaxUnavailable(clusterName);
+  }
+
+  @Override
+  public boolean isShuttingDown() {
+    return getAdminServerSpec().isShuttingDown();
+  }
+
+  @Override
+  public List<String> getAdminServerChannelNames() {
+    return delegate.getAdminServerChannelNames();
+  }
+
+  @Override
+  public boolean isAllowReplicasBelowMinDynClusterSize(String clusterName) {
+    return delegate.isAllowReplicasBelowMinDynClusterSize(clusterName);
+  }
+
+  @Override
+  public int getMaxConcurrentStartup(String clusterName) {
+    return maxConcurrentStartups.computeIfAbsent(toKey(clusterName),
+          k -> delegate.getMaxConcurrentStartup(clusterName));
+  }
+
+  @Override
+  public int getMaxConcurrentShutdown(String clusterName) {
+    return maxConcurrentShutdowns.computeIfAbsent(toKey(clusterName),
+          k -> delegate.getMaxConcurrentShutdown(clusterName));
+  }
+
+  // cluster names may be null, which a concurrent map does not permit as a key
+  private List<String> toKey(String clusterName) {
+    return Collections.singletonList(clusterName);
+  }
+}
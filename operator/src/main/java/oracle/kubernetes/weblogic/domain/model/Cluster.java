@@ -88,6 +88,16 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
   @Range(minimum = 0)
   private Integer maxConcurrentStartup;
 
+  @Description(
+      "The maximum number of Managed Server instances that the operator will shut down in parallel "
+      + "for this cluster when the cluster is scaled in or the domain is shut down. "
+      + "If more Managed Server instances must be shut down, the operator will wait until a Managed "
+      + "Server Pod has been deleted before shutting down the next Managed Server instance. "
+      + "A value of 0 means all Managed Server instances will shut down in parallel. Defaults to 0."
+  )
+  @Range(minimum = 0)
+  private Integer maxConcurrentShutdown;
+
   protected Cluster getConfiguration() {
     Cluster configuration = new Cluster();
     configuration.fillInFrom(this);
@@ -139,6 +149,14 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
     maxConcurrentStartup = value;
   }
 
+  public Integer getMaxConcurrentShutdown() {
+    return maxConcurrentShutdown;
+  }
+
+  public void setMaxConcurrentShutdown(Integer value) {
+    maxConcurrentShutdown = value;
+  }
+
   @Nullable
   @Override
   public String getServerStartPolicy() {
@@ -224,6 +242,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append(maxUnavailable, cluster.maxUnavailable)
         .append(allowReplicasBelowMinDynClusterSize, cluster.allowReplicasBelowMinDynClusterSize)
         .append(maxConcurrentStartup, cluster.maxConcurrentStartup)
+        .append(maxConcurrentShutdown, cluster.maxConcurrentShutdown)
         .isEquals();
   }
 
@@ -238,6 +257,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append(maxUnavailable)
         .append(allowReplicasBelowMinDynClusterSize)
         .append(maxConcurrentStartup)
+        .append(maxConcurrentShutdown)
         .toHashCode();
   }
 
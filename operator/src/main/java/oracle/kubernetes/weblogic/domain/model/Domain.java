@@ -94,6 +94,11 @@ public class Domain {
   @Description("The current status of the operation of the WebLogic domain. Updated automatically by the operator.")
   private DomainStatus status;
 
+  /**
+   * The effective server and cluster specs computed for the current generation of the domain spec.
+   */
+  private transient volatile CachedEffectiveConfigurationFactory cachedConfigurationFactory;
+
   @SuppressWarnings({"rawtypes"})
   static List sortOrNull(List list) {
     return sortOrNull(list, null);
@@ -227,8 +232,21 @@ public class Domain {
     return spec.getIntrospectVersion();
   }
 
+  /**
+   * Returns the factory for effective configurations. Once the Kubernetes api server has assigned a generation
+   * to the domain, the effective specs are computed only once for that generation.
+   */
   private EffectiveConfigurationFactory getEffectiveConfigurationFactory() {
-    return spec.getEffectiveConfigurationFactory(apiVersion);
+    Long generation = metadata.getGeneration();
+    if (generation == null) {
+      return spec.getEffectiveConfigurationFactory(apiVersion);
+    }
+
+    CachedEffectiveConfigurationFactory factory = cachedConfigurationFactory;
+    if (factory == null || !factory.isValidFor(spec, apiVersion, generation)) {
+      cachedConfigurationFactory = factory = new CachedEffectiveConfigurationFactory(spec, apiVersion, generation);
+    }
+    return factory;
   }
 
   /**
@@ -302,6 +320,10 @@ public class Domain {
     return getEffectiveConfigurationFactory().getMaxConcurrentStartup(clusterName);
   }
 
+  public int getMaxConcurrentShutdown(String clusterName) {
+    return getEffectiveConfigurationFactory().getMaxConcurrentShutdown(clusterName);
+  }
+
 
   /**
    * DomainSpec is a description of a domain.
@@ -61,6 +61,11 @@ public class DomainCommonConfigurator extends DomainConfigurator {
     getDomainSpec().setLivenessProbe(initialDelay, timeout, period);
   }
 
+  @Override
+  public void withDefaultLivenessProbeMode(String mode) {
+    getDomainSpec().setLivenessProbeMode(mode);
+  }
+
   @Override
   public DomainConfigurator withDefaultServerStartPolicy(String startPolicy) {
     getDomainSpec().setServerStartPolicy(startPolicy);
@@ -431,6 +436,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
       return this;
     }
 
+    @Override
+    public ServerConfigurator withLivenessProbeMode(String mode) {
+      server.setLivenessProbeMode(mode);
+      return this;
+    }
+
     @Override
     public ServerConfigurator withReadinessProbeSettings(
         Integer initialDelay, Integer timeout, Integer period) {
@@ -622,6 +633,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
       return this;
     }
 
+    @Override
+    public ClusterConfigurator withLivenessProbeMode(String mode) {
+      cluster.setLivenessProbeMode(mode);
+      return this;
+    }
+
     @Override
     public ClusterConfigurator withNodeSelector(String labelKey, String labelValue) {
       cluster.addNodeSelector(labelKey, labelValue);
@@ -737,6 +754,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
       return this;
     }
 
+    @Override
+    public ClusterConfigurator withMaxConcurrentShutdown(Integer maxConcurrentShutdown) {
+      cluster.setMaxConcurrentShutdown(maxConcurrentShutdown);
+      return this;
+    }
+
     @Override
     public ClusterConfigurator withSchedulerName(String schedulerName) {
       getDomainSpec().setSchedulerName(schedulerName);
@@ -34,6 +34,7 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import static oracle.kubernetes.operator.KubernetesConstants.ALWAYS_IMAGEPULLPOLICY;
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_ALLOW_REPLICAS_BELOW_MIN_DYN_CLUSTER_SIZE;
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_IMAGE;
+import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_MAX_CLUSTER_CONCURRENT_SHUTDOWN;
 import static oracle.kubernetes.operator.KubernetesConstants.DEFAULT_MAX_CLUSTER_CONCURRENT_START_UP;
 import static oracle.kubernetes.operator.KubernetesConstants.IFNOTPRESENT_IMAGEPULLPOLICY;
 
@@ -206,6 +207,14 @@ public class DomainSpec extends BaseConfiguration {
   @Range(minimum = 0)
   private Integer maxClusterConcurrentStartup;
 
+  @Description(
+      "The maximum number of cluster member Managed Server instances that the operator will shut down in parallel "
+          + "for a given cluster, if `maxConcurrentShutdown` is not specified for a specific cluster under the "
+          + "`clusters` field. A value of 0 means there is no configured limit. Defaults to 0."
+  )
+  @Range(minimum = 0)
+  private Integer maxClusterConcurrentShutdown;
+
   /**
    * Whether the domain home is part of the image.
    *
@@ -240,7 +249,10 @@ public class DomainSpec extends BaseConfiguration {
       + "such as adding a new WebLogic cluster or Managed Server instance, to regenerate configuration overrides, "
       + "or to regenerate the WebLogic domain home when the `domainHomeSourceType` is FromModel. Introspection occurs "
       + "automatically, without requiring change to this field, when servers are first started or restarted after a "
-      + "full domain shut down. For the FromModel `domainHomeSourceType`, introspection also occurs when a running "
+      + "full domain shut down. When the `domainHomeSourceType` is not PersistentVolume and the `image` is specified "
+      + "by digest, the operator instead reuses the previous introspection if the image, this field, `restartVersion`, "
+      + "and the referenced secrets and config maps are all unchanged since it ran. "
+      + "For the FromModel `domainHomeSourceType`, introspection also occurs when a running "
       + "server must be restarted because of changes to any of the fields listed here: "
       + "https://oracle.github.io/weblogic-kubernetes-operator/userguide/managing-domains/"
       + "domain-lifecycle/startup/#properties-that-cause-servers-to-be-restarted. "
@@ -680,6 +692,11 @@ public class DomainSpec extends BaseConfiguration {
         .orElse(DEFAULT_MAX_CLUSTER_CONCURRENT_START_UP);
   }
 
+  public Integer getMaxClusterConcurrentShutdown() {
+    return Optional.ofNullable(maxClusterConcurrentShutdown)
+        .orElse(DEFAULT_MAX_CLUSTER_CONCURRENT_SHUTDOWN);
+  }
+
   @Nullable
   String getConfigOverrides() {
     return Optional.ofNullable(configuration).map(Configuration::getOverridesConfigMap).orElse(configOverrides);
@@ -835,7 +852,8 @@ public class DomainSpec extends BaseConfiguration {
             .append(configOverrides)
             .append(configOverrideSecrets)
             .append(allowReplicasBelowMinDynClusterSize)
-            .append(maxClusterConcurrentStartup);
+            .append(maxClusterConcurrentStartup)
+            .append(maxClusterConcurrentShutdown);
 
     return builder.toHashCode();
   }
@@ -874,7 +892,8 @@ public class DomainSpec extends BaseConfiguration {
             .append(configOverrides, rhs.configOverrides)
             .append(configOverrideSecrets, rhs.configOverrideSecrets)
             .append(isAllowReplicasBelowMinDynClusterSize(), rhs.isAllowReplicasBelowMinDynClusterSize())
-            .append(getMaxClusterConcurrentStartup(), rhs.getMaxClusterConcurrentStartup());
+            .append(getMaxClusterConcurrentStartup(), rhs.getMaxClusterConcurrentStartup())
+            .append(getMaxClusterConcurrentShutdown(), rhs.getMaxClusterConcurrentShutdown());
     return builder.isEquals();
   }
 
@@ -946,6 +965,20 @@ public class DomainSpec extends BaseConfiguration {
     this.maxClusterConcurrentStartup = maxClusterConcurrentStartup;
   }
 
+  private int getMaxConcurrentShutdownFor(Cluster cluster) {
+    return hasMaxConcurrentShutdown(cluster)
+        ? cluster.getMaxConcurrentShutdown()
+        : getMaxClusterConcurrentShutdown();
+  }
+
+  private boolean hasMaxConcurrentShutdown(Cluster cluster) {
+    return cluster != null && cluster.getMaxConcurrentShutdown() != null;
+  }
+
+  public void setMaxClusterConcurrentShutdown(Integer maxClusterConcurrentShutdown) {
+    this.maxClusterConcurrentShutdown = maxClusterConcurrentShutdown;
+  }
+
   public AdminServer getAdminServer() {
     return adminServer;
   }
@@ -1021,6 +1054,11 @@ public class DomainSpec extends BaseConfiguration {
       return getMaxConcurrentStartupFor(getCluster(clusterName));
     }
 
+    @Override
+    public int getMaxConcurrentShutdown(String clusterName) {
+      return getMaxConcurrentShutdownFor(getCluster(clusterName));
+    }
+
     private Cluster getOrCreateCluster(String clusterName) {
       Cluster cluster = getCluster(clusterName);
       if (cluster != null) {
@@ -0,0 +1,73 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import oracle.kubernetes.json.Description;
+import oracle.kubernetes.json.EnumClass;
+import oracle.kubernetes.operator.ProbeMode;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+public class LivenessProbeTuning extends ProbeTuning {
+  @Description(
+      "Specifies how the server is checked. Exec runs the operator's liveness script in the server container."
+          + " TcpSocket opens a connection to the server's local admin port, and takes effect only when the override"
+          + " distribution strategy is ON_RESTART and Istio is not enabled. Defaults to Exec.")
+  @EnumClass(ProbeMode.class)
+  private String mode = null;
+
+  public LivenessProbeTuning() {
+  }
+
+  void copyValues(LivenessProbeTuning fromProbe) {
+    super.copyValues(fromProbe);
+    if (mode == null) {
+      mode(fromProbe.mode);
+    }
+  }
+
+  public String getMode() {
+    return mode;
+  }
+
+  public LivenessProbeTuning mode(String mode) {
+    this.mode = mode;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .appendSuper(super.toString())
+        .append("mode", mode)
+        .toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    LivenessProbeTuning that = (LivenessProbeTuning) o;
+
+    return new EqualsBuilder()
+        .appendSuper(super.equals(o))
+        .append(mode, that.mode)
+        .isEquals();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+        .appendSuper(super.hashCode())
+        .append(mode)
+        .toHashCode();
+  }
+}
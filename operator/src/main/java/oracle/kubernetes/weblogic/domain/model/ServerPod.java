@@ -71,7 +71,7 @@ class ServerPod extends KubernetesResource {
    * @since 2.0
    */
   @Description("Settings for the liveness probe associated with a WebLogic Server instance.")
-  private final ProbeTuning livenessProbe = new ProbeTuning();
+  private final LivenessProbeTuning livenessProbe = new LivenessProbeTuning();
 
   /**
    * Defines the settings for the readiness probe. Any that are not specified will default to the
@@ -396,7 +396,7 @@ class ServerPod extends KubernetesResource {
         .periodSeconds(period);
   }
 
-  ProbeTuning getLivenessProbeTuning() {
+  LivenessProbeTuning getLivenessProbeTuning() {
     return this.livenessProbe;
   }
 
@@ -407,6 +407,10 @@ class ServerPod extends KubernetesResource {
         .periodSeconds(period);
   }
 
+  void setLivenessProbeMode(String mode) {
+    this.livenessProbe.mode(mode);
+  }
+
   void fillInFrom(ServerPod serverPod1) {
     for (V1EnvVar var : serverPod1.getV1EnvVars()) {
       addIfMissing(var);
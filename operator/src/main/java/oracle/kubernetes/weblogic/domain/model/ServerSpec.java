@@ -75,7 +75,7 @@ public interface ServerSpec {
   List<V1Volume> getAdditionalVolumes();
 
   @Nonnull
-  ProbeTuning getLivenessProbe();
+  LivenessProbeTuning getLivenessProbe();
 
   @Nonnull
   ProbeTuning getReadinessProbe();
@@ -46,8 +46,8 @@ public abstract class ServerSpecBase implements ServerSpec {
 
   @Override
   @Nonnull
-  public ProbeTuning getLivenessProbe() {
-    return new ProbeTuning();
+  public LivenessProbeTuning getLivenessProbe() {
+    return new LivenessProbeTuning();
   }
 
   @Override
@@ -144,7 +144,7 @@ public abstract class ServerSpecCommonImpl extends ServerSpecBase {
 
   @Nonnull
   @Override
-  public ProbeTuning getLivenessProbe() {
+  public LivenessProbeTuning getLivenessProbe() {
     return server.getLivenessProbe();
   }
 
@@ -19,12 +19,13 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 /** A test stub for processing domains in unit tests. */
 public abstract class DomainProcessorDelegateStub implements DomainProcessorDelegate {
   private FiberTestSupport testSupport;
+  private boolean leader = true;
 
   public DomainProcessorDelegateStub(FiberTestSupport testSupport) {
     this.testSupport = testSupport;
   }
 
-  public static DomainProcessorDelegate createDelegate(KubernetesTestSupport testSupport) {
+  public static DomainProcessorDelegateStub createDelegate(KubernetesTestSupport testSupport) {
     return createStrictStub(DomainProcessorDelegateStub.class, testSupport);
   }
 
@@ -33,6 +34,15 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return true;
   }
 
+  @Override
+  public boolean isLeader() {
+    return leader;
+  }
+
+  public void setLeader(boolean leader) {
+    this.leader = leader;
+  }
+
   @Override
   public PodAwaiterStepFactory getPodAwaiterStepFactory(String namespace) {
     return new PassthroughPodAwaiterStepFactory();
@@ -136,7 +136,13 @@ public class DomainProcessorTestSetup {
                     .namespace(NS)));
   }
 
-  private String getIntrospectResult(WlsDomainConfig domainConfig) throws JsonProcessingException {
+  /**
+   * Create a pod log similar to that produced by a successful run of the introspector.
+   * @param domainConfig the domain configuration used as a basis for the log
+   * @return the contents of the log
+   * @throws JsonProcessingException if unable to convert the configuration to YAML.
+   */
+  public static String getIntrospectResult(WlsDomainConfig domainConfig) throws JsonProcessingException {
     return String.format(INTROSPECT_RESULT, createTopologyYaml(domainConfig));
   }
 
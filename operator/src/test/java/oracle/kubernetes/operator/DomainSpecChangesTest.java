@@ -0,0 +1,97 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainSpecChangesTest {
+
+  private static final String CLUSTER = "cluster1";
+  private static final String UID = "domain-uid";
+
+  private final Domain previous = DomainProcessorTestSetup.createTestDomain();
+  private final Domain current = DomainProcessorTestSetup.createTestDomain();
+
+  private DomainConfigurator configure(Domain domain) {
+    return DomainConfiguratorFactory.forDomain(domain);
+  }
+
+  @Test
+  public void whenNoPreviousDomain_reportChanged() {
+    assertThat(DomainSpecChanges.compare(null, current).isChanged(), is(true));
+  }
+
+  @Test
+  public void whenNoCurrentDomain_reportChanged() {
+    assertThat(DomainSpecChanges.compare(previous, null).isChanged(), is(true));
+  }
+
+  @Test
+  public void whenSpecsEqual_reportNoChanges() {
+    configure(previous).configureCluster(CLUSTER).withReplicas(2);
+    configure(current).configureCluster(CLUSTER).withReplicas(2);
+
+    assertThat(DomainSpecChanges.compare(previous, current).isChanged(), is(false));
+  }
+
+  @Test
+  public void whenClusterChanged_reportChanged() {
+    configure(previous).configureCluster(CLUSTER).withReplicas(2);
+    configure(current).configureCluster(CLUSTER).withReplicas(3);
+
+    assertThat(DomainSpecChanges.compare(previous, current).isChanged(), is(true));
+  }
+
+  @Test
+  public void whenSectionAdded_reportChanged() {
+    configure(current).withLogHomeEnabled(true);
+
+    assertThat(DomainSpecChanges.compare(previous, current).isChanged(), is(true));
+  }
+
+  @Test
+  public void whenGenerationsEqual_reportNoChangesWithoutComparingSpecs() {
+    previous.getMetadata().uid(UID).setGeneration(4L);
+    current.getMetadata().uid(UID).setGeneration(4L);
+    configure(current).configureCluster(CLUSTER).withReplicas(3);
+
+    assertThat(DomainSpecChanges.compare(previous, current).isChanged(), is(false));
+  }
+
+  @Test
+  public void whenDomainRecreatedWithSameGeneration_compareSpecs() {
+    previous.getMetadata().uid(UID).setGeneration(1L);
+    current.getMetadata().uid("recreated-uid").setGeneration(1L);
+    configure(current).configureCluster(CLUSTER).withReplicas(3);
+
+    assertThat(DomainSpecChanges.compare(previous, current).isChanged(), is(true));
+  }
+
+  @Test
+  public void whenGenerationsDiffer_compareSpecs() {
+    previous.getMetadata().setGeneration(4L);
+    current.getMetadata().setGeneration(5L);
+    configure(current).configureCluster(CLUSTER).withReplicas(3);
+
+    assertThat(DomainSpecChanges.compare(previous, current).isChanged(), is(true));
+  }
+
+  @Test
+  public void whenSpecReplacedWithoutGenerationChange_recomputeDigest() {
+    previous.getMetadata().setGeneration(4L);
+    current.getMetadata().setGeneration(5L);
+    DomainSpecChanges.compare(previous, current);
+
+    current.setSpec(DomainProcessorTestSetup.createTestDomain().getSpec());
+    configure(current).withLogHomeEnabled(true);
+
+    assertThat(DomainSpecChanges.compare(previous, current).isChanged(), is(true));
+  }
+}
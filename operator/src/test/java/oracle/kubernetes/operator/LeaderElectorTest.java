@@ -0,0 +1,208 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Lease;
+import io.kubernetes.client.openapi.models.V1LeaseSpec;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static oracle.kubernetes.operator.LeaderElector.LEASE_NAME;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.LEASE;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class LeaderElectorTest {
+
+  private static final String NS = "operator-ns";
+  private static final String IDENTITY = "operator-1";
+  private static final String OTHER_IDENTITY = "operator-2";
+  private static final int LEASE_DURATION_SECONDS = 15;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final FiberTestSupport timerSupport = new FiberTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private int timesStarted;
+  private int timesStopped;
+  private final LeaderElector elector = new LeaderElector(NS, IDENTITY, LEASE_DURATION_SECONDS, 2,
+        () -> timesStarted++, () -> timesStopped++,
+        timerSupport.getEngine().getExecutor(), MoreExecutors.newDirectExecutorService(),
+        timerSupport.getEngine().getExecutor());
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private void defineLeaseHeldBy(String holder) {
+    testSupport.defineResources(
+          new V1Lease()
+                .metadata(new V1ObjectMeta().name(LEASE_NAME).namespace(NS))
+                .spec(new V1LeaseSpec()
+                      .holderIdentity(holder)
+                      .leaseDurationSeconds(LEASE_DURATION_SECONDS)
+                      .renewTime(SystemClock.now())
+                      .leaseTransitions(3)));
+  }
+
+  private V1LeaseSpec getLeaseSpec() {
+    return testSupport.<V1Lease>getResourceWithName(LEASE, LEASE_NAME).getSpec();
+  }
+
+  @Test
+  public void whenNoLease_createItAndLead() {
+    elector.tryAcquireOrRenew();
+
+    assertThat(elector.isLeader(), equalTo(true));
+    assertThat(timesStarted, equalTo(1));
+    assertThat(getLeaseSpec().getHolderIdentity(), equalTo(IDENTITY));
+  }
+
+  @Test
+  public void afterStart_checkLeaseOnElectionTimer() {
+    elector.start();
+    timerSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(elector.isLeader(), equalTo(true));
+  }
+
+  @Test
+  public void whenLeaseHeldByOther_remainStandby() {
+    defineLeaseHeldBy(OTHER_IDENTITY);
+
+    elector.tryAcquireOrRenew();
+
+    assertThat(elector.isLeader(), equalTo(false));
+    assertThat(getLeaseSpec().getHolderIdentity(), equalTo(OTHER_IDENTITY));
+  }
+
+  @Test
+  public void whenLeaseNotRenewedForLeaseDuration_takeItOver() {
+    defineLeaseHeldBy(OTHER_IDENTITY);
+    elector.tryAcquireOrRenew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS + 1);
+    elector.tryAcquireOrRenew();
+
+    assertThat(elector.isLeader(), equalTo(true));
+    assertThat(getLeaseSpec().getHolderIdentity(), equalTo(IDENTITY));
+    assertThat(getLeaseSpec().getLeaseTransitions(), equalTo(4));
+  }
+
+  @Test
+  public void whenLeaseRenewedByOther_remainStandby() {
+    defineLeaseHeldBy(OTHER_IDENTITY);
+    elector.tryAcquireOrRenew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS - 5);
+    getLeaseSpec().renewTime(SystemClock.now());
+    elector.tryAcquireOrRenew();
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS - 5);
+    elector.tryAcquireOrRenew();
+
+    assertThat(elector.isLeader(), equalTo(false));
+  }
+
+  @Test
+  public void whenLeaseReleased_takeItOverAtOnce() {
+    defineLeaseHeldBy(null);
+
+    elector.tryAcquireOrRenew();
+
+    assertThat(elector.isLeader(), equalTo(true));
+  }
+
+  @Test
+  public void whenLeader_renewLease() {
+    elector.tryAcquireOrRenew();
+
+    SystemClockTestSupport.increment(2);
+    elector.tryAcquireOrRenew();
+
+    assertThat(getLeaseSpec().getRenewTime(), equalTo(SystemClock.now()));
+    assertThat(timesStarted, equalTo(1));
+  }
+
+  @Test
+  public void whenLeaseTakenByOther_stopLeading() {
+    elector.tryAcquireOrRenew();
+
+    getLeaseSpec().holderIdentity(OTHER_IDENTITY);
+    elector.tryAcquireOrRenew();
+
+    assertThat(elector.isLeader(), equalTo(false));
+    assertThat(timesStopped, equalTo(1));
+  }
+
+  @Test
+  public void whenLeaseCannotBeRenewedBeforeDeadline_stopLeading() {
+    elector.tryAcquireOrRenew();
+    testSupport.failOnResource(LEASE, LEASE_NAME, NS, HTTP_INTERNAL_ERROR);
+
+    SystemClockTestSupport.increment(2);
+    elector.tryAcquireOrRenew();
+    assertThat(elector.isLeader(), equalTo(true));
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS);
+    elector.tryAcquireOrRenew();
+    assertThat(elector.isLeader(), equalTo(false));
+    assertThat(timesStopped, equalTo(1));
+  }
+
+  @Test
+  public void whenLeaseNotRenewedByDeadline_stopLeadingWithoutWaitingForLeaseCall() {
+    elector.tryAcquireOrRenew();
+
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS);
+    timerSupport.setTime(LEASE_DURATION_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(elector.isLeader(), equalTo(false));
+    assertThat(timesStopped, equalTo(1));
+  }
+
+  @Test
+  public void whenLeaseRenewedBeforeDeadline_continueLeading() {
+    elector.tryAcquireOrRenew();
+
+    SystemClockTestSupport.increment(2);
+    elector.tryAcquireOrRenew();
+    SystemClockTestSupport.increment(LEASE_DURATION_SECONDS * 2 / 3 - 1);
+    timerSupport.setTime(LEASE_DURATION_SECONDS * 2 / 3, TimeUnit.SECONDS);
+
+    assertThat(elector.isLeader(), equalTo(true));
+    assertThat(timesStopped, equalTo(0));
+  }
+
+  @Test
+  public void whenLeaderReleasesLease_clearHolder() {
+    elector.tryAcquireOrRenew();
+
+    elector.release();
+
+    assertThat(elector.isLeader(), equalTo(false));
+    assertThat(getLeaseSpec().getHolderIdentity(), nullValue());
+  }
+}
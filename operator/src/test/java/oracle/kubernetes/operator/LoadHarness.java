@@ -0,0 +1,319 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobCondition;
+import io.kubernetes.client.openapi.models.V1JobStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.rest.ScanCacheStub;
+import oracle.kubernetes.operator.utils.InMemoryCertificates;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+
+/**
+ * A load harness which runs the domain processor against a synthetic fleet of domains held by
+ * {@link KubernetesTestSupport}, without a Kubernetes cluster. It creates the requested number of namespaces,
+ * domains per namespace and managed servers per domain, dispatches a watch event announcing each domain, then
+ * marks each server pod created by the operator as ready and dispatches the corresponding watch event. Events
+ * may be paced to a fixed rate. When every server pod known to the operator is ready, it reports the time taken,
+ * the CPU time and heap used, and the number of Kubernetes API calls made.
+ *
+ * <p>The operator's fibers run on the calling thread, so the reported CPU time is that of the harness thread.
+ * The harness may be run from the test classpath, for example:
+ * <pre>
+ *   mvn -pl operator test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=oracle.kubernetes.operator.LoadHarness \
+ *       -Dexec.args="namespaces=10 domains=50 servers=19 eventsPerSecond=0"
+ * </pre>
+ */
+public class LoadHarness {
+
+  private static final String CLUSTER = "cluster-1";
+  private static final String ADMIN_NAME = "admin-server";
+  private static final String MS_PREFIX = "managed-server";
+
+  private final int numNamespaces;
+  private final int domainsPerNamespace;
+  private final int serversPerDomain;
+  private final int eventsPerSecond;
+
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final Map<String, Map<String, DomainPresenceInfo>> presenceInfoMap = new HashMap<>();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<Domain> domains = new ArrayList<>();
+  private long nextEventTime;
+
+  /**
+   * Creates a harness for a fleet of the specified size.
+   * @param numNamespaces the number of namespaces to create
+   * @param domainsPerNamespace the number of domains in each namespace
+   * @param serversPerDomain the number of managed servers in the single cluster of each domain
+   * @param eventsPerSecond the maximum rate at which to dispatch watch events, or zero for no limit
+   */
+  public LoadHarness(int numNamespaces, int domainsPerNamespace, int serversPerDomain, int eventsPerSecond) {
+    this.numNamespaces = numNamespaces;
+    this.domainsPerNamespace = domainsPerNamespace;
+    this.serversPerDomain = serversPerDomain;
+    this.eventsPerSecond = eventsPerSecond;
+  }
+
+  /**
+   * Runs the harness with arguments of the form name=value, where the names are "namespaces",
+   * "domains", "servers" and "eventsPerSecond".
+   * @param args the arguments
+   * @throws Exception if unable to run the harness
+   */
+  public static void main(String[] args) throws Exception {
+    Map<String, Integer> settings = new HashMap<>();
+    for (String arg : args) {
+      String[] parts = arg.split("=", 2);
+      settings.put(parts[0], Integer.parseInt(parts[1]));
+    }
+
+    LoadHarness harness = new LoadHarness(
+          settings.getOrDefault("namespaces", 10),
+          settings.getOrDefault("domains", 10),
+          settings.getOrDefault("servers", 10),
+          settings.getOrDefault("eventsPerSecond", 0));
+    System.out.println(harness.run());
+  }
+
+  /**
+   * Creates the fleet, drives the domain processor until every server is ready, and reports the cost.
+   * @return a report of the run
+   * @throws Exception if unable to install the test environment
+   */
+  public Report run() throws Exception {
+    try {
+      installEnvironment();
+      defineFleet();
+      return driveToConvergence();
+    } finally {
+      mementos.forEach(Memento::revert);
+      mementos.clear();
+    }
+  }
+
+  private void installEnvironment() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(InMemoryCertificates.install());
+    mementos.add(UnitTestHash.install());
+    mementos.add(ScanCacheStub.install());
+
+    testSupport.setAddCreationTimestamp(true);
+    testSupport.doOnCreate(JOB, job -> ((V1Job) job).setStatus(createCompletedJobStatus()));
+  }
+
+  private V1JobStatus createCompletedJobStatus() {
+    return new V1JobStatus().addConditionsItem(new V1JobCondition().type("Complete").status("True"));
+  }
+
+  private void defineFleet() throws JsonProcessingException {
+    String introspectResult = DomainProcessorTestSetup.getIntrospectResult(createDomainConfig());
+    for (int i = 1; i <= numNamespaces; i++) {
+      String ns = "ns-" + i;
+      testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name(SECRET_NAME).namespace(ns)));
+      for (int j = 1; j <= domainsPerNamespace; j++) {
+        Domain domain = createDomain(ns, "domain-" + j);
+        defineIntrospectionResult(domain, introspectResult);
+        testSupport.defineResources(domain);
+        domains.add(domain);
+      }
+    }
+  }
+
+  private WlsDomainConfig createDomainConfig() {
+    WlsClusterConfig clusterConfig = new WlsClusterConfig(CLUSTER);
+    for (int i = 1; i <= serversPerDomain; i++) {
+      clusterConfig.addServerConfig(new WlsServerConfig(MS_PREFIX + i, MS_PREFIX + i, 8001));
+    }
+    return new WlsDomainConfig("base_domain").withAdminServer(ADMIN_NAME, ADMIN_NAME, 7001).withCluster(clusterConfig);
+  }
+
+  private Domain createDomain(String ns, String uid) {
+    Domain domain = DomainProcessorTestSetup.createTestDomain();
+    domain.getMetadata().name(uid).namespace(ns);
+    domain.getSpec().setDomainUid(uid);
+    DomainConfiguratorFactory.forDomain(domain)
+          .withWebLogicCredentialsSecret(SECRET_NAME, ns)
+          .configureCluster(CLUSTER).withReplicas(serversPerDomain);
+    return domain;
+  }
+
+  private void defineIntrospectionResult(Domain domain, String introspectResult) {
+    String jobPodName = LegalNames.toJobIntrospectorName(domain.getDomainUid());
+    testSupport.definePodLog(jobPodName, domain.getNamespace(), introspectResult);
+    testSupport.defineResources(
+          new V1Pod().metadata(
+                new V1ObjectMeta().putLabelsItem("job-name", "").name(jobPodName).namespace(domain.getNamespace())));
+  }
+
+  private Report driveToConvergence() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    DomainProcessorImpl processor = new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(testSupport));
+
+    System.gc();
+    long initialHeap = memory.getHeapMemoryUsage().getUsed();
+    long startCpu = threads.getCurrentThreadCpuTime();
+    long startTime = System.nanoTime();
+    nextEventTime = startTime;
+    testSupport.clearNumCalls();
+
+    int numEvents = 0;
+    for (Domain domain : domains) {
+      awaitNextEvent();
+      processor.dispatchDomainWatch(WatchEvent.createAddedEvent(domain).toWatchResponse());
+      numEvents++;
+    }
+
+    for (V1Pod pod : getServerPods()) {
+      awaitNextEvent();
+      markReady(pod);
+      processor.dispatchPodWatch(WatchEvent.createModifiedEvent(pod).toWatchResponse());
+      numEvents++;
+    }
+
+    long elapsed = System.nanoTime() - startTime;
+    long cpu = threads.getCurrentThreadCpuTime() - startCpu;
+    long heap = memory.getHeapMemoryUsage().getUsed() - initialHeap;
+    return new Report(numEvents, countReadyServers(), getExpectedServerCount(), testSupport.getNumCalls(),
+          TimeUnit.NANOSECONDS.toMillis(elapsed), TimeUnit.NANOSECONDS.toMillis(cpu), heap);
+  }
+
+  // Sleeps as needed to dispatch events no faster than the configured rate.
+  private void awaitNextEvent() {
+    if (eventsPerSecond <= 0) {
+      return;
+    }
+
+    long delay = nextEventTime - System.nanoTime();
+    if (delay > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    nextEventTime += TimeUnit.SECONDS.toNanos(1) / eventsPerSecond;
+  }
+
+  private List<V1Pod> getServerPods() {
+    List<V1Pod> result = new ArrayList<>();
+    for (Object pod : testSupport.getResources(POD)) {
+      if (getServerName((V1Pod) pod) != null) {
+        result.add((V1Pod) pod);
+      }
+    }
+    return result;
+  }
+
+  private String getServerName(V1Pod pod) {
+    return Optional.ofNullable(pod.getMetadata())
+          .map(V1ObjectMeta::getLabels)
+          .map(labels -> labels.get(SERVERNAME_LABEL))
+          .orElse(null);
+  }
+
+  private void markReady(V1Pod pod) {
+    pod.status(new V1PodStatus()
+          .phase("Running")
+          .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+  }
+
+  private long countReadyServers() {
+    return presenceInfoMap.values().stream()
+          .flatMap(infos -> infos.values().stream())
+          .flatMap(DomainPresenceInfo::getServerPods)
+          .filter(PodHelper::isReady)
+          .count();
+  }
+
+  private int getExpectedServerCount() {
+    return numNamespaces * domainsPerNamespace * (serversPerDomain + 1);
+  }
+
+  public static class Report {
+    private final int numEvents;
+    private final long numReadyServers;
+    private final int numExpectedServers;
+    private final int numApiCalls;
+    private final long elapsedMillis;
+    private final long cpuMillis;
+    private final long heapBytes;
+
+    Report(int numEvents, long numReadyServers, int numExpectedServers, int numApiCalls,
+           long elapsedMillis, long cpuMillis, long heapBytes) {
+      this.numEvents = numEvents;
+      this.numReadyServers = numReadyServers;
+      this.numExpectedServers = numExpectedServers;
+      this.numApiCalls = numApiCalls;
+      this.elapsedMillis = elapsedMillis;
+      this.cpuMillis = cpuMillis;
+      this.heapBytes = heapBytes;
+    }
+
+    public boolean isConverged() {
+      return numReadyServers == numExpectedServers;
+    }
+
+    public long getNumReadyServers() {
+      return numReadyServers;
+    }
+
+    public int getNumApiCalls() {
+      return numApiCalls;
+    }
+
+    public int getNumEvents() {
+      return numEvents;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+            "servers ready: %d of %d%nwatch events: %d%napi calls: %d%n"
+                  + "convergence time: %d ms%ncpu time: %d ms%nheap growth: %d KB",
+            numReadyServers, numExpectedServers, numEvents, numApiCalls,
+            elapsedMillis, cpuMillis, heapBytes / 1024);
+    }
+  }
+}
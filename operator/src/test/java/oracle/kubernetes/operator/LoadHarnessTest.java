@@ -0,0 +1,30 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class LoadHarnessTest {
+
+  @Test
+  public void smallFleet_converges() throws Exception {
+    LoadHarness.Report report = new LoadHarness(2, 2, 3, 0).run();
+
+    assertThat(report.getNumReadyServers(), equalTo(16L));
+    assertThat(report.isConverged(), is(true));
+  }
+
+  @Test
+  public void report_countsApiCallsAndEvents() throws Exception {
+    LoadHarness.Report report = new LoadHarness(1, 2, 2, 0).run();
+
+    assertThat(report.getNumApiCalls(), greaterThan(0));
+    assertThat(report.getNumEvents(), equalTo(2 + 2 * 3));
+  }
+}
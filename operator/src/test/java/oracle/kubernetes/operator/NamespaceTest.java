@@ -226,7 +226,7 @@ public class NamespaceTest {
 
     @Override
     public MainTuning getMainTuning() {
-      return new MainTuning(2, 2, domainPresenceRecheckIntervalSeconds, 2, 2, 2, 30, 2L, 2L);
+      return new MainTuning(2, 2, domainPresenceRecheckIntervalSeconds, 2, 2, 2, 2L, 2L, 2, 2, 2, 0);
     }
   }
 
@@ -7,12 +7,17 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import javax.annotation.Nonnull;
 
 import com.meterware.pseudoserver.HttpUserAgentTest;
 import com.meterware.simplestub.Memento;
@@ -44,16 +49,23 @@ import static com.meterware.simplestub.Stub.createStub;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class ServerStatusReaderTest extends HttpUserAgentTest {
   private static final String NS = "namespace";
   private static final String UID = "uid";
+  private static final int MAX_CONCURRENT_READS = 2;
+  private static final int SERVER_DEADLINE_SECONDS = 2;
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
+  private final ExecExecutorFake execExecutor = new ExecExecutorFake();
   private FiberTestSupport testSupport = new FiberTestSupport();
   private List<Memento> mementos = new ArrayList<>();
   private Domain domain =
@@ -69,6 +81,7 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "EXEC_FACTORY", execFactory));
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "STEP_FACTORY", stepFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "EXEC_EXECUTOR", execExecutor));
     mementos.add(TuningParametersStub.install());
     mementos.add(ClientFactoryStub.install());
 
@@ -182,21 +195,154 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  public void whenMoreServersThanMaxConcurrentReads_readOnlyThatManyAtOnce() {
+    defineReadyServers("server1", "server2", "server3");
+    stepFactory.hangOnServers("server1", "server2", "server3");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, hasSize(MAX_CONCURRENT_READS));
+  }
+
+  @Test
+  public void whenServerReadsMissDeadline_readRemainingServers() {
+    defineReadyServers("server1", "server2", "server3");
+    stepFactory.hangOnServers("server1", "server2", "server3");
+
+    testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+    testSupport.setTime(SERVER_DEADLINE_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(stepFactory.serverNames, containsInAnyOrder("server1", "server2", "server3"));
+  }
+
+  @Test
+  public void whenServerReadMissesDeadline_reportLastKnownState() {
+    defineReadyServers("server1");
+    info.updateLastKnownServerStatus("server1", "RUNNING");
+    stepFactory.hangOnServers("server1");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+    testSupport.setTime(SERVER_DEADLINE_SECONDS + 1, TimeUnit.SECONDS);
+
+    assertThat(endStep.wasRun(), is(true));
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+  }
+
+  @Test
+  public void whenOneServerReadHangs_recordStateOfOtherServers() {
+    defineReadyServers("server1");
+    info.setServerPod("server2", createPod("server2"));
+    stepFactory.hangOnServers("server1");
+    execFactory.defineResponse("server2", "server2 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server2", "server2 status"));
+    assertThat(endStep.wasRun(), is(false));
+  }
+
+  @Test
+  public void whenServerStateReadByExec_suspendFiberUntilExecCompletes() {
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "server1 status");
+    execExecutor.deferCommands();
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), not(hasKey("server1")));
+    assertThat(endStep.wasRun(), is(false));
+
+    execExecutor.runDeferredCommands();
+
+    assertThat(getServerStates(packet), hasEntry("server1", "server1 status"));
+    assertThat(endStep.wasRun(), is(true));
+  }
+
+  private void defineReadyServers(String... serverNames) {
+    for (String serverName : serverNames) {
+      info.setServerPod(serverName, createPod(serverName));
+      setReadyStatus(info.getServerPod(serverName));
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     List<String> serverNames = new ArrayList<>();
+    private final List<String> hungServerNames = new ArrayList<>();
+
+    void hangOnServers(String... serverNames) {
+      hungServerNames.addAll(Arrays.asList(serverNames));
+    }
 
     @Override
     public Step apply(Step next) {
       return new Step() {
         @Override
         public NextAction apply(Packet packet) {
-          serverNames.add((String) packet.get(ProcessingConstants.SERVER_NAME));
+          String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+          serverNames.add(serverName);
+          if (hungServerNames.contains(serverName)) {
+            return doSuspend(fiber -> { });
+          }
           return doNext(packet);
         }
       };
     }
   }
 
+  // runs each command at once, unless told to defer them, as an exec thread would run them later
+  static class ExecExecutorFake extends AbstractExecutorService {
+    private final List<Runnable> deferredCommands = new ArrayList<>();
+    private boolean deferring;
+
+    void deferCommands() {
+      deferring = true;
+    }
+
+    void runDeferredCommands() {
+      deferring = false;
+      List<Runnable> commands = new ArrayList<>(deferredCommands);
+      deferredCommands.clear();
+      commands.forEach(Runnable::run);
+    }
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+      if (deferring) {
+        deferredCommands.add(command);
+      } else {
+        command.run();
+      }
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public @Nonnull List<Runnable> shutdownNow() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) {
+      return false;
+    }
+  }
+
   static class KubernetesExecFactoryFake implements KubernetesExecFactory {
     private Map<String, String> responses = new HashMap<>();
 
@@ -6,12 +6,14 @@ package oracle.kubernetes.operator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.work.Step;
@@ -30,6 +32,7 @@ import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDoma
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
 import static oracle.kubernetes.operator.logging.MessageKeys.POD_FORCE_DELETED;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -44,18 +47,20 @@ public class StuckPodTest {
   private final List<Memento> mementos = new ArrayList<>();
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private final Domain domain = createTestDomain();
-  private final StuckPodProcessing processing = new StuckPodProcessing("operator", this::createExistingResource);
+  private final StuckPodProcessing processing
+        = new StuckPodProcessing("operator", this::createExistingResource, testSupport.getEngine(), () -> active);
   private final V1Pod managedPod1 = defineManagedPod(SERVER_POD_1);
   private final V1Pod managedPod2 = defineManagedPod(SERVER_POD_2);
   private final V1Pod foreignPod = defineForeignPod(FOREIGN_POD);
   private final TerminalStep terminalStep = new TerminalStep();
   private TestUtils.ConsoleHandlerMemento consoleMemento;
+  private boolean active = true;
+  private long elapsedSeconds;
 
   private Step createExistingResource(String operatorNamespace, String namespace) {
     return terminalStep;
   }
 
-
   @Before
   public void setUp() throws Exception {
     mementos.add(consoleMemento = TestUtils.silenceOperatorLogger());
@@ -75,19 +80,17 @@ public class StuckPodTest {
 
   @Test
   public void whenServerPodNotDeleted_ignoreIt() {
-    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS);
-
-    testSupport.runSteps(processing.createStuckPodCheckSteps(NS));
+    processing.dispatchPodWatch(WatchEvent.createModifiedEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS);
 
     assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+    assertThat(processing.getNumTrackedPods(), equalTo(0));
   }
 
   @Test
   public void whenServerPodNotStuck_ignoreIt() {
-    markAsDelete(getSelectedPod(SERVER_POD_1));
-    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS - 1);
-
-    testSupport.runSteps(processing.createStuckPodCheckSteps(NS));
+    markAsDeleted(getSelectedPod(SERVER_POD_1));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS - 1);
 
     assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
     assertThat(terminalStep.wasRun(), is(false));
@@ -95,35 +98,30 @@ public class StuckPodTest {
 
   @Test
   public void whenServerPodStuck_deleteIt() {
-    markAsDelete(getSelectedPod(SERVER_POD_1));
-    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
-
-    testSupport.runSteps(processing.createStuckPodCheckSteps(NS));
+    markAsDeleted(getSelectedPod(SERVER_POD_1));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
 
     assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+    assertThat(processing.getNumTrackedPods(), equalTo(0));
   }
 
   @Test
   public void whenStuckServerPodDeleted_logMessage() {
     final List<LogRecord> logMessages = new ArrayList<>();
     consoleMemento.collectLogMessages(logMessages, POD_FORCE_DELETED).withLogLevel(Level.INFO);
-    markAsDelete(getSelectedPod(SERVER_POD_1));
-    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
-
-    testSupport.runSteps(processing.createStuckPodCheckSteps(NS));
+    markAsDeleted(getSelectedPod(SERVER_POD_1));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
 
     assertThat(logMessages, containsInfo(POD_FORCE_DELETED));
   }
-  
+
   /*
 
   @Test
   public void whenServerPodDeleted_specifyZeroGracePeriod() {
-    markAsDelete(getSelectedPod(SERVER_POD_1));
-    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
     testSupport.doOnDelete(POD, this::recordGracePeriodSeconds);
-
-    testSupport.runSteps(processing.createStuckPodCheckSteps(NS));
+    markAsDeleted(getSelectedPod(SERVER_POD_1));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
 
     assertThat(gracePeriodSeconds, equalTo(0));
   }
@@ -135,24 +133,85 @@ public class StuckPodTest {
 
   @Test
   public void whenServerPodStuck_initiateMakeRightProcessing() {
-    markAsDelete(getSelectedPod(SERVER_POD_2));
-    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
-
-    testSupport.runSteps(processing.createStuckPodCheckSteps(NS));
+    markAsDeleted(getSelectedPod(SERVER_POD_2));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
 
     assertThat(terminalStep.wasRun(), is(true));
   }
 
   @Test
   public void whenForeignPodStuck_ignoreIt() {
-    markAsDelete(getSelectedPod(FOREIGN_POD));
-    SystemClockTestSupport.increment(DELETION_GRACE_PERIOD_SECONDS + 1);
-
-    testSupport.runSteps(processing.createStuckPodCheckSteps(NS));
+    markAsDeleted(getSelectedPod(FOREIGN_POD));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
 
     assertThat(getSelectedPod(FOREIGN_POD), notNullValue());
   }
 
+  @Test
+  public void whenTerminatingPodRemovedBeforeDeadline_stopTrackingIt() {
+    markAsDeleted(getSelectedPod(SERVER_POD_1));
+
+    processing.dispatchPodWatch(WatchEvent.createDeleteEvent(getSelectedPod(SERVER_POD_1)).toWatchResponse());
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(processing.getNumTrackedPods(), equalTo(0));
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  public void whenTerminatingPodNoLongerTerminating_stopTrackingIt() {
+    markAsDeleted(getSelectedPod(SERVER_POD_1));
+
+    processing.dispatchPodWatch(WatchEvent.createModifiedEvent(defineManagedPod(SERVER_POD_1)).toWatchResponse());
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(processing.getNumTrackedPods(), equalTo(0));
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+  }
+
+  @Test
+  public void whenStuckPodReplacedBySameName_dontDeleteReplacement() {
+    markAsDeleted(new V1Pod().metadata(createManagedPodMetadata(SERVER_POD_1).uid("replaced-uid")));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+    assertThat(processing.getNumTrackedPods(), equalTo(0));
+  }
+
+  @Test
+  public void whenListedPodTerminating_trackIt() {
+    Objects.requireNonNull(getSelectedPod(SERVER_POD_1).getMetadata())
+          .deletionGracePeriodSeconds(DELETION_GRACE_PERIOD_SECONDS)
+          .deletionTimestamp(SystemClock.now());
+
+    processing.recordPod(getSelectedPod(SERVER_POD_1));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
+  @Test
+  public void whenInactive_dontDeleteStuckPods() {
+    active = false;
+    markAsDeleted(getSelectedPod(SERVER_POD_1));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    assertThat(getSelectedPod(SERVER_POD_1), notNullValue());
+    assertThat(processing.getNumTrackedPods(), equalTo(1));
+  }
+
+  @Test
+  public void whenBecomingActive_deleteExpiredStuckPods() {
+    active = false;
+    markAsDeleted(getSelectedPod(SERVER_POD_1));
+    advanceSeconds(DELETION_GRACE_PERIOD_SECONDS + 1);
+
+    active = true;
+    processing.deleteExpiredPods();
+
+    assertThat(getSelectedPod(SERVER_POD_1), nullValue());
+  }
+
   private V1Pod getSelectedPod(String name) {
     return testSupport.getResourceWithName(POD, name);
   }
@@ -176,12 +235,21 @@ public class StuckPodTest {
   private V1ObjectMeta createPodMetadata(String name) {
     return new V1ObjectMeta()
           .name(name)
-          .namespace(NS);
+          .namespace(NS)
+          .uid(name + "-uid");
   }
 
-  private void markAsDelete(V1Pod pod) {
+  // marks the pod as terminating, and reports it as a pod watch would
+  private void markAsDeleted(V1Pod pod) {
     Objects.requireNonNull(pod.getMetadata())
           .deletionGracePeriodSeconds(DELETION_GRACE_PERIOD_SECONDS)
           .deletionTimestamp(SystemClock.now());
+    processing.dispatchPodWatch(WatchEvent.createModifiedEvent(pod).toWatchResponse());
+  }
+
+  private void advanceSeconds(long numSeconds) {
+    elapsedSeconds += numSeconds;
+    SystemClockTestSupport.increment(numSeconds);
+    testSupport.setTime((int) elapsedSeconds, TimeUnit.SECONDS);
   }
 }
@@ -345,7 +345,7 @@ public class WatchBuilderTest extends HttpUserAgentTest {
 
     static Memento install(String basePath) throws NoSuchFieldException {
       queue = new ArrayDeque<>();
-      return StaticStubSupport.install(ClientPool.class, "SINGLETON", new ClientPoolStub(basePath));
+      return StaticStubSupport.install(ClientPool.class, "WATCH_SINGLETON", new ClientPoolStub(basePath));
     }
 
     static Collection<ApiClient> getPooledClients() {
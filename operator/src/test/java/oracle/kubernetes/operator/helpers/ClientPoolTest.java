@@ -7,14 +7,22 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import oracle.kubernetes.operator.ClientFactoryStub;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.helpers.ClientPool.HTTP2_ENABLED;
+import static oracle.kubernetes.operator.helpers.ClientPool.WATCH_PING_INTERVAL_SECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
@@ -30,6 +38,10 @@ public class ClientPoolTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(StaticStubSupport.install(ClientPool.class, "SINGLETON", new ClientPool()));
+    mementos.add(StaticStubSupport.install(ClientPool.class, "WATCH_SINGLETON",
+          new ClientPool(ClientPool.Usage.WATCHES)));
   }
 
   /**
@@ -54,4 +66,55 @@ public class ClientPoolTest {
 
     assertThat(ClientPool.getInstance().take(), sameInstance(apiClient));
   }
+
+  @Test
+  public void watchClient_isNotCallClient() {
+    assertThat(ClientPool.getWatchInstance().take(), not(sameInstance(ClientPool.getInstance().take())));
+  }
+
+  @Test
+  public void watchAndCallClients_haveSeparateConnectionPools() {
+    assertThat(getHttpClient(ClientPool.getWatchInstance()).connectionPool(),
+          not(sameInstance(getHttpClient(ClientPool.getInstance()).connectionPool())));
+  }
+
+  @Test
+  public void byDefault_clientsPreferHttp2() {
+    assertThat(getHttpClient(ClientPool.getInstance()).protocols(), contains(Protocol.HTTP_2, Protocol.HTTP_1_1));
+    assertThat(getHttpClient(ClientPool.getWatchInstance()).protocols(), contains(Protocol.HTTP_2, Protocol.HTTP_1_1));
+  }
+
+  @Test
+  public void whenHttp2Disabled_clientsUseHttp11() {
+    TuningParametersStub.namedParameters.put(HTTP2_ENABLED, "false");
+
+    assertThat(getHttpClient(ClientPool.getInstance()).protocols(), contains(Protocol.HTTP_1_1));
+  }
+
+  @Test
+  public void callClient_timesOutOnStalledReads() {
+    assertThat(getHttpClient(ClientPool.getInstance()).readTimeoutMillis(), equalTo(10000));
+  }
+
+  @Test
+  public void watchClient_neverTimesOutOnReads() {
+    assertThat(getHttpClient(ClientPool.getWatchInstance()).readTimeoutMillis(), equalTo(0));
+  }
+
+  @Test
+  public void watchClient_sendsConfiguredPings() {
+    TuningParametersStub.namedParameters.put(WATCH_PING_INTERVAL_SECONDS, "10");
+
+    assertThat(getHttpClient(ClientPool.getWatchInstance()).pingIntervalMillis(), equalTo(10000));
+  }
+
+  @Test
+  public void beforeAnyCalls_reportNoConnections() {
+    assertThat(ClientPool.getInstance().getConnectionCount(), equalTo(0));
+    assertThat(ClientPool.getWatchInstance().getConnectionCount(), equalTo(0));
+  }
+
+  private OkHttpClient getHttpClient(ClientPool pool) {
+    return pool.take().getHttpClient();
+  }
 }
@@ -34,12 +34,14 @@ import static oracle.kubernetes.operator.ProcessingConstants.SCRIPT_CONFIG_MAP;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.logging.MessageKeys.CM_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CM_EXISTS;
-import static oracle.kubernetes.operator.logging.MessageKeys.CM_REPLACED;
+import static oracle.kubernetes.operator.logging.MessageKeys.CM_PATCHED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -116,7 +118,7 @@ public class ConfigMapHelperTest {
   public void setUp() throws Exception {
     mementos.add(
         TestUtils.silenceOperatorLogger()
-            .collectLogMessages(logRecords, CM_CREATED, CM_EXISTS, CM_REPLACED)
+            .collectLogMessages(logRecords, CM_CREATED, CM_EXISTS, CM_PATCHED)
             .withLogLevel(Level.FINE));
     mementos.add(testSupport.install());
     mementos.add(TestComparator.install());
@@ -176,12 +178,12 @@ public class ConfigMapHelperTest {
   }
 
   @Test
-  public void whenExistingConfigMapIsMissingData_replaceIt() {
+  public void whenExistingConfigMapIsMissingData_patchIt() {
     testSupport.defineResources(defineConfigMap(PARTIAL_SCRIPT_NAMES));
 
     testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
 
-    assertThat(logRecords, containsInfo(CM_REPLACED));
+    assertThat(logRecords, containsInfo(CM_PATCHED));
     assertThat(getScriptConfigKeys(), containsInAnyOrder(COMBINED_SCRIPT_NAMES));
   }
 
@@ -211,10 +213,56 @@ public class ConfigMapHelperTest {
 
     testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
 
-    assertThat(logRecords, containsInfo(CM_REPLACED));
+    assertThat(logRecords, containsInfo(CM_PATCHED));
     assertThat(getScriptConfigKeys(), hasItem(ADDITIONAL_NAME));
   }
 
+  @Test
+  public void whenNoConfigMap_createItWithDataHashes() {
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(ConfigMapHelper.getRecordedDataHashes(getScriptConfigMap()).keySet(),
+          containsInAnyOrder(SCRIPT_NAMES));
+  }
+
+  @Test
+  public void whenExistingConfigMapIsMissingData_recordDataHashesForAllEntries() {
+    testSupport.defineResources(defineConfigMap(PARTIAL_SCRIPT_NAMES));
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(ConfigMapHelper.getRecordedDataHashes(getScriptConfigMap()).keySet(),
+          containsInAnyOrder(COMBINED_SCRIPT_NAMES));
+  }
+
+  @Test
+  public void whenServerSideApplyEnabledAndNoConfigMap_createItWithOneCall() throws NoSuchFieldException {
+    enableServerSideApply();
+
+    Packet packet = testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(getScriptConfigKeys(), containsInAnyOrder(SCRIPT_NAMES));
+    assertThat(packet.get(SCRIPT_CONFIG_MAP), notNullValue());
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerSideApplyEnabledAndConfigMapIsMissingData_updateItWithOneCall() throws NoSuchFieldException {
+    enableServerSideApply();
+    testSupport.defineResources(defineConfigMap(PARTIAL_SCRIPT_NAMES));
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(logRecords, containsFine(CM_PATCHED));
+    assertThat(getScriptConfigKeys(), hasItems(SCRIPT_NAMES));
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  private void enableServerSideApply() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.namedParameters.put(CallBuilder.SERVER_SIDE_APPLY_PARAM, "true");
+  }
+
   // An implementation of the comparator that tests only the keys in the maps
   static class TestComparator extends ConfigMapHelper.ConfigMapComparator {
     static Memento install() throws NoSuchFieldException {
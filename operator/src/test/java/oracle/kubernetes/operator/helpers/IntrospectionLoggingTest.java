@@ -9,6 +9,7 @@ import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -17,13 +18,16 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTION_RESULT;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_NAME;
 import static oracle.kubernetes.operator.helpers.JobHelper.INTROSPECTOR_LOG_PREFIX;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.utils.LogMatcher.containsSevere;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class IntrospectionLoggingTest {
@@ -62,6 +66,8 @@ public class IntrospectionLoggingTest {
   private static final String INFO_MESSAGE = "@[INFO] just letting you know";
   private static final String INFO_EXTRA1 = "more stuff";
   private static final String INFO_EXTRA_2 = "still more";
+  private static final String RESULT_FILE = "topology.yaml";
+  private static final String RESULT_LINE = "domainValid: true";
 
   @Test
   public void logIntrospectorMessages() {
@@ -92,6 +98,32 @@ public class IntrospectionLoggingTest {
     logRecords.clear();
   }
 
+  @Test
+  public void whenIntrospectorWritesResultFile_dontLogItsContents() {
+    new DomainProcessorTestSetup(testSupport)
+        .defineKubernetesResources(
+            onSeparateLines(INFO_MESSAGE, ">>> /u01/introspect/domain1/" + RESULT_FILE, RESULT_LINE, ">>> EOF"));
+
+    testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(terminalStep));
+
+    assertThat(logRecords, containsInfo(INTROSPECTOR_LOG_PREFIX + INFO_MESSAGE));
+    logRecords.clear();
+  }
+
+  @Test
+  public void whenIntrospectorWritesResultFile_recordItSeparatelyFromMessages() {
+    new DomainProcessorTestSetup(testSupport)
+        .defineKubernetesResources(
+            onSeparateLines(INFO_MESSAGE, ">>> /u01/introspect/domain1/" + RESULT_FILE, RESULT_LINE, ">>> EOF"));
+
+    Packet packet = testSupport.runSteps(JobHelper.readDomainIntrospectorPodLog(terminalStep));
+    logRecords.clear();
+
+    IntrospectionResult result = (IntrospectionResult) packet.get(DOMAIN_INTROSPECTION_RESULT);
+    assertThat(result.getFiles(), hasEntry(RESULT_FILE, RESULT_LINE));
+    assertThat(result.getMessages(), contains(INTROSPECTOR_LOG_PREFIX + INFO_MESSAGE));
+  }
+
   @Test
   public void whenJobLogContainsSevereError_copyToDomainStatus() {
     new DomainProcessorTestSetup(testSupport).defineKubernetesResources(SEVERE_MESSAGE_1);
@@ -26,6 +26,7 @@ import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.jetbrains.annotations.NotNull;
 import org.junit.After;
 import org.junit.Before;
@@ -51,11 +52,13 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class IntrospectorConfigMapTest {
 
   private static final String TOPOLOGY_VALUE = "domainValid: true\ndomain:\n  name: sample";
+  private static final String UPDATED_TOPOLOGY_VALUE = "domainValid: true\ndomain:\n  name: updated";
   private static final String DOMAIN_HASH_VALUE = "MII_domain_hash";
   private static final String INPUTS_HASH_VALUE = "MII_inputs_hash";
   private static final String MD5_SECRETS = "md5-secrets";
@@ -99,7 +102,8 @@ public class IntrospectorConfigMapTest {
     }
 
     void addToPacket() {
-      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, builder.toString());
+      testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECTION_RESULT,
+            IntrospectionResult.parse(builder.toString(), UID));
     }
 
   }
@@ -352,7 +356,59 @@ public class IntrospectorConfigMapTest {
     assertThat(packet.get(DOMAIN_TOPOLOGY), equalTo(getParsedDomain(TOPOLOGY_VALUE)));
   }
 
-  @SuppressWarnings("SameParameterValue")
+  @Test
+  public void whenIntrospectorConfigMapUnchangedSinceLastRead_dontReadItsEntriesAgain() {
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("1", TOPOLOGY_VALUE));
+    testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    testSupport.failOnRead(KubernetesTestSupport.CONFIG_MAP, getIntrospectorConfigMapName(), NS, 500);
+    Packet packet = testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    assertThat(packet.get(SECRETS_MD_5), equalTo(MD5_SECRETS));
+    assertThat(packet.get(DOMAIN_TOPOLOGY), equalTo(getParsedDomain(TOPOLOGY_VALUE)));
+  }
+
+  @Test
+  public void whenIntrospectorConfigMapChangedSinceLastRead_readItsEntriesAgain() {
+    V1ConfigMap map = createVersionedIntrospectorConfigMap("1", TOPOLOGY_VALUE);
+    testSupport.defineResources(map);
+    testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    V1ConfigMap updatedMap = createVersionedIntrospectorConfigMap("2", UPDATED_TOPOLOGY_VALUE);
+    map.metadata(updatedMap.getMetadata()).data(updatedMap.getData());
+    Packet packet = testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    assertThat(packet.get(DOMAIN_TOPOLOGY), equalTo(getParsedDomain(UPDATED_TOPOLOGY_VALUE)));
+  }
+
+  @Test
+  public void afterReadingIntrospectorConfigMap_recordOnlyEntriesUsedByOperator() {
+    V1ConfigMap map = createVersionedIntrospectorConfigMap("1", TOPOLOGY_VALUE);
+    map.putDataItem("domainzip.secure", "a large archive");
+    testSupport.defineResources(map);
+
+    testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    assertThat(info.getIntrospectorConfigMap().getData(),
+          allOf(hasKey(TOPOLOGY_YAML), not(hasKey("domainzip.secure"))));
+  }
+
+  @Test
+  public void afterIntrospectorConfigMapDeleted_forgetRecordedMap() {
+    testSupport.defineResources(createVersionedIntrospectorConfigMap("1", TOPOLOGY_VALUE));
+    testSupport.runSteps(ConfigMapHelper.readExistingIntrospectorConfigMap(NS, UID));
+
+    testSupport.runSteps(ConfigMapHelper.deleteIntrospectorConfigMapStep(UID, NS, terminalStep));
+
+    assertThat(info.getIntrospectorConfigMap(), nullValue());
+  }
+
+  private V1ConfigMap createVersionedIntrospectorConfigMap(String resourceVersion, String topology) {
+    V1ConfigMap map = createIntrospectorConfigMap(Map.of(TOPOLOGY_YAML, topology, SECRETS_MD_5, MD5_SECRETS));
+    map.getMetadata().setResourceVersion(resourceVersion);
+    return map;
+  }
+
   private WlsDomainConfig getParsedDomain(String topologyYaml) {
     return Optional.ofNullable(topologyYaml)
           .map(DomainTopology::parseDomainTopologyYaml)
@@ -390,6 +446,72 @@ public class IntrospectorConfigMapTest {
     assertThat(getIntrospectorConfigMapData(), allOf(not(hasKey("Sit-Cfg-1")), not(hasKey("Sit-Cfg-2"))));
   }
 
+  @Test
+  public void afterUpdate_recordHashOfEachEntry() {
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SECRETS_MD_5, MD5_SECRETS)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getRecordedDataHashes(), hasEntry(SECRETS_MD_5, DigestUtils.sha256Hex(MD5_SECRETS)));
+  }
+
+  @Nonnull
+  private Map<String, String> getRecordedDataHashes() {
+    return getIntrospectionConfigMap().map(ConfigMapHelper::getRecordedDataHashes).orElse(Collections.emptyMap());
+  }
+
+  @Test
+  public void whenRecordedHashesCoverAllEntries_compareThemRatherThanData() {
+    V1ConfigMap configMap = createIntrospectorConfigMap(Map.of(SECRETS_MD_5, "stale-value"));
+    configMap.getMetadata().putAnnotationsItem(ConfigMapHelper.DATA_HASHES_ANNOTATION,
+          ConfigMapHelper.toAnnotationValue(Map.of(SECRETS_MD_5, DigestUtils.sha256Hex(MD5_SECRETS))));
+    testSupport.defineResources(configMap);
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SECRETS_MD_5, MD5_SECRETS)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapValue(SECRETS_MD_5), equalTo("stale-value"));
+  }
+
+  @Test
+  public void whenRecordedHashesDoNotCoverAllEntries_restoreEntryEditedOutOfBand() {
+    V1ConfigMap configMap = createIntrospectorConfigMap(Map.of(
+          TOPOLOGY_YAML, TOPOLOGY_VALUE,
+          SECRETS_MD_5, "stale-value"));
+    configMap.getMetadata().putAnnotationsItem(ConfigMapHelper.DATA_HASHES_ANNOTATION,
+          ConfigMapHelper.toAnnotationValue(Map.of(SECRETS_MD_5, DigestUtils.sha256Hex(MD5_SECRETS))));
+    testSupport.defineResources(configMap);
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SECRETS_MD_5, MD5_SECRETS)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapValue(SECRETS_MD_5), equalTo(MD5_SECRETS));
+  }
+
+  @Test
+  public void whenEntryChanged_updateIt() {
+    testSupport.defineResources(createIntrospectorConfigMap(Map.of(
+          TOPOLOGY_YAML, TOPOLOGY_VALUE,
+          SECRETS_MD_5, "old-value")));
+    introspectResult
+          .defineFile(TOPOLOGY_YAML, "domainValid: true", "domain:", "  name: \"sample\"")
+          .defineFile(SECRETS_MD_5, MD5_SECRETS)
+          .addToPacket();
+
+    testSupport.runSteps(ConfigMapHelper.createIntrospectorConfigMapStep(terminalStep));
+
+    assertThat(getIntrospectorConfigMapValue(SECRETS_MD_5), equalTo(MD5_SECRETS));
+  }
+
   @Test
   public void whenNoTopologySpecified_dontRemoveSitConfigEntries() {
     testSupport.defineResources(
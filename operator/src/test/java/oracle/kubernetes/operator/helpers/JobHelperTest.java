@@ -27,6 +27,7 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodTemplateSpec;
 import io.kubernetes.client.openapi.models.V1SecurityContext;
 import io.kubernetes.client.openapi.models.V1Toleration;
+import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.TuningParameters;
@@ -51,6 +52,7 @@ import org.junit.Test;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.createTestDomain;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.helpers.IntrospectionInputs.INPUTS_HASH_ANNOTATION;
 import static oracle.kubernetes.operator.helpers.Matchers.hasContainer;
 import static oracle.kubernetes.operator.helpers.Matchers.hasEnvVar;
 import static oracle.kubernetes.operator.helpers.Matchers.hasEnvVarRegEx;
@@ -85,6 +87,7 @@ public class JobHelperTest {
    * time the job ran.
    */
   private static final String OEVN = "OPERATOR_ENVVAR_NAMES";
+  private static final String DIGEST_IMAGE = "domain-image@sha256:0123456789abcdef";
   private Method getDomainSpec;
   private final Domain domain = createTestDomain();
   private final DomainPresenceInfo domainPresenceInfo = createDomainPresenceInfo(domain);
@@ -819,6 +822,96 @@ public class JobHelperTest {
     assertThat(job, notNullValue());
   }
 
+  @Test
+  public void whenBringingUpDomainWithUnchangedIntrospectionInputs_dontRunIntrospector() {
+    defineTopology();
+    defineIntrospectionInputs();
+    configureDomain().withDefaultServerStartPolicy(ConfigurationConstants.START_IF_NEEDED);
+    testSupport.addToPacket(INPUTS_HASH_ANNOTATION, IntrospectionInputs.getInputsHash(testSupport.getPacket()));
+
+    runCreateJob();
+
+    assertThat(job, nullValue());
+  }
+
+  @Test
+  public void whenBringingUpDomainInPersistentVolumeWithUnchangedIntrospectionInputs_runIntrospector() {
+    defineTopology();
+    defineIntrospectionInputs();
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.PersistentVolume);
+    configureDomain().withDefaultServerStartPolicy(ConfigurationConstants.START_IF_NEEDED);
+    testSupport.addToPacket(INPUTS_HASH_ANNOTATION, IntrospectionInputs.getInputsHash(testSupport.getPacket()));
+
+    runCreateJob();
+
+    assertThat(job, notNullValue());
+  }
+
+  @Test
+  public void whenBringingUpDomainWithImageTagAndUnchangedIntrospectionInputs_runIntrospector() {
+    defineTopology();
+    defineIntrospectionInputs();
+    domain.getSpec().setImage("domain-image:1.0");
+    configureDomain().withDefaultServerStartPolicy(ConfigurationConstants.START_IF_NEEDED);
+    testSupport.addToPacket(INPUTS_HASH_ANNOTATION, IntrospectionInputs.getInputsHash(testSupport.getPacket()));
+
+    runCreateJob();
+
+    assertThat(job, notNullValue());
+  }
+
+  @Test
+  public void whenRestartVersionChanged_introspectionInputsHashChanges() {
+    defineIntrospectionInputs();
+    String originalHash = IntrospectionInputs.getInputsHash(testSupport.getPacket());
+
+    configureDomain().withRestartVersion("2");
+
+    assertThat(IntrospectionInputs.getInputsHash(testSupport.getPacket()), not(equalTo(originalHash)));
+  }
+
+  @Test
+  public void whenBringingUpDomainWithChangedIntrospectionInputs_runIntrospector() {
+    defineTopology();
+    defineIntrospectionInputs();
+    configureDomain().withDefaultServerStartPolicy(ConfigurationConstants.START_IF_NEEDED);
+    testSupport.addToPacket(INPUTS_HASH_ANNOTATION, "changedHash");
+
+    runCreateJob();
+
+    assertThat(job, notNullValue());
+  }
+
+  @Test
+  public void whenBringingUpDomainWithNoRecordedIntrospectionInputs_runIntrospector() {
+    defineTopology();
+    defineIntrospectionInputs();
+    configureDomain().withDefaultServerStartPolicy(ConfigurationConstants.START_IF_NEEDED);
+
+    runCreateJob();
+
+    assertThat(job, notNullValue());
+  }
+
+  @Test
+  public void whenIntrospectRequestSetAndIntrospectionInputsUnchanged_runIntrospector() {
+    defineTopology();
+    defineIntrospectionInputs();
+    testSupport.addToPacket(INPUTS_HASH_ANNOTATION, IntrospectionInputs.getInputsHash(testSupport.getPacket()));
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_INTROSPECT_REQUESTED, "123");
+
+    runCreateJob();
+
+    assertThat(job, notNullValue());
+  }
+
+  private void defineIntrospectionInputs() {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    domain.getSpec().setImage(DIGEST_IMAGE);
+    testSupport.addToPacket(DomainValidationSteps.SECRETS, Collections.emptyList());
+    testSupport.addToPacket(DomainValidationSteps.CONFIGMAPS, Collections.emptyList());
+  }
+
   private V1Job job;
 
   private void recordJob(V1Job job) {
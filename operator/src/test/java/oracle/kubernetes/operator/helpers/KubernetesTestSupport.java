@@ -44,9 +44,11 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ConfigMap;
 import io.kubernetes.client.openapi.models.V1ConfigMapList;
 import io.kubernetes.client.openapi.models.V1CustomResourceDefinition;
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Lease;
 import io.kubernetes.client.openapi.models.V1JobList;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1Namespace;
@@ -58,6 +60,7 @@ import io.kubernetes.client.openapi.models.V1PersistentVolumeClaimList;
 import io.kubernetes.client.openapi.models.V1PersistentVolumeList;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Preconditions;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.openapi.models.V1SelfSubjectAccessReview;
@@ -87,6 +90,7 @@ import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.ISODateTimeFormat;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
@@ -102,6 +106,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String LEASE = "Lease";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
@@ -118,6 +123,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
   private static final String VALUE_PATTERN = ".*";
   private static final Pattern FIELD_PATTERN
           = Pattern.compile("(" + PATH_PATTERN + ")(" + OP_PATTERN + ")(" + VALUE_PATTERN + ")");
+  private static final Pattern SET_SELECTOR_PATTERN = Pattern.compile("(\\S+) in \\((.*)\\)");
+
+  // separates selectors at commas which are not within a set of values
+  private static final String SELECTOR_SEPARATOR = ",(?![^(]*\\))";
 
   private static final RequestParams REQUEST_PARAMS
           = new RequestParams("testcall", "junit", "testName", "body");
@@ -148,6 +157,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(DOMAIN, Domain.class, this::createDomainList).withStatusSubresource();
     supportNamespaced(EVENT, V1Event.class, this::createEventList);
     supportNamespaced(JOB, V1Job.class, this::createJobList);
+    supportNamespaced(LEASE, V1Lease.class);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, String.class);
     supportNamespaced(PVC, V1PersistentVolumeClaim.class, this::createPvcList);
@@ -359,6 +369,32 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.delete, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a read operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources. Reads of metadata only are not affected.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnRead(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.read, resourceType, name, namespace, httpStatus);
+  }
+
+  /**
+   * Specifies that an apply operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources.
+   *
+   * @param resourceType the type of resource
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnApply(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.apply, resourceType, name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that any operation should fail if it matches the specified conditions. Applies to
    * namespaced resources.
@@ -422,6 +458,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.readResource(dataRepository);
       }
     },
+    readMetadata {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.readResourceMetadata(dataRepository);
+      }
+    },
     replace {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -451,6 +493,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
         return callContext.deleteCollection(dataRepository);
       }
+    },
+    apply {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.applyResource(dataRepository);
+      }
     };
 
     abstract <T> Object execute(CallContext callContext, DataRepository<T> dataRepository);
@@ -559,6 +607,8 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return (T) new CallContext(requestParams).execute();
       } catch (HttpErrorException e) {
         throw e.getApiException();
+      } catch (NotFoundException e) {
+        throw new ApiException(HTTP_NOT_FOUND, e.getMessage());
       }
     }
   }
@@ -682,10 +732,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
 
     private boolean hasLabel(V1ObjectMeta metadata, String selector) {
+      Matcher setMatcher = SET_SELECTOR_PATTERN.matcher(selector);
+      if (setMatcher.matches()) {
+        return includesLabelInSet(metadata.getLabels(), setMatcher.group(1), setMatcher.group(2).split(","));
+      }
+
       String[] split = selector.split("=");
       return includesLabel(metadata.getLabels(), split[0], split.length == 1 ? null : split[1]);
     }
 
+    private boolean includesLabelInSet(Map<String, String> labels, String key, String[] values) {
+      return labels != null && Arrays.stream(values).map(String::trim).anyMatch(v -> v.equals(labels.get(key)));
+    }
+
     private boolean includesLabel(Map<String, String> labels, String key, String value) {
       if (labels == null || !labels.containsKey(key)) {
         return false;
@@ -758,21 +817,37 @@ public class KubernetesTestSupport extends FiberTestSupport {
       }
     }
 
-    V1Status deleteResource(String name, String namespace) {
+    // Server-side apply creates the resource if it does not yet exist, and otherwise replaces it.
+    T applyResource(String name, String namespace, T resource) {
+      return hasElementWithName(name) ? replaceResource(name, resource) : createResource(namespace, resource);
+    }
+
+    V1Status deleteResource(String name, String namespace, V1DeleteOptions options) {
       if (!hasElementWithName(name)) {
         throw new NotFoundException(getResourceName(), name, namespace);
       }
+      if (!isPreconditionMet(data.get(name), options)) {
+        throw new HttpErrorException(new ApiException(HTTP_CONFLICT, "Precondition failed for " + name));
+      }
       data.remove(name);
 
       return new V1Status().code(200);
     }
 
+    private boolean isPreconditionMet(T resource, V1DeleteOptions options) {
+      return Optional.ofNullable(options)
+            .map(V1DeleteOptions::getPreconditions)
+            .map(V1Preconditions::getUid)
+            .map(uid -> uid.equals(getMetadata(resource).getUid()))
+            .orElse(true);
+    }
+
     private String getResourceName() {
       return dataTypes.get(resourceType);
     }
 
-    public V1Status deleteResourceCollection(String namespace) {
-      data.clear();
+    public V1Status deleteResourceCollection(String namespace, String fieldSelector, String... labelSelectors) {
+      getResources(fieldSelector, labelSelectors).forEach(resource -> data.remove(getMetadata(resource).getName()));
       return new V1Status().code(200);
     }
 
@@ -921,13 +996,18 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
 
     @Override
-    V1Status deleteResource(String name, String namespace) {
-      return inNamespace(namespace).deleteResource(name, namespace);
+    T applyResource(String name, String namespace, T resource) {
+      return inNamespace(namespace).applyResource(name, namespace, resource);
+    }
+
+    @Override
+    V1Status deleteResource(String name, String namespace, V1DeleteOptions options) {
+      return inNamespace(namespace).deleteResource(name, namespace, options);
     }
 
     @Override
-    public V1Status deleteResourceCollection(String namespace) {
-      return inNamespace(namespace).deleteResourceCollection(namespace);
+    public V1Status deleteResourceCollection(String namespace, String fieldSelector, String... labelSelectors) {
+      return inNamespace(namespace).deleteResourceCollection(namespace, fieldSelector, labelSelectors);
     }
 
     @Override
@@ -969,7 +1049,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     CallContext(RequestParams requestParams, String fieldSelector, String labelSelector) {
       this.requestParams = requestParams;
       this.fieldSelector = fieldSelector;
-      this.labelSelector = labelSelector == null ? null : labelSelector.split(",");
+      this.labelSelector = labelSelector == null ? null : labelSelector.split(SELECTOR_SEPARATOR);
 
       parseCallName(requestParams.call);
     }
@@ -985,9 +1065,20 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
       if (isDeleteCollection()) {
         selectDeleteCollectionOperation();
+      } else if (isReadMetadata()) {
+        selectReadMetadataOperation();
       }
     }
 
+    private boolean isReadMetadata() {
+      return operation == Operation.read && resourceType.endsWith("Metadata");
+    }
+
+    private void selectReadMetadataOperation() {
+      resourceType = resourceType.substring(0, resourceType.indexOf("Metadata"));
+      operation = Operation.readMetadata;
+    }
+
     private boolean isDeleteCollection() {
       return resourceType.endsWith("Collection");
     }
@@ -1030,8 +1121,17 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return dataRepository.replaceResourceStatus(requestParams.name, (T) requestParams.body);
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T applyResource(DataRepository<T> dataRepository) {
+      return dataRepository.applyResource(requestParams.name, requestParams.namespace, (T) requestParams.body);
+    }
+
     private <T> V1Status deleteResource(DataRepository<T> dataRepository) {
-      return dataRepository.deleteResource(requestParams.name, requestParams.namespace);
+      return dataRepository.deleteResource(requestParams.name, requestParams.namespace, getDeleteOptions());
+    }
+
+    private V1DeleteOptions getDeleteOptions() {
+      return requestParams.body instanceof V1DeleteOptions ? (V1DeleteOptions) requestParams.body : null;
     }
 
     private <T> T patchResource(DataRepository<T> dataRepository) {
@@ -1047,8 +1147,15 @@ public class KubernetesTestSupport extends FiberTestSupport {
       return dataRepository.readResource(requestParams.name, requestParams.namespace);
     }
 
+    // Only config maps are read as partial metadata.
+    private <T> V1ConfigMap readResourceMetadata(DataRepository<T> dataRepository) {
+      V1ConfigMap configMap = (V1ConfigMap) readResource(dataRepository);
+      return new V1ConfigMap().apiVersion("meta.k8s.io/v1").kind("PartialObjectMetadata")
+            .metadata(configMap.getMetadata());
+    }
+
     public <T> V1Status deleteCollection(DataRepository<T> dataRepository) {
-      return dataRepository.deleteResourceCollection(requestParams.namespace);
+      return dataRepository.deleteResourceCollection(requestParams.namespace, fieldSelector, labelSelector);
     }
   }
 
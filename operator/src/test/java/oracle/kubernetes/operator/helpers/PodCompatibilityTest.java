@@ -8,12 +8,15 @@ import java.util.Objects;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import io.kubernetes.client.custom.IntOrString;
 import io.kubernetes.client.custom.Quantity;
 import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1ContainerPort;
 import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ExecAction;
 import io.kubernetes.client.openapi.models.V1Probe;
 import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1TCPSocketAction;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.junit.Test;
 
@@ -54,6 +57,24 @@ public class PodCompatibilityTest {
         both(containsString("timeout")).and(containsString("2")));
   }
 
+  @Test
+  public void whenLivenessProbeHandlersDontMatch_createErrorMessage() {
+    PodCompatibility.ContainerCompatibility compatibility =
+        new PodCompatibility.ContainerCompatibility(
+            new V1Container()
+                .livenessProbe(
+                    new V1Probe().initialDelaySeconds(1).timeoutSeconds(5).periodSeconds(3)
+                        .tcpSocket(new V1TCPSocketAction().port(new IntOrString(7001)))),
+            new V1Container()
+                .livenessProbe(
+                    new V1Probe().initialDelaySeconds(1).timeoutSeconds(5).periodSeconds(3)
+                        .exec(new V1ExecAction().addCommandItem("livenessProbe.sh"))));
+
+    assertThat(
+        compatibility.getIncompatibility(),
+        both(containsString("tcpSocket")).and(containsString("exec")));
+  }
+
   @Test
   public void whenResourcesDontMatch_createErrorMessage() {
     PodCompatibility.ContainerCompatibility compatibility =
@@ -53,6 +53,7 @@ import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.MakeRightDomainOperation;
 import oracle.kubernetes.operator.OverrideDistributionStrategy;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
+import oracle.kubernetes.operator.ProbeMode;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
@@ -413,6 +414,34 @@ public abstract class PodHelperTestBase {
         hasExpectedTuning(LIVENESS_INITIAL_DELAY, LIVENESS_TIMEOUT, LIVENESS_PERIOD));
   }
 
+  @Test
+  public void whenPodCreatedWithTcpLivenessProbe_livenessProbeChecksListenPort() {
+    configureDomain().withConfigOverrideDistributionStrategy(OverrideDistributionStrategy.ON_RESTART);
+    configureServer().withLivenessProbeMode(ProbeMode.TcpSocket.name());
+
+    V1Probe livenessProbe = getCreatedPodSpecContainer().getLivenessProbe();
+    assertThat(livenessProbe.getExec(), nullValue());
+    assertThat(livenessProbe.getTcpSocket().getPort().getIntValue(), equalTo(listenPort));
+  }
+
+  @Test
+  public void whenPodCreatedWithTcpLivenessProbeAndDynamicDistribution_livenessProbeHasLivenessCommand() {
+    configureDomain().withConfigOverrideDistributionStrategy(OverrideDistributionStrategy.DYNAMIC);
+    configureServer().withLivenessProbeMode(ProbeMode.TcpSocket.name());
+
+    assertThat(
+        getCreatedPodSpecContainer().getLivenessProbe().getExec().getCommand(),
+        contains("/weblogic-operator/scripts/livenessProbe.sh"));
+  }
+
+  @Test
+  public void whenPodCreatedWithTcpLivenessProbeAndIstio_livenessProbeHasLivenessCommand() {
+    configureDomain().withConfigOverrideDistributionStrategy(OverrideDistributionStrategy.ON_RESTART).withIstio();
+    configureServer().withLivenessProbeMode(ProbeMode.TcpSocket.name());
+
+    assertThat(getCreatedPodSpecContainer().getLivenessProbe().getTcpSocket(), nullValue());
+  }
+
   @Test
   public void whenPodCreated_readinessProbeHasReadinessCommand() {
     V1HTTPGetAction getAction = getCreatedPodSpecContainer().getReadinessProbe().getHttpGet();
@@ -823,6 +852,16 @@ public abstract class PodHelperTestBase {
     verifyPodReplaced();
   }
 
+  @Test
+  public void whenPodLivenessProbeModeChanged_replacePod() {
+    configureDomain().withConfigOverrideDistributionStrategy(OverrideDistributionStrategy.ON_RESTART);
+    initializeExistingPod();
+
+    configurator.withDefaultLivenessProbeMode(ProbeMode.TcpSocket.name());
+
+    verifyPodReplaced();
+  }
+
   @Test
   public void whenPodReadinessProbeSettingsChanged_replacePod() {
     initializeExistingPod();
@@ -406,6 +406,51 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
     assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
   }
 
+  @Test
+  public void whenServerSideApplyEnabledAndNoService_createItWithOneCall() throws NoSuchFieldException {
+    enableServerSideApply();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceCreateLogMessage()));
+    assertThat(testFacade.getRecordedService(domainPresenceInfo), is(serviceWithName(testFacade.getServiceName())));
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerSideApplyEnabledAndServiceChanged_replaceItWithOneCall() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordInitialService();
+    configureNewLabel();
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+    assertThat(getServiceLabels(), hasEntry("newLabel", "value"));
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenServerSideApplyRejectsChange_deleteAndRecreateService() throws NoSuchFieldException {
+    enableServerSideApply();
+    recordInitialService();
+    configureNewLabel();
+    testSupport.failOnApply(SERVICE, testFacade.getServiceName(), NS, 422);
+
+    runServiceHelper();
+
+    assertThat(logRecords, containsInfo(testFacade.getServiceReplacedLogMessage()));
+  }
+
+  private void enableServerSideApply() throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.namedParameters.put(CallBuilder.SERVER_SIDE_APPLY_PARAM, "true");
+  }
+
+  private Map<String, String> getServiceLabels() {
+    return testSupport.<V1Service>getResources(SERVICE).get(0).getMetadata().getLabels();
+  }
+
   private void configureNewLabel() {
     testFacade.configureService(configureDomain()).withServiceLabel("newLabel", "value");
   }
@@ -0,0 +1,120 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import oracle.kubernetes.operator.Pair;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.getHash;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.withSha256Hash;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StepContextBaseTest {
+
+  private static final Map<String, String> VARIABLES = Map.of("SERVER_NAME", "ms1", "DOMAIN_UID", "domain1");
+
+  private final Map<Class<?>, List<Pair<Method, Method>>> typeBeans = new ConcurrentHashMap<>();
+  private final StepContextBase context = new StepContextBase(null) {};
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(StepContextBase.class, "TYPE_BEANS", typeBeans));
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private V1Pod createPod(String serverName) {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta().name("$(DOMAIN_UID)-" + serverName).putLabelsItem("app", "weblogic"))
+          .spec(new V1PodSpec()
+                .addContainersItem(new V1Container()
+                      .name("weblogic-server")
+                      .addEnvItem(new V1EnvVar().name("SERVER_NAME").value("$(SERVER_NAME)"))));
+  }
+
+  @Test
+  public void afterSubstitution_beanPropertiesOfModelClassesAreCached() {
+    context.doDeepSubstitution(VARIABLES, createPod("ms1"));
+
+    assertThat(typeBeans, hasKey(V1Pod.class));
+    assertThat(typeBeans, hasKey(V1ObjectMeta.class));
+    assertThat(typeBeans, hasKey(V1Container.class));
+    assertThat(typeBeans, not(hasKey(String.class)));
+  }
+
+  @Test
+  public void whenSubstitutingAnotherPod_reuseCachedBeanProperties() {
+    context.doDeepSubstitution(VARIABLES, createPod("ms1"));
+    List<Pair<Method, Method>> podBeans = typeBeans.get(V1Pod.class);
+
+    context.doDeepSubstitution(VARIABLES, createPod("ms2"));
+
+    assertThat(typeBeans.get(V1Pod.class), sameInstance(podBeans));
+  }
+
+  @Test
+  public void substitutionReplacesVariablesInNestedModels() {
+    V1Pod pod = context.doDeepSubstitution(VARIABLES, createPod("ms1"));
+
+    assertThat(pod.getMetadata().getName(), equalTo("domain1-ms1"));
+    assertThat(pod.getSpec().getContainers().get(0).getEnv().get(0).getValue(), equalTo("ms1"));
+  }
+
+  @Test
+  public void whenModelHasNoVariableReferences_doNotReadVariables() {
+    V1Pod pod = createPodWithoutVariableReferences();
+
+    assertThat(context.doDeepSubstitution(new UnreadableVariables(), pod), equalTo(pod));
+  }
+
+  @Test
+  public void whenModelHasNoVariableReferences_copyHasSameHash() {
+    V1Pod copy = context.doDeepSubstitution(VARIABLES, createPodWithoutVariableReferences());
+
+    assertThat(getHash(withSha256Hash(copy)), equalTo(getHash(withSha256Hash(createPodWithoutVariableReferences()))));
+  }
+
+  private V1Pod createPodWithoutVariableReferences() {
+    return new V1Pod()
+          .metadata(new V1ObjectMeta().name("domain1-ms1").putLabelsItem("app", "weblogic"))
+          .spec(new V1PodSpec().addContainersItem(new V1Container().name("weblogic-server")));
+  }
+
+  // substitution variables which fail the test if they are searched for a reference
+  private static class UnreadableVariables extends HashMap<String, String> {
+    UnreadableVariables() {
+      super(VARIABLES);
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+      throw new AssertionError("substitution variables read");
+    }
+  }
+}
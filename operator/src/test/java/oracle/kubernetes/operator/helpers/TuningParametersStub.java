@@ -48,7 +48,7 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 30, 2L, 2L);
+    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L, 2, 2, 2, 0);
   }
 
   @Override
@@ -61,6 +61,16 @@ public abstract class TuningParametersStub implements TuningParameters {
     return null;
   }
 
+  @Override
+  public RestTuning getRestTuning() {
+    return new RestTuning(30, 4, 8, 500);
+  }
+
+  @Override
+  public LeaderElectionTuning getLeaderElectionTuning() {
+    return new LeaderElectionTuning(false, 15, 2);
+  }
+
   @Override
   public String get(Object key) {
     return namedParameters.get(key);
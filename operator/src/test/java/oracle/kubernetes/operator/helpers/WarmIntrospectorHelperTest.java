@@ -0,0 +1,305 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import oracle.kubernetes.operator.ClientFactoryStub;
+import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.utils.KubernetesExec;
+import oracle.kubernetes.operator.utils.KubernetesExecFactory;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.model.Configuration;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.logging.MessageKeys.JOB_CREATED;
+import static oracle.kubernetes.operator.logging.MessageKeys.WARM_INTROSPECTION_COMPLETE;
+import static oracle.kubernetes.operator.logging.MessageKeys.WARM_INTROSPECTION_FAILED;
+import static oracle.kubernetes.operator.logging.MessageKeys.WARM_INTROSPECTION_TIMED_OUT;
+import static oracle.kubernetes.utils.LogMatcher.containsInfo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class WarmIntrospectorHelperTest {
+
+  private static final String INTROSPECTOR_OUTPUT = "@[2020-07-01T00:00:00.000 UTC][introspectDomain.py:1][INFO] done";
+
+  private final Domain domain = createDomain();
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final List<LogRecord> logRecords = new ArrayList<>();
+  private final ExecFactoryFake execFactory = new ExecFactoryFake();
+  private final TerminalStep terminalStep = new TerminalStep();
+
+  private Domain createDomain() {
+    return new Domain()
+          .withMetadata(new V1ObjectMeta().name(UID).namespace(NS))
+          .withSpec(new DomainSpec()
+                .withDomainUid(UID)
+                .withWebLogicCredentialsSecret(new V1SecretReference().name("webLogicCredentialsSecretName"))
+                .withDomainHomeInImage(false));
+  }
+
+  /**
+   * Setup env for tests.
+   * @throws NoSuchFieldException if a static stub fails to install
+   */
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger()
+          .collectLogMessages(logRecords, JOB_CREATED, WARM_INTROSPECTION_COMPLETE, WARM_INTROSPECTION_FAILED,
+                WARM_INTROSPECTION_TIMED_OUT));
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+    mementos.add(ClientFactoryStub.install());
+    mementos.add(StaticStubSupport.install(WarmIntrospectorHelper.class, "EXEC_FACTORY", execFactory));
+    mementos.add(StaticStubSupport.install(
+          WarmIntrospectorHelper.class, "EXEC_EXECUTOR", MoreExecutors.newDirectExecutorService()));
+
+    TuningParametersStub.namedParameters.put(WarmIntrospectorHelper.WARM_INTROSPECTOR_PARAM, "true");
+    testSupport.defineResources(domain);
+    testSupport
+          .addToPacket(DomainValidationSteps.CONFIGMAPS, Collections.emptyList())
+          .addToPacket(DomainValidationSteps.SECRETS, Collections.emptyList())
+          .addDomainPresenceInfo(info);
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Packet runIntrospection() {
+    return testSupport.runSteps(JobHelper.createDomainIntrospectorJobStep(terminalStep));
+  }
+
+  private List<String> getIntrospectorMessages(Packet packet) {
+    return ((IntrospectionResult) packet.get(ProcessingConstants.DOMAIN_INTROSPECTION_RESULT)).getMessages();
+  }
+
+  private List<V1Pod> getWarmPods() {
+    return testSupport.<V1Pod>getResources(POD).stream()
+          .filter(pod -> pod.getMetadata().getLabels().containsKey(LabelConstants.WARM_INTROSPECTOR_LABEL))
+          .collect(Collectors.toList());
+  }
+
+  private List<String> getWarmPodNames() {
+    return getWarmPods().stream().map(pod -> pod.getMetadata().getName()).collect(Collectors.toList());
+  }
+
+  private String getExpectedPodName() {
+    return createExpectedPod().getMetadata().getName();
+  }
+
+  private V1Pod createExpectedPod() {
+    Packet packet = testSupport.getPacket();
+    return WarmIntrospectorHelper.createPodModel(
+          new JobHelper.DomainIntrospectorJobStepContext(packet), IntrospectionInputs.getInputsHash(packet));
+  }
+
+  private void defineReadyWarmPod() {
+    V1Pod pod = createExpectedPod();
+    pod.status(new V1PodStatus().phase("Running")
+          .addConditionsItem(new V1PodCondition().type("Ready").status("True")));
+    testSupport.defineResources(pod);
+  }
+
+  @Test
+  public void whenNoWarmPod_createItAndRunJob() {
+    runIntrospection();
+
+    assertThat(getWarmPodNames(), contains(getExpectedPodName()));
+    assertThat(logRecords, containsInfo(JOB_CREATED));
+  }
+
+  @Test
+  public void whenWarmPodCreated_itIdlesInsteadOfIntrospecting() {
+    runIntrospection();
+
+    assertThat(getWarmPods().get(0).getSpec().getContainers().get(0).getCommand(),
+          contains("sleep", "infinity"));
+  }
+
+  @Test
+  public void whenWarmPodNotReady_runJob() {
+    testSupport.defineResources(createExpectedPod());
+
+    runIntrospection();
+
+    assertThat(logRecords, containsInfo(JOB_CREATED));
+  }
+
+  @Test
+  public void whenWarmPodReady_introspectInItWithoutJob() {
+    defineReadyWarmPod();
+    execFactory.defineResponse(INTROSPECTOR_OUTPUT, 0);
+
+    Packet packet = runIntrospection();
+
+    assertThat(logRecords, containsInfo(WARM_INTROSPECTION_COMPLETE));
+    assertThat(getIntrospectorMessages(packet), contains(JobHelper.INTROSPECTOR_LOG_PREFIX + INTROSPECTOR_OUTPUT));
+    assertThat(testSupport.getResources(JOB), empty());
+  }
+
+  @Test
+  public void whenWarmIntrospectionFails_runJob() {
+    defineReadyWarmPod();
+    execFactory.defineResponse("", 1);
+
+    Packet packet = runIntrospection();
+
+    assertThat(logRecords, containsInfo(WARM_INTROSPECTION_FAILED));
+    assertThat(logRecords, containsInfo(JOB_CREATED));
+    assertThat(packet.get(ProcessingConstants.DOMAIN_INTROSPECTION_RESULT), nullValue());
+  }
+
+  @Test
+  public void whenWarmIntrospectionTimesOut_runJob() {
+    defineReadyWarmPod();
+    execFactory.defineRunningProcess();
+    Configuration configuration = new Configuration();
+    configuration.setIntrospectorJobActiveDeadlineSeconds(0L);
+    domain.getSpec().setConfiguration(configuration);
+
+    runIntrospection();
+
+    assertThat(logRecords, containsInfo(WARM_INTROSPECTION_TIMED_OUT));
+    assertThat(logRecords, containsInfo(JOB_CREATED));
+  }
+
+  @Test
+  public void whenWarmPodObsolete_replaceIt() {
+    V1Pod obsolete = createExpectedPod();
+    obsolete.getMetadata().name(UID + "-introspector-obsolete").putAnnotationsItem("weblogic.sha256", "obsolete");
+    testSupport.defineResources(obsolete);
+
+    runIntrospection();
+
+    assertThat(getWarmPodNames(), contains(getExpectedPodName()));
+  }
+
+  @Test
+  public void whenWarmPodNotEnabled_dontCreateIt() {
+    TuningParametersStub.namedParameters.remove(WarmIntrospectorHelper.WARM_INTROSPECTOR_PARAM);
+
+    runIntrospection();
+
+    assertThat(getWarmPods(), empty());
+    assertThat(logRecords, containsInfo(JOB_CREATED));
+  }
+
+  @Test
+  public void whenDomainIsModelInImage_dontCreateWarmPod() {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.FromModel);
+
+    runIntrospection();
+
+    assertThat(getWarmPods(), empty());
+  }
+
+  @Test
+  public void whenIntrospectionInputsChange_warmPodNameChanges() {
+    String originalName = getExpectedPodName();
+
+    domain.getSpec().setImage("image:v2");
+
+    assertThat(getExpectedPodName(), not(equalTo(originalName)));
+  }
+
+  static class ExecFactoryFake implements KubernetesExecFactory {
+    private String response = "";
+    private int exitValue;
+    private boolean running;
+
+    void defineResponse(String response, int exitValue) {
+      this.response = response;
+      this.exitValue = exitValue;
+    }
+
+    void defineRunningProcess() {
+      running = true;
+    }
+
+    @Override
+    public KubernetesExec create(ApiClient client, V1Pod pod, String containerName) {
+      return new KubernetesExec() {
+        @Override
+        public Process exec(String... command) {
+          return running
+                ? createStub(RunningProcessStub.class, response, exitValue)
+                : createStub(ProcessStub.class, response, exitValue);
+        }
+      };
+    }
+  }
+
+  abstract static class ProcessStub extends Process {
+    private final String response;
+    private final int exitValue;
+
+    public ProcessStub(String response, int exitValue) {
+      this.response = response;
+      this.exitValue = exitValue;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int exitValue() {
+      return exitValue;
+    }
+
+    @Override
+    public void destroy() {
+    }
+  }
+
+  abstract static class RunningProcessStub extends ProcessStub {
+    public RunningProcessStub(String response, int exitValue) {
+      super(response, exitValue);
+    }
+
+    @Override
+    public int exitValue() {
+      throw new IllegalThreadStateException("process has not exited");
+    }
+  }
+}
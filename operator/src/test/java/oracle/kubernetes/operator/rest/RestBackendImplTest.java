@@ -5,8 +5,14 @@ package oracle.kubernetes.operator.rest;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import javax.ws.rs.WebApplicationException;
 
@@ -19,12 +25,16 @@ import io.kubernetes.client.openapi.models.V1TokenReview;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.rest.RestBackendImpl.DomainRetriever;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.DomainAction;
 import oracle.kubernetes.operator.rest.model.DomainActionType;
+import oracle.kubernetes.operator.rest.model.ScaleClusterResultModel;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -42,6 +52,7 @@ import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_A
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -51,6 +62,7 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 public class RestBackendImplTest {
 
   private static final int REPLICA_LIMIT = 4;
+  private static final int COALESCING_WINDOW_MILLIS = 500;
   private static final String NS = "namespace1";
   private static final String NAME1 = "domain";
   private static final String NAME2 = "domain2";
@@ -62,9 +74,15 @@ public class RestBackendImplTest {
   private final Domain domain = createDomain(NS, NAME1);
   private final Domain domain2 = createDomain(NS, NAME2);
   private Domain updatedDomain;
+  private int numDomainUpdates;
   private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
   private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private WlsDomainConfig config;
+  private final Map<String, List<Domain>> knownDomains = new HashMap<>();
+  private int numTokenReviews;
+  private int numAccessReviews;
+  private final List<Runnable> workerTasks = new ArrayList<>();
+  private boolean holdWorkerTasks;
 
   private static Domain createDomain(String namespace, String name) {
     return new Domain()
@@ -80,24 +98,45 @@ public class RestBackendImplTest {
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(StaticStubSupport.install(RestBackendImpl.class, "domainRetriever", new DomainRetrieverStub()));
+    mementos.add(StaticStubSupport.install(AccessDecisionCache.class, "INSTANCE", new AccessDecisionCache()));
+    mementos.add(StaticStubSupport.install(ScaleRequestCoalescer.class, "INSTANCE",
+          new ScaleRequestCoalescer(testSupport.getEngine().getExecutor(), this::executeOnWorker)));
+    mementos.add(SystemClockTestSupport.installClock());
 
     testSupport.defineResources(domain, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
-    testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (Domain) d);
+    testSupport.doOnUpdate(DOMAIN, this::recordDomainUpdate);
     configSupport.addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5", "ms6");
     restBackend = new RestBackendImpl("", "", Collections.singletonList(NS));
 
     setupScanCache();
   }
 
+  private void executeOnWorker(Runnable task) {
+    if (holdWorkerTasks) {
+      workerTasks.add(task);
+    } else {
+      task.run();
+    }
+  }
+
+  private void recordDomainUpdate(Object domain) {
+    updatedDomain = (Domain) domain;
+    numDomainUpdates++;
+  }
+
   private void authenticate(V1TokenReview tokenReview) {
+    numTokenReviews++;
     tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
   }
 
   private void allow(V1SubjectAccessReview subjectAccessReview) {
+    numAccessReviews++;
     subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
   }
 
@@ -113,6 +152,72 @@ public class RestBackendImplTest {
     assertThat(restBackend.getDomainUids(), containsInAnyOrder(NAME1, NAME2));
   }
 
+  @Test
+  public void whenNamespaceTrackedByOperator_retrieveKnownDomainIds() {
+    knownDomains.put(NS, Collections.singletonList(domain2));
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(NAME2));
+  }
+
+  @Test
+  public void whenSomeNamespacesTrackedByOperator_retrieveKnownAndListedDomainIds() {
+    knownDomains.put("namespace2", Collections.singletonList(createDomain("namespace2", "domain3")));
+    restBackend = new RestBackendImpl("", "", List.of(NS, "namespace2"));
+
+    assertThat(restBackend.getDomainUids(), containsInAnyOrder(NAME1, NAME2, "domain3"));
+  }
+
+  // caching of access decisions
+
+  @Test
+  public void whenBackendCreated_reviewToken() {
+    assertThat(numTokenReviews, equalTo(1));
+  }
+
+  @Test
+  public void whenTokenRecentlyAuthenticated_dontReviewAgain() {
+    new RestBackendImpl("", "", Collections.singletonList(NS));
+
+    assertThat(numTokenReviews, equalTo(1));
+  }
+
+  @Test
+  public void whenCachedAuthenticationExpired_reviewTokenAgain() {
+    SystemClockTestSupport.increment(60);
+
+    new RestBackendImpl("", "", Collections.singletonList(NS));
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenDifferentTokenPresented_reviewIt() {
+    new RestBackendImpl("", "another-token", Collections.singletonList(NS));
+
+    assertThat(numTokenReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenAccessRecentlyAuthorized_dontReviewAgain() {
+    restBackend.getDomainUids();
+    int numReviews = numAccessReviews;
+
+    new RestBackendImpl("", "", Collections.singletonList(NS)).getDomainUids();
+
+    assertThat(numAccessReviews, equalTo(numReviews));
+  }
+
+  @Test
+  public void whenCachedAuthorizationExpired_reviewAccessAgain() {
+    restBackend.getDomainUids();
+    int numReviews = numAccessReviews;
+    SystemClockTestSupport.increment(60);
+
+    new RestBackendImpl("", "", Collections.singletonList(NS)).getDomainUids();
+
+    assertThat(numAccessReviews, greaterThan(numReviews));
+  }
+
   // functionality needed for Domain resource
 
   @Test
@@ -125,6 +230,13 @@ public class RestBackendImplTest {
     assertThat(restBackend.isDomainUid("no_such_uid"), is(false));
   }
 
+  @Test
+  public void whenDomainNotYetKnownToOperator_findItInKubernetes() {
+    knownDomains.put(NS, Collections.singletonList(domain2));
+
+    assertThat(restBackend.isDomainUid(NAME1), is(true));
+  }
+
   @Test(expected = WebApplicationException.class)
   public void whenUnknownDomain_throwException() {
     restBackend.performDomainAction("no_such_uid", new DomainAction(DomainActionType.INTROSPECT));
@@ -276,6 +388,18 @@ public class RestBackendImplTest {
     assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
+  @Test
+  public void whenOperatorRecordOfDomainOutOfDate_scaleClusterUsesCurrentDefinition() {
+    configureCluster("cluster1").withReplicas(1);
+    Domain staleDomain = createDomain(NS, NAME1);
+    DomainConfiguratorFactory.forDomain(staleDomain).configureCluster("cluster1").withReplicas(5);
+    knownDomains.put(NS, List.of(staleDomain, domain2));
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
   @Test
   @Ignore
   public void whenNoPerClusterReplicaSetting_scaleClusterCreatesOne() {
@@ -299,7 +423,132 @@ public class RestBackendImplTest {
 
     DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(2);
 
-    restBackend.scaleCluster(NAME2, "cluster1", 3);
+    getResult(restBackend.scaleCluster(NAME2, "cluster1", 3));
+  }
+
+  private ScaleClusterResultModel getResult(CompletionStage<ScaleClusterResultModel> stage) {
+    try {
+      return stage.toCompletableFuture().getNow(null);
+    } catch (CompletionException e) {
+      throw (RuntimeException) e.getCause();
+    }
+  }
+
+  @Test
+  public void whenScaleRequestApplied_resultIdentifiesIt() {
+    configureCluster("cluster1").withReplicas(1);
+
+    ScaleClusterResultModel result = getResult(restBackend.scaleCluster(NAME1, "cluster1", 5));
+
+    assertThat(result.getAppliedRequestId(), equalTo(result.getRequestId()));
+    assertThat(result.getAppliedManagedServerCount(), equalTo(5));
+    assertThat(result.isReplicasChanged(), is(true));
+  }
+
+  @Test
+  public void whenScaleRequestMatchesReplicas_resultReportsNoChange() {
+    configureCluster("cluster1").withReplicas(5);
+
+    ScaleClusterResultModel result = getResult(restBackend.scaleCluster(NAME1, "cluster1", 5));
+
+    assertThat(result.isReplicasChanged(), is(false));
+  }
+
+  @Test
+  public void whenScaleRequestsArriveWithinWindow_holdThemUntilWindowCloses() {
+    configureCluster("cluster1").withReplicas(1);
+
+    createBackend().scaleCluster(NAME1, "cluster1", 3);
+    CompletionStage<ScaleClusterResultModel> held = createBackend().scaleCluster(NAME1, "cluster1", 4);
+
+    assertThat(getResult(held), nullValue());
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(3));
+  }
+
+  private RestBackend createBackend() {
+    return new RestBackendImpl("", "", Collections.singletonList(NS));
+  }
+
+  @Test
+  public void whenScaleRequestsArriveWithinWindow_applyOnlyTheLatest() {
+    configureCluster("cluster1").withReplicas(1);
+
+    createBackend().scaleCluster(NAME1, "cluster1", 3);
+    createBackend().scaleCluster(NAME1, "cluster1", 4);
+    createBackend().scaleCluster(NAME1, "cluster1", 5);
+    testSupport.setTime(COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+    assertThat(numDomainUpdates, equalTo(2));
+  }
+
+  @Test
+  public void whenScaleRequestSuperseded_resultIdentifiesAppliedRequest() {
+    configureCluster("cluster1").withReplicas(1);
+
+    createBackend().scaleCluster(NAME1, "cluster1", 3);
+    CompletionStage<ScaleClusterResultModel> superseded = createBackend().scaleCluster(NAME1, "cluster1", 4);
+    CompletionStage<ScaleClusterResultModel> applied = createBackend().scaleCluster(NAME1, "cluster1", 5);
+    testSupport.setTime(COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(getResult(superseded).getAppliedRequestId(), equalTo(getResult(applied).getRequestId()));
+    assertThat(getResult(superseded).getAppliedManagedServerCount(), equalTo(5));
+  }
+
+  @Test
+  public void whenHeldScaleRequestMatchesAppliedReplicas_dontPatchAgain() {
+    configureCluster("cluster1").withReplicas(1);
+
+    createBackend().scaleCluster(NAME1, "cluster1", 3);
+    CompletionStage<ScaleClusterResultModel> held = createBackend().scaleCluster(NAME1, "cluster1", 3);
+    testSupport.setTime(COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(numDomainUpdates, equalTo(1));
+    assertThat(getResult(held).isReplicasChanged(), is(false));
+  }
+
+  @Test
+  public void whenCoalescingWindowCloses_applyHeldRequestOnWorker() {
+    configureCluster("cluster1").withReplicas(1);
+    holdWorkerTasks = true;
+
+    createBackend().scaleCluster(NAME1, "cluster1", 3);
+    createBackend().scaleCluster(NAME1, "cluster1", 4);
+    testSupport.setTime(COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(numDomainUpdates, equalTo(1));
+    assertThat(workerTasks.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenHeldScaleRequestFailsWithError_completeEveryHeldRequest() {
+    ScaleRequestCoalescer coalescer = ScaleRequestCoalescer.getInstance();
+
+    coalescer.submit("cluster1", 3, deferred -> true);
+    CompletableFuture<ScaleClusterResultModel> superseded = coalescer.submit("cluster1", 4, deferred -> true);
+    CompletableFuture<ScaleClusterResultModel> applied = coalescer.submit("cluster1", 5, this::failWithError);
+    testSupport.setTime(COALESCING_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(superseded.isCompletedExceptionally(), is(true));
+    assertThat(applied.isCompletedExceptionally(), is(true));
+  }
+
+  @SuppressWarnings("unused")
+  private boolean failWithError(boolean deferred) {
+    throw new StackOverflowError();
+  }
+
+  @Test
+  public void whenScaleRequestsForDifferentClusters_dontCoalesceThem() {
+    configureCluster("cluster1").withReplicas(1);
+    configureCluster("cluster2").withReplicas(1);
+    configSupport.addWlsCluster("cluster2", "ms7", "ms8", "ms9");
+    setupScanCache();
+
+    createBackend().scaleCluster(NAME1, "cluster1", 3);
+    createBackend().scaleCluster(NAME1, "cluster2", 3);
+
+    assertThat(numDomainUpdates, equalTo(2));
   }
 
   @Test
@@ -334,6 +583,13 @@ public class RestBackendImplTest {
     config = configSupport.createDomainConfig();
   }
 
+  private class DomainRetrieverStub implements DomainRetriever {
+    @Override
+    public List<Domain> getDomains(String ns) {
+      return knownDomains.get(ns);
+    }
+  }
+
   private class TopologyRetrieverStub implements TopologyRetriever {
     @Override
     public WlsDomainConfig getWlsDomainConfig(String ns, String domainUid) {
@@ -11,9 +11,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.Application;
@@ -23,8 +28,14 @@ import javax.ws.rs.core.Response;
 
 import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterResultModel;
+import oracle.kubernetes.operator.tracing.Span;
+import oracle.kubernetes.operator.tracing.Tracer;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.utils.TestUtils;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
@@ -47,6 +58,7 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
 public class RestTest extends JerseyTest {
+  private static final String BACKEND_THREAD_NAME = "RestTest-backend";
   private static final String V1 = "v1";
   private static final String OPERATOR_HREF = "/operator";
   private static final String V1_HREF = OPERATOR_HREF + "/" + V1;
@@ -65,6 +77,7 @@ public class RestTest extends JerseyTest {
   private RestBackendStub restBackend = createStrictStub(RestBackendStub.class);
   private boolean includeRequestedByHeader = true;
   private String authorizationHeader = ACCESS_TOKEN_PREFIX + " " + ACCESS_TOKEN;
+  private boolean rejectAccessToken;
 
   @Before
   public void setupRestTest() {
@@ -79,6 +92,7 @@ public class RestTest extends JerseyTest {
     for (Memento memento : mementos) {
       memento.revert();
     }
+    Tracer.getInstance().setSpansPerDomain(0);
   }
 
   @Override
@@ -90,6 +104,9 @@ public class RestTest extends JerseyTest {
   // is initialized. We therefore populate the ResourceConfig with this supplier method, so that
   // it will return the initialized and configured field.
   private RestBackend getRestBackend() {
+    if (rejectAccessToken) {
+      throw new WebApplicationException(Response.Status.UNAUTHORIZED);
+    }
     return restBackend;
   }
 
@@ -119,6 +136,13 @@ public class RestTest extends JerseyTest {
     assertThat(createRequest(OPERATOR_HREF).get().getStatus(), equalTo(HTTP_UNAUTHORIZED));
   }
 
+  @Test
+  public void whenAccessTokenRejected_rejectVersionRequest() {
+    rejectAccessToken = true;
+
+    assertThat(createRequest(OPERATOR_HREF).get().getStatus(), equalTo(HTTP_UNAUTHORIZED));
+  }
+
   @Test
   public void operatorEndPoint_returnsVersion() {
     Map result = getJsonResponse(OPERATOR_HREF);
@@ -218,6 +242,33 @@ public class RestTest extends JerseyTest {
     assertThat(getResponseStatus(DOMAINS_HREF + "/uid3"), equalTo(HTTP_NOT_FOUND));
   }
 
+  @Test
+  public void existingDomainEndPoint_returnsTracesLink() {
+    defineDomains("uid1");
+
+    Map result = getJsonResponse(DOMAIN1_HREF);
+
+    assertThat(result, hasJsonPath("$.links[?(@.rel=='traces')].href", withValues(DOMAIN1_HREF + "/traces")));
+  }
+
+  @Test
+  public void tracesEndPoint_returnsSpansInJaegerFormat() {
+    defineDomains("uid1");
+    recordSpan("uid1", "makeRight");
+
+    Map result = getJsonResponse(DOMAIN1_HREF + "/traces");
+
+    assertThat(result, hasJsonPath("$.data[0].spans[0].operationName", equalTo("makeRight")));
+    assertThat(result, hasJsonPath("$.data[0].processes.p1.serviceName", equalTo("weblogic-operator")));
+  }
+
+  @Test
+  public void tracesEndPointForNonexistingDomain_fails() {
+    defineDomains("uid1", "uid2");
+
+    assertThat(getResponseStatus(DOMAINS_HREF + "/uid3/traces"), equalTo(HTTP_NOT_FOUND));
+  }
+
   @Test
   public void clustersEndPoint_returnsListOfClustersAndLinks() {
     defineClusters("uid1", "cluster1", "cluster2");
@@ -276,6 +327,33 @@ public class RestTest extends JerseyTest {
     assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
   }
 
+  @Test
+  public void scaleRequest_isPerformedOnBackendExecutor() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    sendScaleRequest("cluster1", 3);
+
+    assertThat(restBackend.scalingThreadName, equalTo(BACKEND_THREAD_NAME));
+  }
+
+  @Test
+  public void scaleRequest_returnsAppliedRequest() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    assertThat(
+        sendScaleRequest("cluster1", 3).readEntity(String.class),
+        hasJsonPath("$.appliedManagedServerCount", equalTo(3)));
+  }
+
+  @Test
+  public void whenBackendRejectsScaleRequest_reportFailure() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    restBackend.scaleFailure = new WebApplicationException(HttpURLConnection.HTTP_BAD_REQUEST);
+
+    assertThat(
+        sendScaleRequest("cluster1", 3).getStatus(), equalTo(HttpURLConnection.HTTP_BAD_REQUEST));
+  }
+
   private Response sendScaleRequest(String cluster, int numManagedServers) {
     return createRequest(DOMAIN1_CLUSTERS_HREF + String.format("/%s/scale", cluster))
         .post(createScaleRequest(numManagedServers));
@@ -319,6 +397,14 @@ public class RestTest extends JerseyTest {
     restBackend.addDomain(domain, clusters);
   }
 
+  private void recordSpan(String domainUid, String operationName) {
+    Packet packet = new Packet();
+    packet.getComponents().put(LoggingContext.LOGGING_CONTEXT_KEY,
+          Component.createFor(new LoggingContext().domainUid(domainUid)));
+    Tracer.getInstance().setSpansPerDomain(10);
+    Tracer.getInstance().startSpan(operationName, packet).end();
+  }
+
   private int getResponseStatus(String href) {
     return createRequest(href).get().getStatus();
   }
@@ -369,6 +455,8 @@ public class RestTest extends JerseyTest {
 
   abstract static class RestConfigStub implements RestConfig {
     private Supplier<RestBackend> restBackendSupplier;
+    private final Executor backendExecutor
+          = Executors.newSingleThreadExecutor(r -> new Thread(r, BACKEND_THREAD_NAME));
 
     RestConfigStub(Supplier<RestBackend> restBackendSupplier) {
       this.restBackendSupplier = restBackendSupplier;
@@ -382,10 +470,17 @@ public class RestTest extends JerseyTest {
     public RestBackend getBackend(String accessToken) {
       return restBackendSupplier.get();
     }
+
+    @Override
+    public Executor getBackendExecutor() {
+      return backendExecutor;
+    }
   }
 
   abstract static class RestBackendStub implements RestBackend {
     private Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private RuntimeException scaleFailure;
+    private volatile String scalingThreadName;
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -422,8 +517,20 @@ public class RestTest extends JerseyTest {
     }
 
     @Override
-    public void scaleCluster(String domainUid, String cluster, int managedServerCount) {
+    public CompletionStage<ScaleClusterResultModel> scaleCluster(
+        String domainUid, String cluster, int managedServerCount) {
+      scalingThreadName = Thread.currentThread().getName();
+      if (scaleFailure != null) {
+        throw scaleFailure;
+      }
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
+      return CompletableFuture.completedFuture(
+          new ScaleClusterResultModel(1, managedServerCount, 1, managedServerCount, true));
+    }
+
+    @Override
+    public List<Span> getSpans(String domainUid) {
+      return Tracer.getInstance().getSpans(domainUid);
     }
 
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
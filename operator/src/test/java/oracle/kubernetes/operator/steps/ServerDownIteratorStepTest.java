@@ -0,0 +1,349 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.PodAwaiterStepFactory;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ServerDownIteratorStepTest {
+
+  private static final String DOMAIN_NAME = "domain1";
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+  private static final String ADMIN = "admin";
+  private static final String CLUSTER = "cluster1";
+  private static final String CLUSTER2 = "cluster2";
+  private static final String MS1 = "ms1";
+  private static final String MS2 = "ms2";
+  private static final String MS3 = "ms3";
+  private static final String MS4 = "ms4";
+
+  private final Domain domain = createDomain();
+  private final DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
+  private final DomainPresenceInfo info = new DomainPresenceInfo(domain);
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+  private final DeletionAwaiter awaiter = new DeletionAwaiter();
+  private final TerminalStep nextStep = new TerminalStep();
+
+  private Domain createDomain() {
+    return new Domain()
+          .withApiVersion(KubernetesConstants.DOMAIN_VERSION)
+          .withKind(KubernetesConstants.DOMAIN)
+          .withMetadata(new V1ObjectMeta().namespace(NS).name(DOMAIN_NAME))
+          .withSpec(new DomainSpec()
+                .withDomainUid(UID)
+                .withWebLogicCredentialsSecret(new V1SecretReference().name("secret")));
+  }
+
+  /**
+   * Setup env for tests.
+   * @throws NoSuchFieldException if TuningParametersStub fails to install
+   */
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(testSupport.install());
+
+    testSupport.defineResources(domain);
+    testSupport
+          .addToPacket(ProcessingConstants.DOMAIN_TOPOLOGY,
+                new WlsDomainConfig(DOMAIN_NAME).withAdminServer(ADMIN, "domain1-admin", 7001))
+          .addComponent("awaiter", PodAwaiterStepFactory.class, awaiter)
+          .addDomainPresenceInfo(info);
+  }
+
+  /**
+   * Cleanup env after tests.
+   * @throws Exception if test support failed
+   */
+  @After
+  public void tearDown() throws Exception {
+    mementos.forEach(Memento::revert);
+
+    testSupport.throwOnCompletionFailure();
+  }
+
+  private void defineServer(String serverName, String clusterName) {
+    V1Pod pod = new V1Pod().metadata(createMetadata(LegalNames.toPodName(UID, serverName), serverName, clusterName));
+    V1Service service = new V1Service()
+          .metadata(createMetadata(LegalNames.toServerServiceName(UID, serverName), serverName, clusterName));
+    info.setServerPod(serverName, pod);
+    info.setServerService(serverName, service);
+    testSupport.defineResources(pod, service);
+  }
+
+  private V1ObjectMeta createMetadata(String name, String serverName, String clusterName) {
+    V1ObjectMeta metadata = new V1ObjectMeta().name(name).namespace(NS)
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)
+          .putLabelsItem(LabelConstants.CREATEDBYOPERATOR_LABEL, "true")
+          .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName);
+    if (clusterName != null) {
+      metadata.putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, clusterName);
+    }
+    return metadata;
+  }
+
+  private void runShutdown(String... serverNames) {
+    testSupport.runSteps(new ServerDownIteratorStep(Arrays.asList(serverNames), nextStep));
+  }
+
+  private List<String> getRemainingPods() {
+    return testSupport.<V1Pod>getResources(POD).stream()
+          .map(pod -> pod.getMetadata().getLabels().get(LabelConstants.SERVERNAME_LABEL))
+          .collect(Collectors.toList());
+  }
+
+  private List<String> getRemainingServices() {
+    return testSupport.<V1Service>getResources(SERVICE).stream()
+          .map(service -> service.getMetadata().getLabels().get(LabelConstants.SERVERNAME_LABEL))
+          .collect(Collectors.toList());
+  }
+
+  @Test
+  public void withNoConcurrencyLimit_deleteAllClusteredPodsAtOnce() {
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+    defineServer(MS3, CLUSTER);
+
+    runShutdown(MS1, MS2, MS3);
+
+    assertThat(getRemainingPods(), empty());
+  }
+
+  @Test
+  public void withNoConcurrencyLimit_deleteClusteredPodsWithSingleCall() {
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+    defineServer(MS3, CLUSTER);
+    testSupport.clearNumCalls();
+
+    runShutdown(MS1, MS2, MS3);
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void withNoConcurrencyLimit_dontDeletePodsOfOtherServers() {
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+    defineServer(MS3, CLUSTER);
+
+    runShutdown(MS1, MS2);
+
+    assertThat(getRemainingPods(), contains(MS3));
+  }
+
+  @Test
+  public void withNoConcurrencyLimit_deleteEachServiceWhenItsPodIsGone() {
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+    defineServer(MS3, CLUSTER);
+
+    runShutdown(MS1, MS2, MS3);
+    awaiter.completeDeletion(MS2);
+
+    assertThat(getRemainingServices(), containsInAnyOrder(MS1, MS3));
+  }
+
+  @Test
+  public void whenCollectionDeleteFails_deletePodsIndividually() {
+    testSupport.failOnResource(POD, null, NS, 500);
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+
+    runShutdown(MS1, MS2);
+
+    assertThat(getRemainingPods(), empty());
+  }
+
+  @Test
+  public void withConcurrencyOf1_deleteClusteredPodsOneAtATime() {
+    configurator.configureCluster(CLUSTER).withMaxConcurrentShutdown(1);
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+    defineServer(MS3, CLUSTER);
+
+    runShutdown(MS1, MS2, MS3);
+    assertThat(getRemainingPods(), containsInAnyOrder(MS2, MS3));
+
+    awaiter.completeDeletion(MS1);
+    assertThat(getRemainingPods(), contains(MS3));
+  }
+
+  @Test
+  public void withConcurrencyOf2_deleteNextPodWhenEitherIsGone() {
+    configurator.configureCluster(CLUSTER).withMaxConcurrentShutdown(2);
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+    defineServer(MS3, CLUSTER);
+    defineServer(MS4, CLUSTER);
+
+    runShutdown(MS1, MS2, MS3, MS4);
+    assertThat(getRemainingPods(), containsInAnyOrder(MS3, MS4));
+
+    awaiter.completeDeletion(MS2);
+    assertThat(getRemainingPods(), contains(MS4));
+  }
+
+  @Test
+  public void maxClusterConcurrentShutdown_appliesToEachClusterSeparately() {
+    configurator.withMaxConcurrentShutdown(1);
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+    defineServer(MS3, CLUSTER2);
+    defineServer(MS4, CLUSTER2);
+
+    runShutdown(MS1, MS2, MS3, MS4);
+
+    assertThat(getRemainingPods(), containsInAnyOrder(MS2, MS4));
+  }
+
+  @Test
+  public void maxClusterConcurrentShutdown_doesNotApplyToNonClusteredServers() {
+    configurator.withMaxConcurrentShutdown(1);
+    defineServer(MS1, null);
+    defineServer(MS2, null);
+
+    runShutdown(MS1, MS2);
+
+    assertThat(getRemainingPods(), empty());
+  }
+
+  @Test
+  public void whileManagedServersShuttingDown_dontDeleteAdminServerPod() {
+    defineServer(ADMIN, null);
+    defineServer(MS1, CLUSTER);
+
+    runShutdown(ADMIN, MS1);
+
+    assertThat(getRemainingPods(), contains(ADMIN));
+  }
+
+  @Test
+  public void afterManagedServersShutDown_deleteAdminServerPod() {
+    defineServer(ADMIN, null);
+    defineServer(MS1, CLUSTER);
+
+    runShutdown(ADMIN, MS1);
+    awaiter.completeDeletion(MS1);
+
+    assertThat(getRemainingPods(), empty());
+  }
+
+  @Test
+  public void whileServerPodIsDeleted_keepItsService() {
+    configurator.configureCluster(CLUSTER).withMaxConcurrentShutdown(1);
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+
+    runShutdown(MS1, MS2);
+
+    assertThat(getRemainingServices(), containsInAnyOrder(MS1, MS2));
+  }
+
+  @Test
+  public void afterServerPodIsGone_deleteItsServiceWhileNextPodIsDeleted() {
+    configurator.configureCluster(CLUSTER).withMaxConcurrentShutdown(1);
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+
+    runShutdown(MS1, MS2);
+    awaiter.completeDeletion(MS1);
+
+    assertThat(getRemainingServices(), contains(MS2));
+    assertThat(getRemainingPods(), empty());
+  }
+
+  @Test
+  public void afterAllServersShutDown_runNextStep() {
+    configurator.configureCluster(CLUSTER).withMaxConcurrentShutdown(1);
+    defineServer(MS1, CLUSTER);
+    defineServer(MS2, CLUSTER);
+
+    runShutdown(MS1, MS2);
+    awaiter.completeDeletion(MS1);
+    awaiter.completeDeletion(MS2);
+
+    assertThat(getRemainingServices(), empty());
+    assertThat(nextStep.wasRun(), equalTo(true));
+  }
+
+  @Test
+  public void whenNoServersToStop_runNextStep() {
+    runShutdown();
+
+    assertThat(nextStep.wasRun(), equalTo(true));
+  }
+
+  // Holds each fiber which waits for a pod to be deleted, until the test reports the deletion complete.
+  static class DeletionAwaiter implements PodAwaiterStepFactory {
+    private final Map<String, Runnable> waiting = new HashMap<>();
+
+    void completeDeletion(String serverName) {
+      waiting.remove(serverName).run();
+    }
+
+    @Override
+    public Step waitForReady(V1Pod pod, Step next) {
+      return next;
+    }
+
+    @Override
+    public Step waitForDelete(V1Pod pod, Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          String serverName = pod.getMetadata().getLabels().get(LabelConstants.SERVERNAME_LABEL);
+          return doSuspend(fiber -> waiting.put(serverName, () -> resume(fiber, packet)));
+        }
+      };
+    }
+
+    private void resume(AsyncFiber fiber, Packet packet) {
+      fiber.resume(packet);
+    }
+  }
+}
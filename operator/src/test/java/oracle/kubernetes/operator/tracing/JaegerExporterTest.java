@@ -0,0 +1,103 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class JaegerExporterTest {
+
+  private static final long TRACE_ID = 0x1234L;
+  private static final TraceContext ROOT = new TraceContext(TRACE_ID, 0xaL, 0);
+  private static final TraceContext CHILD = new TraceContext(TRACE_ID, 0xbL, 0xaL);
+
+  private Span createSpan(TraceContext context, String operationName, Map<String, Object> tags) {
+    return new Span(context, operationName, "ns1", "domain1", 1_000L, 250L, tags);
+  }
+
+  private Span createSpan(TraceContext context, String operationName) {
+    return createSpan(context, operationName, Collections.emptyMap());
+  }
+
+  private JsonObject exportSingleSpan(Span span) {
+    return JaegerExporter.export(Collections.singletonList(span))
+          .getJsonArray("data").getJsonObject(0)
+          .getJsonArray("spans").getJsonObject(0);
+  }
+
+  @Test
+  public void spansWithSameTraceId_areExportedAsOneTrace() {
+    JsonObject result = JaegerExporter.export(Arrays.asList(
+          createSpan(CHILD, "step"),
+          createSpan(ROOT, "fiber"),
+          createSpan(new TraceContext(0x5678L, 0xcL, 0), "other")));
+
+    JsonArray data = result.getJsonArray("data");
+    assertThat(data.size(), equalTo(2));
+    assertThat(data.getJsonObject(0).getString("traceID"), equalTo("0000000000001234"));
+    assertThat(data.getJsonObject(0).getJsonArray("spans").size(), equalTo(2));
+  }
+
+  @Test
+  public void exportedSpan_containsIdentityAndTiming() {
+    JsonObject span = exportSingleSpan(createSpan(ROOT, "fiber"));
+
+    assertThat(span.getString("traceID"), equalTo("0000000000001234"));
+    assertThat(span.getString("spanID"), equalTo("000000000000000a"));
+    assertThat(span.getString("operationName"), equalTo("fiber"));
+    assertThat(span.getJsonNumber("startTime").longValue(), equalTo(1_000L));
+    assertThat(span.getJsonNumber("duration").longValue(), equalTo(250L));
+    assertThat(span.getString("processID"), equalTo("p1"));
+  }
+
+  @Test
+  public void whenSpanHasNoParent_exportNoReferences() {
+    JsonObject span = exportSingleSpan(createSpan(ROOT, "fiber"));
+
+    assertThat(span.getJsonArray("references").size(), equalTo(0));
+  }
+
+  @Test
+  public void whenSpanHasParent_exportChildOfReference() {
+    JsonObject reference = exportSingleSpan(createSpan(CHILD, "step")).getJsonArray("references").getJsonObject(0);
+
+    assertThat(reference.getString("refType"), equalTo("CHILD_OF"));
+    assertThat(reference.getString("spanID"), equalTo("000000000000000a"));
+  }
+
+  @Test
+  public void tagsAreExportedWithTypes() {
+    Map<String, Object> tags = new LinkedHashMap<>();
+    tags.put("call", "readPod");
+    tags.put("status", 200);
+    tags.put("error", true);
+
+    JsonArray exported = exportSingleSpan(createSpan(ROOT, "call", tags)).getJsonArray("tags");
+
+    assertThat(exported.getJsonObject(0).getString("type"), equalTo("string"));
+    assertThat(exported.getJsonObject(1).getString("type"), equalTo("int64"));
+    assertThat(exported.getJsonObject(1).getJsonNumber("value").longValue(), equalTo(200L));
+    assertThat(exported.getJsonObject(2).getString("type"), equalTo("bool"));
+    assertThat(exported.getJsonObject(2).getBoolean("value"), equalTo(true));
+  }
+
+  @Test
+  public void processIdentifiesOperatorAndDomain() {
+    JsonObject process = JaegerExporter.export(Collections.singletonList(createSpan(ROOT, "fiber")))
+          .getJsonArray("data").getJsonObject(0)
+          .getJsonObject("processes").getJsonObject("p1");
+
+    assertThat(process.getString("serviceName"), equalTo("weblogic-operator"));
+    assertThat(process.getJsonArray("tags").getJsonObject(0).getString("value"), equalTo("domain1"));
+  }
+}
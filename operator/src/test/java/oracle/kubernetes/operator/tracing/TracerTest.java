@@ -0,0 +1,259 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.logging.LoggingContext;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
+import static oracle.kubernetes.operator.logging.LoggingContext.LOGGING_CONTEXT_KEY;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TracerTest {
+
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final long BASE_MICROS = 1_600_000_000_000_000L;
+
+  private long currentNanos;
+  private final Tracer tracer = new Tracer(() -> currentNanos, BASE_MICROS);
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StaticStubSupport.install(Tracer.class, "INSTANCE", tracer));
+    tracer.setSpansPerDomain(10);
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Packet createDomainPacket(String uid) {
+    Packet packet = new Packet();
+    packet.getComponents().put(DOMAIN_COMPONENT_NAME, Component.createFor(new DomainPresenceInfo(NS, uid)));
+    return packet;
+  }
+
+  private void recordSpan(String operationName) {
+    tracer.startSpan(operationName, createDomainPacket(UID)).end();
+  }
+
+  private List<String> getOperationNames(String uid) {
+    return tracer.getSpans(uid).stream().map(Span::getOperationName).collect(Collectors.toList());
+  }
+
+  @Test
+  public void whenTracingDisabled_startSpanRecordsNothing() {
+    tracer.setSpansPerDomain(0);
+
+    ActiveSpan span = tracer.startSpan("op", createDomainPacket(UID));
+    span.end();
+
+    assertThat(span, sameInstance(ActiveSpan.NONE));
+    assertThat(tracer.getSpans(UID), empty());
+  }
+
+  @Test
+  public void whenPacketHasDomainPresenceInfo_spanIsAttributedToItsDomain() {
+    recordSpan("op");
+
+    Span span = tracer.getSpans(UID).get(0);
+    assertThat(span.getDomainUid(), equalTo(UID));
+    assertThat(span.getNamespace(), equalTo(NS));
+  }
+
+  @Test
+  public void whenPacketHasLoggingContext_spanIsAttributedToItsDomain() {
+    Packet packet = new Packet();
+    packet.getComponents().put(LOGGING_CONTEXT_KEY,
+          Component.createFor(new LoggingContext().namespace(NS).domainUid(UID)));
+
+    tracer.startSpan("op", packet).end();
+
+    assertThat(getOperationNames(UID), contains("op"));
+  }
+
+  @Test
+  public void whenNoDomainIsKnown_spanIsNotRecorded() {
+    ActiveSpan span = tracer.startSpan("op", new Packet());
+
+    assertThat(span, sameInstance(ActiveSpan.NONE));
+  }
+
+  @Test
+  public void spansAreKeptPerDomain() {
+    tracer.startSpan("op1", createDomainPacket("domain1")).end();
+    tracer.startSpan("op2", createDomainPacket("domain2")).end();
+
+    assertThat(getOperationNames("domain1"), contains("op1"));
+    assertThat(getOperationNames("domain2"), contains("op2"));
+  }
+
+  @Test
+  public void whenBufferIsFull_retainOnlyMostRecentSpans() {
+    tracer.setSpansPerDomain(3);
+    for (int i = 1; i <= 5; i++) {
+      recordSpan("op" + i);
+    }
+
+    assertThat(getOperationNames(UID), contains("op3", "op4", "op5"));
+  }
+
+  @Test
+  public void spanRecordsStartTimeAndDuration() {
+    currentNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    ActiveSpan span = tracer.startSpan("op", createDomainPacket(UID));
+    currentNanos = TimeUnit.MILLISECONDS.toNanos(17);
+    span.end();
+
+    Span recorded = tracer.getSpans(UID).get(0);
+    assertThat(recorded.getStartMicros(), equalTo(BASE_MICROS + 5_000));
+    assertThat(recorded.getDurationMicros(), equalTo(12_000L));
+  }
+
+  @Test
+  public void whenSpanEndedTwice_recordItOnce() {
+    ActiveSpan span = tracer.startSpan("op", createDomainPacket(UID));
+    span.end();
+    span.end();
+
+    assertThat(tracer.getSpans(UID).size(), equalTo(1));
+  }
+
+  @Test
+  public void tagsAddedAfterEnd_areIgnored() {
+    ActiveSpan span = tracer.startSpan("op", createDomainPacket(UID)).tag("before", 1);
+    span.end();
+    span.tag("after", 2);
+
+    assertThat(tracer.getSpans(UID).get(0).getTags().keySet(), contains("before"));
+  }
+
+  @Test
+  public void whenCapacityChanged_discardRecordedSpans() {
+    recordSpan("op");
+
+    tracer.setSpansPerDomain(20);
+
+    assertThat(tracer.getSpans(UID), empty());
+  }
+
+  @Test
+  public void whenDomainRemoved_discardItsSpans() {
+    recordSpan("op");
+
+    tracer.removeDomain(UID);
+
+    assertThat(tracer.getSpans(UID), empty());
+  }
+
+  @Test
+  public void whenFiberRuns_recordSpansForStepsAsChildrenOfFiberSpan() {
+    FiberTestSupport testSupport = new FiberTestSupport();
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo(NS, UID));
+
+    testSupport.runSteps(new FirstStep(new TerminalStep()));
+
+    List<Span> spans = tracer.getSpans(UID);
+    assertThat(getOperationNames(UID), contains("First", "Terminal", "Fiber First"));
+    Span fiberSpan = spans.get(2);
+    assertThat(fiberSpan.getTags(), hasEntry("outcome", "completed"));
+    assertThat(spans.get(0).getContext().getParentSpanId(), equalTo(fiberSpan.getContext().getSpanId()));
+    assertThat(spans.get(1).getContext().getTraceId(), equalTo(fiberSpan.getContext().getTraceId()));
+  }
+
+  @Test
+  public void whenStepThrows_tagItsSpanWithError() {
+    FiberTestSupport testSupport = new FiberTestSupport();
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo(NS, UID));
+
+    testSupport.runSteps(new ThrowingStep());
+
+    assertThat(tracer.getSpans(UID).get(0).getTags(), hasEntry("error", "java.lang.IllegalStateException: test"));
+  }
+
+  @Test
+  public void whenTracingDisabledBeforeFiberCreated_fiberHasNoTraceContext() {
+    tracer.setSpansPerDomain(0);
+    FiberTestSupport testSupport = new FiberTestSupport();
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo(NS, UID));
+    List<TraceContext> contexts = new ArrayList<>();
+
+    testSupport.runSteps(new RecordTraceContextStep(contexts));
+
+    assertThat(contexts, contains(nullValue()));
+  }
+
+  @Test
+  public void whenTracingEnabledAfterFiberCreated_recordNoSpansForIt() {
+    FiberTestSupport testSupport = new FiberTestSupport();
+    testSupport.addDomainPresenceInfo(new DomainPresenceInfo(NS, UID));
+    tracer.setSpansPerDomain(0);
+    Fiber fiber = testSupport.getEngine().createFiber();
+    tracer.setSpansPerDomain(10);
+
+    fiber.start(new FirstStep(new TerminalStep()), testSupport.getPacket(), null);
+
+    assertThat(tracer.getSpans(UID), empty());
+  }
+
+  static class FirstStep extends Step {
+    FirstStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class RecordTraceContextStep extends Step {
+    private final List<TraceContext> contexts;
+
+    RecordTraceContextStep(List<TraceContext> contexts) {
+      this.contexts = contexts;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      contexts.add(Fiber.getCurrentIfSet().getTraceContext());
+      return doNext(packet);
+    }
+  }
+
+  static class ThrowingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      throw new IllegalStateException("test");
+    }
+  }
+}
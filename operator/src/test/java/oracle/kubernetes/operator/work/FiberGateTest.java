@@ -0,0 +1,176 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class FiberGateTest {
+
+  private static final String KEY = "domain1";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final FiberGate gate = testSupport.createFiberGate();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void whileFiberRunning_gateRecordsIt() {
+    Fiber fiber = gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+
+    assertThat(gate.getCurrentFibers(), hasEntry(KEY, fiber));
+  }
+
+  @Test
+  public void afterFiberCompletes_gateIsEmpty() {
+    gate.startFiber(KEY, new TerminalStep(), new Packet(), new NullCompletionCallback());
+
+    assertThat(gate.getCurrentFibers(), anEmptyMap());
+  }
+
+  @Test
+  public void whenFiberRunning_startFiberIfNoCurrentFiberIsRejected() {
+    gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+
+    assertThat(gate.startFiberIfNoCurrentFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback()),
+          nullValue());
+    assertThat(gate.getStatistics().getRejected(), equalTo(1L));
+  }
+
+  @Test
+  public void whenNoFiberRunning_startFiberIfNoCurrentFiberStartsOne() {
+    assertThat(gate.startFiberIfNoCurrentFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback()),
+          notNullValue());
+  }
+
+  @Test
+  public void whenFiberStarted_cancelPreviousFiberForSameKey() {
+    Fiber first = gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+    Fiber second = gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+
+    assertThat(first.isCancelled(), equalTo(true));
+    assertThat(gate.getCurrentFibers(), hasEntry(KEY, second));
+    assertThat(gate.getStatistics().getSuperseding(), equalTo(1L));
+  }
+
+  @Test
+  public void whenFibersStartedForDifferentKeys_bothRun() {
+    Fiber first = gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+    Fiber second = gate.startFiber("domain2", new SuspendingStep(), new Packet(), new NullCompletionCallback());
+
+    assertThat(first.isCancelled(), equalTo(false));
+    assertThat(second.isCancelled(), equalTo(false));
+    assertThat(gate.getStatistics().getStarted(), equalTo(2L));
+    assertThat(gate.getStatistics().getSuperseding(), equalTo(0L));
+  }
+
+  @Test
+  public void whenLastFiberDoesNotMatch_startFiberIfLastFiberMatchesIsRejected() {
+    Fiber first = gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+    gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+
+    assertThat(
+          gate.startFiberIfLastFiberMatches(KEY, first, new TerminalStep(), new Packet(), new NullCompletionCallback()),
+          nullValue());
+  }
+
+  @Test
+  public void whenLastFiberMatches_startFiberIfLastFiberMatchesReplacesIt() {
+    Fiber first = gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+
+    Fiber second = gate.startFiberIfLastFiberMatches(
+          KEY, first, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+
+    assertThat(gate.getCurrentFibers().get(KEY), sameInstance(second));
+  }
+
+  @Test
+  public void afterAllFibersCancelled_gateIsEmptyAndFibersCancelled() {
+    Fiber fiber = gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+
+    gate.cancelAllFibers();
+
+    assertThat(fiber.isCancelled(), equalTo(true));
+    assertThat(gate.getCurrentFibers(), anEmptyMap());
+  }
+
+  @Test
+  public void afterAllFibersCancelled_startFiberIfNoCurrentFiberStartsOne() {
+    gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback());
+    gate.cancelAllFibers();
+
+    assertThat(gate.startFiberIfNoCurrentFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback()),
+          notNullValue());
+  }
+
+  @Test
+  public void whenFiberCompletesWhileStarting_callbackFindsGateEmpty() {
+    List<Map<String, Fiber>> fibersAtCompletion = new ArrayList<>();
+
+    gate.startFiber(KEY, new TerminalStep(), new Packet(), new NullCompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        fibersAtCompletion.add(gate.getCurrentFibers());
+      }
+    });
+
+    assertThat(fibersAtCompletion.get(0), anEmptyMap());
+  }
+
+  @Test
+  public void whenCompletionCallbackStartsFiberForSameKey_gateRecordsIt() {
+    List<Fiber> restarted = new ArrayList<>();
+
+    gate.startFiber(KEY, new TerminalStep(), new Packet(), new NullCompletionCallback() {
+      @Override
+      public void onCompletion(Packet packet) {
+        restarted.add(gate.startFiber(KEY, new SuspendingStep(), new Packet(), new NullCompletionCallback()));
+      }
+    });
+
+    assertThat(gate.getCurrentFibers(), hasEntry(KEY, restarted.get(0)));
+  }
+
+  static class SuspendingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  static class NullCompletionCallback implements CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+    }
+  }
+}
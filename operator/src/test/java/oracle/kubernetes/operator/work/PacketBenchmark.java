@@ -0,0 +1,167 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A micro-benchmark comparing {@link Packet} with the earlier implementation, which copied all of its
+ * values and components on each clone, and searched its components on each SPI lookup. Each operation
+ * mimics a fork-join fan-out: a packet with typical contents is cloned for each server, and each branch
+ * then looks up its domain presence and sets a few values.
+ *
+ * <p>Run from the test classpath with: {@code java oracle.kubernetes.operator.work.PacketBenchmark [servers]}
+ */
+public class PacketBenchmark {
+
+  private static final int NUM_VALUES = 40;
+  private static final int NUM_COMPONENTS = 7;
+  private static final int LOOKUPS_PER_BRANCH = 20;
+  private static final int WARMUP_ROUNDS = 5;
+  private static final int MEASURED_ROUNDS = 10;
+  private static final long ROUND_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+  private final int numServers;
+  private long sink;
+
+  PacketBenchmark(int numServers) {
+    this.numServers = numServers;
+  }
+
+  /**
+   * Runs the benchmark and prints the mean time for each fan-out.
+   * @param args an optional number of servers per fan-out
+   */
+  public static void main(String[] args) {
+    PacketBenchmark benchmark = new PacketBenchmark(args.length > 0 ? Integer.parseInt(args[0]) : 100);
+    System.out.printf("copying packet: %,10.0f ns/fan-out%n", benchmark.measure(CopyingPacket::new));
+    System.out.printf("layered packet: %,10.0f ns/fan-out%n", benchmark.measure(LayeredPacket::new));
+  }
+
+  double measure(Supplier<BenchmarkPacket> factory) {
+    BenchmarkPacket parent = createParent(factory);
+    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+      runRound(parent);
+    }
+
+    double total = 0;
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      total += runRound(parent);
+    }
+    return total / MEASURED_ROUNDS;
+  }
+
+  private BenchmarkPacket createParent(Supplier<BenchmarkPacket> factory) {
+    BenchmarkPacket packet = factory.get();
+    for (int i = 0; i < NUM_VALUES; i++) {
+      packet.put("value" + i, i);
+    }
+    for (int i = 0; i < NUM_COMPONENTS; i++) {
+      packet.putComponent("component" + i, Component.createFor(Integer.class, i));
+    }
+    packet.putComponent("domain", Component.createFor(StringBuilder.class, new StringBuilder("info")));
+    return packet;
+  }
+
+  // returns the mean nanoseconds per fan-out over the round
+  private double runRound(BenchmarkPacket parent) {
+    long start = System.nanoTime();
+    long count = 0;
+    while (System.nanoTime() - start < ROUND_NANOS) {
+      fanOut(parent);
+      count++;
+    }
+    return (double) (System.nanoTime() - start) / count;
+  }
+
+  private void fanOut(BenchmarkPacket parent) {
+    for (int i = 0; i < numServers; i++) {
+      BenchmarkPacket branch = parent.fork();
+      branch.put("serverName", "server" + i);
+      for (int j = 0; j < LOOKUPS_PER_BRANCH; j++) {
+        sink += branch.getSpi(StringBuilder.class).length();
+      }
+    }
+  }
+
+  interface BenchmarkPacket {
+    BenchmarkPacket fork();
+
+    void put(String key, Object value);
+
+    void putComponent(String key, Component component);
+
+    <S> S getSpi(Class<S> spiType);
+  }
+
+  static class LayeredPacket implements BenchmarkPacket {
+    private final Packet packet;
+
+    LayeredPacket() {
+      this(new Packet());
+    }
+
+    private LayeredPacket(Packet packet) {
+      this.packet = packet;
+    }
+
+    @Override
+    public BenchmarkPacket fork() {
+      return new LayeredPacket(packet.clone());
+    }
+
+    @Override
+    public void put(String key, Object value) {
+      packet.put(key, value);
+    }
+
+    @Override
+    public void putComponent(String key, Component component) {
+      packet.getComponents().put(key, component);
+    }
+
+    @Override
+    public <S> S getSpi(Class<S> spiType) {
+      return packet.getSpi(spiType);
+    }
+  }
+
+  // The packet implementation prior to the introduction of layered maps.
+  static class CopyingPacket implements BenchmarkPacket {
+    private final Map<String, Component> components = new ConcurrentHashMap<>();
+    private final Map<String, Object> delegate = new ConcurrentHashMap<>();
+
+    @Override
+    public BenchmarkPacket fork() {
+      CopyingPacket copy = new CopyingPacket();
+      copy.components.putAll(components);
+      copy.delegate.putAll(delegate);
+      return copy;
+    }
+
+    @Override
+    public void put(String key, Object value) {
+      delegate.put(key, value);
+    }
+
+    @Override
+    public void putComponent(String key, Component component) {
+      components.put(key, component);
+    }
+
+    @Override
+    public <S> S getSpi(Class<S> spiType) {
+      for (Component c : components.values()) {
+        S s = c.getSpi(spiType);
+        if (s != null) {
+          return s;
+        }
+      }
+      return null;
+    }
+  }
+}
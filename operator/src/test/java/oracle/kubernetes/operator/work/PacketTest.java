@@ -0,0 +1,158 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class PacketTest {
+
+  private static final Packet.Key<Integer> COUNT = Packet.Key.of("count", Integer.class);
+
+  private final Packet packet = new Packet();
+
+  @Test
+  public void clonedPacket_hasOriginalValues() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    Packet clone = packet.clone();
+
+    assertThat(clone, hasEntry("a", "1"));
+    assertThat(clone, hasEntry("b", "2"));
+    assertThat(clone.size(), equalTo(2));
+  }
+
+  @Test
+  public void afterClone_changesToOriginalAreNotSeenByClone() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    packet.put("a", "changed");
+    packet.put("b", "2");
+
+    assertThat(clone.get("a"), equalTo("1"));
+    assertThat(clone.containsKey("b"), equalTo(false));
+  }
+
+  @Test
+  public void afterClone_changesToCloneAreNotSeenByOriginal() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.put("a", "changed");
+    clone.remove("b");
+
+    assertThat(packet.get("a"), equalTo("1"));
+  }
+
+  @Test
+  public void afterCloneRemovesValue_originalRetainsIt() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.remove("a");
+
+    assertThat(clone.get("a"), nullValue());
+    assertThat(clone.isEmpty(), equalTo(true));
+    assertThat(packet.get("a"), equalTo("1"));
+  }
+
+  @Test
+  public void whenNullValuePut_removeValue() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.put("a", null);
+
+    assertThat(clone.containsKey("a"), equalTo(false));
+  }
+
+  @Test
+  public void afterManyGenerationsOfClones_retainAllValues() {
+    Packet current = packet;
+    for (int i = 0; i < 50; i++) {
+      current.put("key" + i, i);
+      current.remove("key" + (i - 2));
+      current = current.clone();
+    }
+
+    assertThat(current.size(), equalTo(2));
+    assertThat(current, hasEntry("key48", 48));
+    assertThat(current, hasEntry("key49", 49));
+  }
+
+  @Test
+  public void entrySetIteratorRemove_removesValue() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+    Packet clone = packet.clone();
+
+    clone.entrySet().removeIf(e -> e.getKey().equals("a"));
+
+    assertThat(clone.keySet(), equalTo(Map.of("b", "2").keySet()));
+    assertThat(packet.size(), equalTo(2));
+  }
+
+  @Test
+  public void typedKey_setsAndReturnsValue() {
+    packet.putValue(COUNT, 3);
+
+    assertThat(packet.getValue(COUNT), equalTo(3));
+    assertThat(packet.get("count"), equalTo(3));
+  }
+
+  @Test(expected = ClassCastException.class)
+  public void whenValueHasWrongType_typedKeyThrowsException() {
+    packet.put("count", "three");
+
+    packet.getValue(COUNT);
+  }
+
+  @Test
+  public void getSpi_returnsRegisteredComponent() {
+    Object spi = new Object();
+    packet.getComponents().put("test", Component.createFor(Object.class, spi));
+
+    assertThat(packet.getSpi(Object.class), sameInstance(spi));
+  }
+
+  @Test
+  public void afterComponentReplaced_getSpiReturnsNewComponent() {
+    packet.getComponents().put("test", Component.createFor(Object.class, new Object()));
+    Object first = packet.getSpi(Object.class);
+
+    packet.getComponents().put("test", Component.createFor(Object.class, new Object()));
+
+    assertThat(packet.getSpi(Object.class), not(sameInstance(first)));
+  }
+
+  @Test
+  public void afterComponentAdded_getSpiNoLongerReturnsNull() {
+    assertThat(packet.getSpi(String.class), nullValue());
+
+    packet.getComponents().put("test", Component.createFor(String.class, "spi"));
+
+    assertThat(packet.getSpi(String.class), equalTo("spi"));
+  }
+
+  @Test
+  public void afterComponentRemovedFromClone_originalStillReturnsIt() {
+    packet.getComponents().put("test", Component.createFor(String.class, "spi"));
+    Packet clone = packet.clone();
+
+    clone.getComponents().remove("test");
+
+    assertThat(clone.getSpi(String.class), nullValue());
+    assertThat(packet.getSpi(String.class), equalTo("spi"));
+  }
+}
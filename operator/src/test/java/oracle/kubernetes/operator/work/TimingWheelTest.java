@@ -0,0 +1,154 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+import org.junit.Test;
+
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TimingWheelTest {
+
+  private static final long TICK_MILLIS = 100;
+  private static final int TICKS_PER_WHEEL = 8;
+
+  private final ExecutorStub executor = createStub(ExecutorStub.class);
+  private long currentNanos;
+  private final TimingWheel wheel = new TimingWheel(() -> executor, () -> currentNanos,
+        TICK_MILLIS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+  private final List<String> ran = new ArrayList<>();
+
+  private void setTime(long millis) {
+    currentNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    wheel.tick();
+  }
+
+  private Runnable record(String name) {
+    return () -> ran.add(name);
+  }
+
+  @Test
+  public void whenFirstTimeoutScheduled_startTicking() {
+    wheel.schedule(300, TimeUnit.MILLISECONDS, record("a"));
+
+    assertThat(executor.tickPeriodNanos, equalTo(TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS)));
+  }
+
+  @Test
+  public void beforeDeadline_timeoutDoesNotRun() {
+    wheel.schedule(300, TimeUnit.MILLISECONDS, record("a"));
+
+    setTime(250);
+
+    assertThat(ran, empty());
+  }
+
+  @Test
+  public void atDeadline_timeoutRuns() {
+    wheel.schedule(300, TimeUnit.MILLISECONDS, record("a"));
+
+    setTime(300);
+
+    assertThat(ran, contains("a"));
+  }
+
+  @Test
+  public void timeoutsRunInDeadlineOrder() {
+    wheel.schedule(500, TimeUnit.MILLISECONDS, record("late"));
+    wheel.schedule(200, TimeUnit.MILLISECONDS, record("early"));
+
+    setTime(200);
+    setTime(600);
+
+    assertThat(ran, contains("early", "late"));
+  }
+
+  @Test
+  public void whenDeadlineBetweenTicks_runOnFollowingTick() {
+    wheel.schedule(250, TimeUnit.MILLISECONDS, record("a"));
+
+    setTime(250);
+    assertThat(ran, empty());
+
+    setTime(300);
+    assertThat(ran, contains("a"));
+  }
+
+  @Test
+  public void cancelledTimeout_doesNotRun() {
+    Timeout timeout = wheel.schedule(300, TimeUnit.MILLISECONDS, record("a"));
+
+    setTime(100);
+    timeout.cancel();
+    setTime(400);
+
+    assertThat(ran, empty());
+    assertThat(wheel.getPendingCount(), equalTo(0));
+  }
+
+  @Test
+  public void afterTimeoutRuns_cancelReturnsFalse() {
+    Timeout timeout = wheel.schedule(100, TimeUnit.MILLISECONDS, record("a"));
+
+    setTime(100);
+
+    assertThat(timeout.cancel(), equalTo(false));
+  }
+
+  @Test
+  public void whenTimeoutSpansFullRevolution_runOnlyAtDeadline() {
+    wheel.schedule(TICK_MILLIS * TICKS_PER_WHEEL, TimeUnit.MILLISECONDS, record("a"));
+
+    setTime(TICK_MILLIS * TICKS_PER_WHEEL - 1);
+    assertThat(ran, empty());
+
+    setTime(TICK_MILLIS * TICKS_PER_WHEEL);
+    assertThat(ran, contains("a"));
+  }
+
+  @Test
+  public void whenTickDelayed_runAllExpiredTimeouts() {
+    wheel.schedule(100, TimeUnit.MILLISECONDS, record("a"));
+    wheel.schedule(400, TimeUnit.MILLISECONDS, record("b"));
+
+    setTime(1000);
+
+    assertThat(ran, contains("a", "b"));
+  }
+
+  @Test
+  public void acceptOnlyDelaysBetweenOneTickAndOneRevolution() {
+    assertThat(wheel.accepts(TICK_MILLIS - 1, TimeUnit.MILLISECONDS), equalTo(false));
+    assertThat(wheel.accepts(TICK_MILLIS, TimeUnit.MILLISECONDS), equalTo(true));
+    assertThat(wheel.accepts(TICK_MILLIS * TICKS_PER_WHEEL, TimeUnit.MILLISECONDS), equalTo(true));
+    assertThat(wheel.accepts(TICK_MILLIS * TICKS_PER_WHEEL + 1, TimeUnit.MILLISECONDS), equalTo(false));
+  }
+
+  abstract static class ExecutorStub implements ScheduledExecutorService {
+    private long tickPeriodNanos;
+
+    @Override
+    public void execute(@Nonnull Runnable command) {
+      command.run();
+    }
+
+    @Override
+    @Nonnull
+    public ScheduledFuture<?> scheduleAtFixedRate(
+        @Nonnull Runnable command, long initialDelay, long period, @Nonnull TimeUnit unit) {
+      tickPeriodNanos = unit.toNanos(period);
+      return createStub(ScheduledFuture.class);
+    }
+  }
+}
@@ -21,6 +21,7 @@ import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.OverrideDistributionStrategy;
+import oracle.kubernetes.operator.ProbeMode;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainTestBase;
 import org.hamcrest.Matcher;
@@ -42,6 +43,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -316,6 +318,26 @@ public class DomainV2Test extends DomainTestBase {
     return new V1EnvVar().name(name).value(value);
   }
 
+  @Test
+  public void whenLivenessProbeModeConfiguredOnDomain_serverInheritsIt() {
+    configureDomain(domain).withDefaultLivenessProbeMode(ProbeMode.TcpSocket.name());
+    configureServer(SERVER1).withLivenessProbeSettings(INITIAL_DELAY, TIMEOUT, PERIOD);
+
+    ServerSpec spec = domain.getServer(SERVER1, CLUSTER_NAME);
+
+    assertThat(spec.getLivenessProbe().getMode(), equalTo(ProbeMode.TcpSocket.name()));
+  }
+
+  @Test
+  public void whenLivenessProbeModeConfiguredOnMultipleLevels_useServerMode() {
+    configureDomain(domain).withDefaultLivenessProbeMode(ProbeMode.TcpSocket.name());
+    configureServer(SERVER1).withLivenessProbeMode(ProbeMode.Exec.name());
+
+    ServerSpec spec = domain.getServer(SERVER1, CLUSTER_NAME);
+
+    assertThat(spec.getLivenessProbe().getMode(), equalTo(ProbeMode.Exec.name()));
+  }
+
   @Test
   public void livenessProbeSettings_returnsConfiguredValues() {
     configureServer(SERVER1).withLivenessProbeSettings(INITIAL_DELAY, TIMEOUT, PERIOD);
@@ -1624,4 +1646,64 @@ public class DomainV2Test extends DomainTestBase {
 
     assertThat(domain.getOverrideDistributionStrategy(), equalTo(OverrideDistributionStrategy.ON_RESTART));
   }
+
+  @Test
+  public void whenDomainHasGeneration_reuseEffectiveServerSpec() {
+    domain.getMetadata().setGeneration(1L);
+    configureCluster("cluster1").withReplicas(3);
+
+    assertThat(domain.getServer("ms1", "cluster1"), sameInstance(domain.getServer("ms1", "cluster1")));
+  }
+
+  @Test
+  public void whenDomainHasNoGeneration_createNewEffectiveServerSpec() {
+    configureCluster("cluster1").withReplicas(3);
+
+    assertThat(domain.getServer("ms1", "cluster1"), not(sameInstance(domain.getServer("ms1", "cluster1"))));
+  }
+
+  @Test
+  public void whenGenerationChanges_recomputeEffectiveSpecs() {
+    domain.getMetadata().setGeneration(1L);
+    configureCluster("cluster1").withReplicas(3);
+    domain.getReplicaCount("cluster1");
+
+    configureCluster("cluster1").withReplicas(5);
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(domain.getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  @Test
+  public void whenSpecReplaced_recomputeEffectiveSpecs() {
+    domain.getMetadata().setGeneration(1L);
+    ServerSpec original = domain.getServer("ms1", null);
+
+    domain.setSpec(new DomainSpec().withDomainUid(DOMAIN_UID));
+
+    assertThat(domain.getServer("ms1", null), not(sameInstance(original)));
+  }
+
+  @Test
+  public void afterReplicaCountSetWithGeneration_returnNewCount() {
+    domain.getMetadata().setGeneration(1L);
+    configureCluster("cluster1").withReplicas(3);
+    domain.getReplicaCount("cluster1");
+
+    domain.setReplicaCount("cluster1", 4);
+
+    assertThat(domain.getReplicaCount("cluster1"), equalTo(4));
+  }
+
+  @Test
+  public void afterReplicaCountSetOnCachedFactory_returnNewCount() {
+    configureCluster("cluster1").withReplicas(3);
+    CachedEffectiveConfigurationFactory factory
+          = new CachedEffectiveConfigurationFactory(domain.getSpec(), domain.getApiVersion(), 1L);
+    factory.getReplicaCount("cluster1");
+
+    factory.setReplicaCount("cluster1", 4);
+
+    assertThat(factory.getReplicaCount("cluster1"), equalTo(4));
+  }
 }